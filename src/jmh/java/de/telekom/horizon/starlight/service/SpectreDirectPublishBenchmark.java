@@ -0,0 +1,99 @@
+// Copyright 2026 Deutsche Telekom IT GmbH
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package de.telekom.horizon.starlight.service;
+
+import de.telekom.eni.pandora.horizon.metrics.HorizonMetricsHelper;
+import de.telekom.eni.pandora.horizon.model.event.Event;
+import de.telekom.horizon.starlight.config.spectre.SpectreDirectPublishConfiguration;
+import de.telekom.horizon.starlight.config.spectre.SpectreDirectPublishRule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the Spectre direct-publish rewrite of a wiretap event for growing numbers of rules, for an event
+ * matching the last rule and an event of an issue without rules. {@code linearScan} is the former evaluation of all
+ * rules in order, as a baseline.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SpectreDirectPublishBenchmark {
+
+    private static final String GENERIC = "de.telekom.ei.listener";
+
+    @Param({"10", "1000", "10000"})
+    public int rules;
+
+    private List<SpectreDirectPublishRule> ruleList;
+
+    private SpectreDirectPublishService service;
+
+    private Event matching;
+
+    private Event unknownIssue;
+
+    @Setup
+    public void setUp() {
+        ruleList = new ArrayList<>();
+        for (int i = 0; i < rules; i++) {
+            var rule = new SpectreDirectPublishRule();
+            rule.setTargetEventType("de.telekom.ei.listener.team-" + i);
+            rule.setIssue("/eni/api-" + (i % 100) + "/v1");
+            rule.setConsumer("eni--consumer--app-" + i);
+            rule.setProvider("eni--provider--app-" + (i % 100));
+            ruleList.add(rule);
+        }
+
+        var config = new SpectreDirectPublishConfiguration();
+        config.setEnabled(true);
+        config.setRules(ruleList);
+        service = new SpectreDirectPublishService(config, new HorizonMetricsHelper(new SimpleMeterRegistry()));
+
+        var last = ruleList.getLast();
+        matching = event(Map.of("issue", last.getIssue(), "consumer", last.getConsumer(), "provider", last.getProvider()));
+        unknownIssue = event(Map.of("issue", "/eni/unknown/v1", "consumer", last.getConsumer(), "provider", last.getProvider()));
+    }
+
+    @Benchmark
+    public String indexedMatch() {
+        matching.setType(GENERIC);
+        service.rewriteTypeForDirectPublish(matching, "gateway");
+
+        return matching.getType();
+    }
+
+    @Benchmark
+    public String indexedUnknownIssue() {
+        service.rewriteTypeForDirectPublish(unknownIssue, "gateway");
+
+        return unknownIssue.getType();
+    }
+
+    @Benchmark
+    public String linearScan() {
+        var data = (Map<?, ?>) matching.getData();
+        for (var rule : ruleList) {
+            if (rule.getIssue().equals(data.get("issue")) && rule.getConsumer().equals(data.get("consumer")) && rule.getProvider().equals(data.get("provider"))) {
+                return rule.getTargetEventType();
+            }
+        }
+
+        return null;
+    }
+
+    private static Event event(Map<String, Object> data) {
+        var event = new Event();
+        event.setId("id");
+        event.setType(GENERIC);
+        event.setData(data);
+
+        return event;
+    }
+}
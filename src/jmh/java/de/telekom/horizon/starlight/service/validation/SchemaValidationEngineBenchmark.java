@@ -0,0 +1,126 @@
+// Copyright 2026 Deutsche Telekom IT GmbH
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package de.telekom.horizon.starlight.service.validation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.telekom.horizon.starlight.model.RawEventData;
+import org.everit.json.schema.loader.SchemaLoader;
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the schema validation engines on event data as it arrives in the publish path: deserialized into maps
+ * and lists, or kept as raw JSON.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SchemaValidationEngineBenchmark {
+
+    private static final String SCHEMA = """
+            {
+              "$schema": "http://json-schema.org/draft-07/schema#",
+              "type": "object",
+              "required": ["orderId", "customer", "items"],
+              "properties": {
+                "orderId": {"type": "string", "pattern": "^[A-Z]{3}-[0-9]+$"},
+                "status": {"enum": ["CREATED", "PAID", "SHIPPED"]},
+                "createdAt": {"type": "string", "format": "date-time"},
+                "customer": {
+                  "type": "object",
+                  "required": ["id"],
+                  "properties": {
+                    "id": {"type": "integer", "minimum": 1},
+                    "email": {"type": "string", "format": "email"},
+                    "segment": {"type": ["string", "null"]}
+                  }
+                },
+                "items": {
+                  "type": "array",
+                  "minItems": 1,
+                  "items": {
+                    "type": "object",
+                    "required": ["sku", "quantity", "price"],
+                    "additionalProperties": false,
+                    "properties": {
+                      "sku": {"type": "string", "minLength": 1, "maxLength": 32},
+                      "quantity": {"type": "integer", "minimum": 1},
+                      "price": {"type": "number", "exclusiveMinimum": 0}
+                    }
+                  }
+                }
+              }
+            }""";
+
+    @Param({"1", "20"})
+    public int items;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private SchemaValidator everit;
+
+    private SchemaValidator jackson;
+
+    private SchemaValidator compiled;
+
+    private Map<?, ?> mapData;
+
+    private RawEventData rawData;
+
+    @Setup
+    public void setUp() throws IOException {
+        var schema = SchemaLoader.load(new JSONObject(SCHEMA));
+        everit = new EveritSchemaValidationEngine(objectMapper).compile(schema);
+        jackson = new JacksonSchemaValidationEngine(objectMapper).compile(schema);
+        compiled = new CompiledSchemaValidationEngine(objectMapper).compile(schema);
+
+        var json = new StringBuilder("""
+                {"orderId": "ORD-4711", "status": "PAID", "createdAt": "2026-01-01T12:00:00Z",
+                 "customer": {"id": 42, "email": "jane.doe@example.com", "segment": null}, "items": [""");
+        for (int i = 0; i < items; i++) {
+            json.append(i > 0 ? "," : "").append("{\"sku\": \"SKU-").append(i).append("\", \"quantity\": 2, \"price\": 9.99}");
+        }
+        json.append("]}");
+
+        var bytes = json.toString().getBytes(StandardCharsets.UTF_8);
+        mapData = objectMapper.readValue(bytes, Map.class);
+        rawData = new RawEventData(bytes);
+    }
+
+    @Benchmark
+    public void everitMap() throws IOException {
+        everit.validate(mapData);
+    }
+
+    @Benchmark
+    public void jacksonMap() throws IOException {
+        jackson.validate(mapData);
+    }
+
+    @Benchmark
+    public void compiledMap() throws IOException {
+        compiled.validate(mapData);
+    }
+
+    @Benchmark
+    public void everitRaw() throws IOException {
+        everit.validate(rawData);
+    }
+
+    @Benchmark
+    public void jacksonRaw() throws IOException {
+        jackson.validate(rawData);
+    }
+
+    @Benchmark
+    public void compiledRaw() throws IOException {
+        compiled.validate(rawData);
+    }
+}
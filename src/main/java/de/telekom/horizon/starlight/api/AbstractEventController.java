@@ -0,0 +1,124 @@
+// Copyright 2026 Deutsche Telekom IT GmbH
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package de.telekom.horizon.starlight.api;
+
+import de.telekom.eni.pandora.horizon.model.event.Event;
+import de.telekom.eni.pandora.horizon.tracing.HorizonTracer;
+import de.telekom.horizon.starlight.config.StarlightConfig;
+import de.telekom.horizon.starlight.exception.HorizonStarlightException;
+import de.telekom.horizon.starlight.exception.PayloadTooLargeException;
+import de.telekom.horizon.starlight.model.EventPublishResult;
+import de.telekom.horizon.starlight.model.EventStreamSummary;
+import de.telekom.horizon.starlight.service.BatchPublisherService;
+import de.telekom.horizon.starlight.service.PublisherService;
+import de.telekom.horizon.starlight.service.TokenService;
+import de.telekom.horizon.starlight.service.reporting.ReportingService;
+import org.apache.commons.lang3.tuple.Pair;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Endpoints shared by the blocking {@link EventController} and the non-blocking {@link AsyncEventController}.
+ * Exactly one of both is active, depending on {@code starlight.features.asyncPublish}; they only differ in how
+ * a single event is published.
+ */
+public abstract class AbstractEventController {
+
+    protected final TokenService tokenService;
+
+    protected final PublisherService publisherService;
+
+    protected final HorizonTracer tracer;
+
+    protected final ReportingService reportingService;
+
+    protected final BatchPublisherService batchPublisherService;
+
+    protected final StarlightConfig starlightConfig;
+
+    protected AbstractEventController(TokenService tokenService,
+                                      PublisherService publisherService,
+                                      HorizonTracer tracer,
+                                      ReportingService reportingService,
+                                      BatchPublisherService batchPublisherService,
+                                      StarlightConfig starlightConfig) {
+        this.tokenService = tokenService;
+        this.publisherService = publisherService;
+        this.tracer = tracer;
+        this.reportingService = reportingService;
+        this.batchPublisherService = batchPublisherService;
+        this.starlightConfig = starlightConfig;
+    }
+
+    @RequestMapping(value = { "/events", "/events/" }, method = RequestMethod.HEAD)
+    public ResponseEntity<Void> headRequest(@PathVariable String environment) {
+        return ResponseEntity.status(HttpStatus.NO_CONTENT).header("X-Health-Check-Timestamp", Instant.now().toString()).build();
+    }
+
+    @PostMapping(value = "/events:batch", consumes = {MediaType.APPLICATION_JSON_VALUE}, produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_PROBLEM_JSON_VALUE})
+    public ResponseEntity<List<EventPublishResult>> publishEvents(@RequestBody List<Event> events,
+                                                                  @PathVariable String environment,
+                                                                  @RequestHeader MultiValueMap<String, String> httpHeaders) throws HorizonStarlightException {
+        if (events.size() > starlightConfig.getBatchMaxEvents()) {
+            throw new PayloadTooLargeException(String.format("A batch must not contain more than %d events", starlightConfig.getBatchMaxEvents()));
+        }
+
+        publisherService.checkRealm(tokenService.getRealm(), environment);
+
+        var results = batchPublisherService.publishAll(events.iterator(), tokenService.getPublisherId(), environment, httpHeaders);
+
+        for (int i = 0; i < results.size(); i++) {
+            if (results.get(i).isCreated()) {
+                reportingService.markEventProduced(events.get(i));
+            }
+        }
+
+        var allCreated = results.stream().allMatch(EventPublishResult::isCreated);
+
+        return ResponseEntity.status(allCreated ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS).body(results);
+    }
+
+    @PostMapping(value = "/events:stream", consumes = {MediaType.APPLICATION_NDJSON_VALUE}, produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_PROBLEM_JSON_VALUE})
+    public ResponseEntity<EventStreamSummary> publishEventStream(InputStream body,
+                                                                 @PathVariable String environment,
+                                                                 @RequestHeader MultiValueMap<String, String> httpHeaders) throws HorizonStarlightException, IOException {
+        publisherService.checkRealm(tokenService.getRealm(), environment);
+
+        var summary = batchPublisherService.publishStream(body, tokenService.getPublisherId(), environment, httpHeaders,
+                starlightConfig.getBatchMaxEvents(), reportingService::markEventProduced);
+
+        return ResponseEntity.status(summary.getFailed() == 0 ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS).body(summary);
+    }
+
+    /**
+     * Runs the request-level checks of a single event that precede publishing.
+     */
+    protected void checkEvent(Event event, String environment, MultiValueMap<String, String> httpHeaders) throws HorizonStarlightException {
+        addTracingTags(event);
+
+        publisherService.checkRealm(tokenService.getRealm(), environment);
+        publisherService.validateEvent(event);
+        publisherService.checkEventTypeHeader(event, httpHeaders);
+        publisherService.checkPayloadSize(event);
+    }
+
+    private void addTracingTags(Event event) {
+        var currentSpan = Optional.ofNullable(tracer.getCurrentSpan());
+
+        currentSpan.ifPresent(s -> tracer.addTagsToSpan(s, List.of(
+                Pair.of("eventType", event.getType()),
+                Pair.of("eventId", event.getId())
+        )));
+    }
+}
@@ -0,0 +1,77 @@
+// Copyright 2026 Deutsche Telekom IT GmbH
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package de.telekom.horizon.starlight.api;
+
+import de.telekom.eni.pandora.horizon.model.event.Event;
+import de.telekom.eni.pandora.horizon.tracing.HorizonTracer;
+import de.telekom.horizon.starlight.config.StarlightConfig;
+import de.telekom.horizon.starlight.exception.HorizonStarlightException;
+import de.telekom.horizon.starlight.service.BatchPublisherService;
+import de.telekom.horizon.starlight.service.PublisherService;
+import de.telekom.horizon.starlight.service.TokenService;
+import de.telekom.horizon.starlight.service.reporting.ReportingService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Non-blocking variant of {@link EventController}, active when {@code starlight.features.asyncPublish} is
+ * {@code true}.
+ *
+ * <p>Instead of parking the servlet thread until Kafka acknowledged the event, the request is put into async mode
+ * and completed from the producer callback. A slow broker therefore no longer exhausts the servlet thread pool;
+ * the number of publishes waiting for Kafka is only bounded by the connection limit and the producer's buffer.
+ * Errors are mapped exactly like in the blocking variant by {@link RestResponseEntityExceptionHandler}.
+ *
+ * <p>The producer callback runs on the Kafka producer's network thread, which must not block. Reporting (e.g. a
+ * Redis round trip) and completing the request are therefore handed over to a virtual thread.
+ */
+@RestController
+@Slf4j
+@RequestMapping("/v1/{environment}")
+@ConditionalOnProperty(value = "starlight.features.asyncPublish", havingValue = "true")
+public class AsyncEventController extends AbstractEventController {
+
+    private final ExecutorService completionExecutor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("starlight-publish-completion-", 0).factory());
+
+    @Autowired
+    AsyncEventController(TokenService tokenService,
+                         PublisherService publisherService,
+                         HorizonTracer tracer,
+                         ReportingService reportingService,
+                         BatchPublisherService batchPublisherService,
+                         StarlightConfig starlightConfig) {
+        super(tokenService, publisherService, tracer, reportingService, batchPublisherService, starlightConfig);
+    }
+
+    @PostMapping(value = { "/events", "/events/" }, consumes = {MediaType.APPLICATION_JSON_VALUE}, produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_PROBLEM_JSON_VALUE})
+    public CompletableFuture<ResponseEntity<Event>> publishEvent(@RequestBody Event event,
+                                                                 @PathVariable String environment,
+                                                                 @RequestHeader MultiValueMap<String, String> httpHeaders) throws HorizonStarlightException {
+        checkEvent(event, environment, httpHeaders);
+
+        return publisherService.publishAsync(event, tokenService.getPublisherId(), environment, httpHeaders)
+                .thenApplyAsync(ignored -> {
+                    reportingService.markEventProduced(event);
+
+                    return ResponseEntity.status(HttpStatus.CREATED).body(null);
+                }, completionExecutor);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        completionExecutor.close();
+    }
+}
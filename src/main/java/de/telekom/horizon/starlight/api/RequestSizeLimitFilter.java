@@ -0,0 +1,213 @@
+// Copyright 2026 Deutsche Telekom IT GmbH
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package de.telekom.horizon.starlight.api;
+
+import de.telekom.horizon.starlight.config.StarlightConfig;
+import de.telekom.horizon.starlight.exception.PayloadTooLargeException;
+import de.telekom.horizon.starlight.exception.RequestBodyTooLargeException;
+import de.telekom.horizon.starlight.service.PublisherService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpMethod;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+import java.io.IOException;
+import java.util.regex.Pattern;
+
+/**
+ * Rejects requests to the single-event and the batch endpoint that are too large before the body is deserialized.
+ *
+ * <p>A request with a {@code Content-Length} above the limit is answered with 413 right away. For all other
+ * requests (e.g. chunked ones) reading the body fails with a {@link RequestBodyTooLargeException} as soon as
+ * the limit is exceeded. The limit is {@code starlight.defaultMaxPayloadSize} plus an allowance for the event
+ * envelope; {@code PublisherService#checkPayloadSize} still checks the exact size of the data afterwards.
+ * Requests to the batch endpoint are limited to {@code starlight.batch.maxBytes}, as the batch is deserialized as a
+ * whole before the number of events can be checked.
+ *
+ * <p>Event types on the {@code payloadCheckExemptionList} are exempted from the payload size, but no request is
+ * passed on unlimited: requests that may carry an exempted type are limited to
+ * {@code starlight.exemptedMaxPayloadSize} instead. As the type is not known before the body is parsed,
+ * publishers can state it in the {@code ce-type} header. A request stating a type that is not exempted gets the
+ * regular limit. Without the header, a request gets the exempted limit as long as the exemption list is not
+ * empty. {@code PublisherService#checkEventTypeHeader} rejects events whose type differs from the header, so
+ * the header cannot be used to get the exempted limit for other types.
+ *
+ * @see de.telekom.horizon.starlight.service.PublisherService#checkPayloadSize
+ */
+@Component
+@ConditionalOnProperty(value = "starlight.features.earlyPayloadCheck", havingValue = "true")
+@Slf4j
+public class RequestSizeLimitFilter extends OncePerRequestFilter {
+
+    static final String EVENT_TYPE_HEADER = PublisherService.EVENT_TYPE_HEADER;
+
+    private static final Pattern SINGLE_EVENT_PATH = Pattern.compile("^/v1/[^/]+/events/?$");
+
+    private static final Pattern BATCH_PATH = Pattern.compile("^/v1/[^/]+/events:batch/?$");
+
+    private final StarlightConfig starlightConfig;
+
+    private final HandlerExceptionResolver handlerExceptionResolver;
+
+    public RequestSizeLimitFilter(StarlightConfig starlightConfig,
+                                  @Qualifier("handlerExceptionResolver") HandlerExceptionResolver handlerExceptionResolver) {
+        this.starlightConfig = starlightConfig;
+        this.handlerExceptionResolver = handlerExceptionResolver;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        if (!HttpMethod.POST.matches(request.getMethod())) {
+            return true;
+        }
+
+        return !SINGLE_EVENT_PATH.matcher(path(request)).matches() && !isBatch(request);
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        long limit;
+        String message;
+        if (isBatch(request)) {
+            limit = starlightConfig.getBatchMaxBytes();
+            message = String.format("A batch must not be larger than %d bytes", limit);
+        } else {
+            limit = starlightConfig.getDefaultMaxPayloadSize() + starlightConfig.getPayloadEnvelopeAllowance();
+            if (isPossiblyExempted(request)) {
+                limit = Math.max(limit, starlightConfig.getExemptedMaxPayloadSize());
+            }
+            message = "The payload is too large to be published";
+        }
+
+        if (request.getContentLengthLong() > limit) {
+            log.debug("Rejected request with a content length of {} bytes", request.getContentLengthLong());
+
+            handlerExceptionResolver.resolveException(request, response, null, new PayloadTooLargeException(message));
+            return;
+        }
+
+        filterChain.doFilter(new SizeLimitedRequest(request, limit, message), response);
+    }
+
+    private static String path(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+
+    private static boolean isBatch(HttpServletRequest request) {
+        return BATCH_PATH.matcher(path(request)).matches();
+    }
+
+    private boolean isPossiblyExempted(HttpServletRequest request) {
+        var exemptions = starlightConfig.getPayloadCheckExemptionList();
+        if (exemptions.stream().allMatch(StringUtils::isBlank)) {
+            return false;
+        }
+
+        var eventType = request.getHeader(EVENT_TYPE_HEADER);
+
+        return eventType == null || exemptions.contains(eventType);
+    }
+
+    private static class SizeLimitedRequest extends HttpServletRequestWrapper {
+
+        private final long limit;
+
+        private final String message;
+
+        private ServletInputStream inputStream;
+
+        SizeLimitedRequest(HttpServletRequest request, long limit, String message) {
+            super(request);
+            this.limit = limit;
+            this.message = message;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() throws IOException {
+            if (inputStream == null) {
+                inputStream = new SizeLimitedInputStream(super.getInputStream(), limit, message);
+            }
+
+            return inputStream;
+        }
+    }
+
+    private static class SizeLimitedInputStream extends ServletInputStream {
+
+        private final ServletInputStream delegate;
+
+        private final long limit;
+
+        private final String message;
+
+        private long count;
+
+        SizeLimitedInputStream(ServletInputStream delegate, long limit, String message) {
+            this.delegate = delegate;
+            this.limit = limit;
+            this.message = message;
+        }
+
+        @Override
+        public int read() throws IOException {
+            var b = delegate.read();
+            if (b >= 0) {
+                count(1);
+            }
+
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            var n = delegate.read(b, off, len);
+            if (n > 0) {
+                count(n);
+            }
+
+            return n;
+        }
+
+        private void count(int n) throws RequestBodyTooLargeException {
+            count += n;
+            if (count > limit) {
+                throw new RequestBodyTooLargeException(message);
+            }
+        }
+
+        @Override
+        public boolean isFinished() {
+            return delegate.isFinished();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setReadListener(ReadListener readListener) {
+            delegate.setReadListener(readListener);
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+    }
+}
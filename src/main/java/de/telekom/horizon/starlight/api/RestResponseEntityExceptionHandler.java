@@ -7,7 +7,9 @@ package de.telekom.horizon.starlight.api;
 import de.telekom.eni.pandora.horizon.model.common.ProblemMessage;
 import de.telekom.horizon.starlight.exception.*;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.springframework.http.*;
+import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.lang.Nullable;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.util.StringUtils;
@@ -71,6 +73,31 @@ public class RestResponseEntityExceptionHandler extends ResponseEntityExceptionH
         return responseEntityForException(e, HttpStatus.PAYLOAD_TOO_LARGE, request, null);
     }
 
+    @ExceptionHandler(RequestBodyTooLargeException.class)
+    @ResponseStatus(HttpStatus.PAYLOAD_TOO_LARGE)
+    protected ResponseEntity<Object> handleRequestBodyTooLargeException(RequestBodyTooLargeException e, WebRequest request) {
+        return handlePayloadTooLargeException(new PayloadTooLargeException(e.getMessage()), request);
+    }
+
+    @Override
+    protected ResponseEntity<Object> handleHttpMessageNotReadable(HttpMessageNotReadableException ex, HttpHeaders headers, HttpStatusCode status, WebRequest request) {
+        var index = ExceptionUtils.indexOfType(ex, RequestBodyTooLargeException.class);
+        if (index >= 0) {
+            return handleRequestBodyTooLargeException((RequestBodyTooLargeException) ExceptionUtils.getThrowableList(ex).get(index), request);
+        }
+
+        return super.handleHttpMessageNotReadable(ex, headers, status, request);
+    }
+
+    // 503 Service Unavailable
+    @ExceptionHandler(TooManyPublishesInFlightException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    protected ResponseEntity<Object> handleTooManyPublishesInFlightException(TooManyPublishesInFlightException e, WebRequest request) {
+        log.warn("Rejected event because too many events are in flight: {}", e.getMessage());
+
+        return responseEntityForException(e, HttpStatus.SERVICE_UNAVAILABLE, request, null);
+    }
+
     // 504 Gateway Timeout
     @ExceptionHandler(CouldNotPublishEventMessageException.class)
     @ResponseStatus(HttpStatus.GATEWAY_TIMEOUT)
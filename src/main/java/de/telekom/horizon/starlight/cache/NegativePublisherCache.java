@@ -0,0 +1,212 @@
+// Copyright 2026 Deutsche Telekom IT GmbH
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package de.telekom.horizon.starlight.cache;
+
+import com.hazelcast.core.EntryEvent;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.listener.EntryAddedListener;
+import com.hazelcast.map.listener.EntryUpdatedListener;
+import de.telekom.eni.pandora.horizon.metrics.HorizonMetricsHelper;
+import de.telekom.horizon.starlight.cache.PublisherIndex.IndexKey;
+import de.telekom.horizon.starlight.config.cache.PublisherCacheConfiguration;
+import io.micrometer.core.instrument.Counter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Remembers event types without subscriptions, so that a publisher flooding such a type does not cause a
+ * subscription lookup per request.
+ *
+ * <p>Entries expire after {@code negative-cache-ttl-ms}. As soon as a subscription is added or updated, the whole
+ * cache is cleared; subscription changes are rare compared to publishes, so this keeps the invalidation simple
+ * without having to parse the changed subscription. A negative result is not cached if a subscription changed
+ * while it was looked up. The number of entries is bounded by {@code negative-cache-max-size}; when the cache is
+ * full, further negative results are not cached.
+ *
+ * <p>If the {@link PublisherIndex} is enabled, lookups are answered from the index, so the cache is cleared by the
+ * change listener of the index once a change has been applied there, and negative results are only cached while
+ * the index is ready. A separate Hazelcast listener could run before the index has applied the change, and a
+ * lookup in between would cache a stale negative result for the whole TTL. Without the index, lookups query the
+ * subscription map directly, and the cache registers its own entry listener.
+ *
+ * <p>Every entry counts its hits, so {@link NegativePublisherCacheEndpoint} can show which of the rejected event
+ * types are flooded without tagging the hit metric by the event types the publishers choose.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(value = "starlight.publisher-cache.negative-cache-enabled", havingValue = "true")
+public class NegativePublisherCache implements EntryAddedListener<Object, Object>, EntryUpdatedListener<Object, Object> {
+
+    static final String METRIC_NEGATIVE_CACHE_HITS = "starlight_publisher_negative_cache_hits";
+    static final String METRIC_NEGATIVE_CACHE_MISSES = "starlight_publisher_negative_cache_misses";
+
+    private final HazelcastInstance hazelcastInstance;
+
+    private final PublisherCacheConfiguration config;
+
+    private final PublisherIndex publisherIndex;
+
+    private final Counter hitCounter;
+
+    private final Counter missCounter;
+
+    private final ConcurrentHashMap<IndexKey, Entry> entries = new ConcurrentHashMap<>();
+
+    private final AtomicLong generation = new AtomicLong();
+
+    private final ReentrantLock listenerLock = new ReentrantLock();
+
+    private volatile boolean listening;
+
+    public NegativePublisherCache(HazelcastInstance hazelcastInstance, PublisherCacheConfiguration config,
+                                  HorizonMetricsHelper metricsHelper) {
+        this(hazelcastInstance, config, metricsHelper, Optional.empty());
+    }
+
+    @Autowired
+    public NegativePublisherCache(HazelcastInstance hazelcastInstance, PublisherCacheConfiguration config,
+                                  HorizonMetricsHelper metricsHelper, Optional<PublisherIndex> publisherIndex) {
+        this.hazelcastInstance = hazelcastInstance;
+        this.config = config;
+        this.publisherIndex = publisherIndex.orElse(null);
+
+        var registry = metricsHelper.getRegistry();
+        this.hitCounter = registry.counter(METRIC_NEGATIVE_CACHE_HITS);
+        this.missCounter = registry.counter(METRIC_NEGATIVE_CACHE_MISSES);
+
+        if (this.publisherIndex != null) {
+            this.publisherIndex.addChangeListener(this::invalidateAll);
+        }
+    }
+
+    /**
+     * @return {@code true} if the event type is known to have no subscriptions in the environment
+     */
+    public boolean isKnownWithoutSubscriptions(String environment, String eventType) {
+        var key = new IndexKey(environment, eventType);
+        var entry = entries.get(key);
+
+        if (entry != null) {
+            if (entry.expiresAt() > System.currentTimeMillis()) {
+                entry.hits().increment();
+                hitCounter.increment();
+                return true;
+            }
+
+            entries.remove(key, entry);
+        }
+
+        missCounter.increment();
+        return false;
+    }
+
+    /**
+     * @return the current generation, to be passed to {@link #markWithoutSubscriptions} after the lookup
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * Remembers that the event type has no subscriptions in the environment, unless a subscription changed
+     * since {@code lookupGeneration} was obtained.
+     */
+    public void markWithoutSubscriptions(String environment, String eventType, long lookupGeneration) {
+        if (!ensureListening() || generation.get() != lookupGeneration) {
+            return;
+        }
+
+        var now = System.currentTimeMillis();
+        if (entries.size() >= config.getNegativeCacheMaxSize()) {
+            entries.values().removeIf(entry -> entry.expiresAt() <= now);
+
+            if (entries.size() >= config.getNegativeCacheMaxSize()) {
+                return;
+            }
+        }
+
+        entries.put(new IndexKey(environment, eventType), new Entry(now + config.getNegativeCacheTtlMs(), new LongAdder()));
+    }
+
+    /**
+     * Returns the unexpired entries with the number of hits since they were cached, most hit first.
+     *
+     * @param limit maximum number of entries to return, all if {@code null}
+     */
+    public List<CachedType> cachedTypes(Integer limit) {
+        var now = System.currentTimeMillis();
+
+        return entries.entrySet().stream()
+                .filter(entry -> entry.getValue().expiresAt() > now)
+                .map(entry -> new CachedType(entry.getKey().environment(), entry.getKey().eventType(),
+                        entry.getValue().hits().sum(), entry.getValue().expiresAt() - now))
+                .sorted(Comparator.comparingLong(CachedType::hits).reversed())
+                .limit(limit != null ? Math.max(0, limit) : Long.MAX_VALUE)
+                .toList();
+    }
+
+    @Override
+    public void entryAdded(EntryEvent<Object, Object> event) {
+        invalidateAll();
+    }
+
+    @Override
+    public void entryUpdated(EntryEvent<Object, Object> event) {
+        invalidateAll();
+    }
+
+    private void invalidateAll() {
+        generation.incrementAndGet();
+        entries.clear();
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private boolean ensureListening() {
+        if (publisherIndex != null) {
+            return publisherIndex.isReady();
+        }
+
+        if (listening) {
+            return true;
+        }
+
+        listenerLock.lock();
+        try {
+            if (!listening) {
+                hazelcastInstance.getMap(config.getSubscriptionMapName()).addEntryListener(this, false);
+                listening = true;
+            }
+        } catch (Exception e) {
+            log.warn("Could not register subscription listener, negative results are not cached", e);
+        } finally {
+            listenerLock.unlock();
+        }
+
+        return listening;
+    }
+
+    private record Entry(long expiresAt, LongAdder hits) {}
+
+    /**
+     * An event type remembered without subscriptions.
+     *
+     * @param hits        publishes answered from this entry since it was cached
+     * @param expiresInMs time until the entry expires
+     */
+    public record CachedType(String environment, String eventType, long hits, long expiresInMs) {}
+}
@@ -0,0 +1,37 @@
+// Copyright 2026 Deutsche Telekom IT GmbH
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package de.telekom.horizon.starlight.cache;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Lists the event types remembered by the {@link NegativePublisherCache} with their hits at {@code
+ * /actuator/negativePublisherCache}, optionally limited by {@code ?limit=}.
+ *
+ * <p>The list is bounded by {@code negative-cache-max-size}. Actuator endpoints are not authenticated, so the
+ * endpoint is read-only and has to be exposed explicitly via {@code management.endpoints.web.exposure.include}.
+ */
+@Component
+@Endpoint(id = "negativePublisherCache")
+@ConditionalOnProperty(value = "starlight.publisher-cache.negative-cache-enabled", havingValue = "true")
+public class NegativePublisherCacheEndpoint {
+
+    private final NegativePublisherCache negativeCache;
+
+    public NegativePublisherCacheEndpoint(NegativePublisherCache negativeCache) {
+        this.negativeCache = negativeCache;
+    }
+
+    @ReadOperation
+    public List<NegativePublisherCache.CachedType> cachedTypes(@Nullable Integer limit) {
+        return negativeCache.cachedTypes(limit);
+    }
+}
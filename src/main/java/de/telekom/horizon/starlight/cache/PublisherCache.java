@@ -11,12 +11,10 @@ import de.telekom.eni.pandora.horizon.kubernetes.resource.SubscriptionResource;
 import de.telekom.horizon.starlight.config.StarlightConfig;
 import de.telekom.horizon.starlight.exception.SubscriptionMalformedException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
-import java.util.HashSet;
-import java.util.List;
-import java.util.Objects;
-import java.util.Set;
+import java.util.*;
 
 @Slf4j
 @Component
@@ -26,15 +24,76 @@ public class PublisherCache {
 
     private final JsonCacheService<SubscriptionResource> subscriptionCache;
 
+    private final PublisherIndex publisherIndex;
+
+    private final NegativePublisherCache negativeCache;
+
+    private final PublisherIdProjection projection;
+
     public PublisherCache(StarlightConfig starlightConfig, JsonCacheService<SubscriptionResource> subscriptionCache) {
+        this(starlightConfig, subscriptionCache, Optional.empty(), Optional.empty(), Optional.empty());
+    }
+
+    @Autowired
+    public PublisherCache(StarlightConfig starlightConfig, JsonCacheService<SubscriptionResource> subscriptionCache,
+                          Optional<PublisherIndex> publisherIndex, Optional<NegativePublisherCache> negativeCache,
+                          Optional<PublisherIdProjection> projection) {
         this.starlightConfig = starlightConfig;
         this.subscriptionCache = subscriptionCache;
+        this.publisherIndex = publisherIndex.orElse(null);
+        this.negativeCache = negativeCache.orElse(null);
+        this.projection = projection.orElse(null);
     }
 
+    /**
+     * Returns the publisher IDs of all subscriptions for the given environment and event type.
+     * Event types remembered by the {@link NegativePublisherCache} are answered with an empty set right away.
+     * If the {@link PublisherIndex} is enabled and built, it answers the lookup; otherwise the subscription
+     * cache is queried, with a {@link PublisherIdProjection} if enabled.
+     */
     public Set<String> findPublisherIds(String environment, String eventType) {
-        var env = environment;
-        if (Objects.equals(starlightConfig.getDefaultEnvironment(), environment)) {
-            env = "default";
+        var env = cacheEnvironment(environment);
+
+        if (negativeCache != null && negativeCache.isKnownWithoutSubscriptions(env, eventType)) {
+            return Set.of();
+        }
+
+        var generation = negativeCache != null ? negativeCache.generation() : 0;
+        var publisherIds = lookupPublisherIds(env, eventType);
+
+        if (negativeCache != null && publisherIds.isEmpty()) {
+            negativeCache.markWithoutSubscriptions(env, eventType, generation);
+        }
+
+        return publisherIds;
+    }
+
+    /**
+     * Runs the same lookup as {@link #findPublisherIds(String, String)}, but bypasses the {@link NegativePublisherCache},
+     * so that neither its entries nor its metrics are affected. Used to warm up the lookup with a synthetic event type.
+     */
+    public Set<String> warmUp(String environment, String eventType) {
+        return lookupPublisherIds(cacheEnvironment(environment), eventType);
+    }
+
+    private String cacheEnvironment(String environment) {
+        return Objects.equals(starlightConfig.getDefaultEnvironment(), environment) ? "default" : environment;
+    }
+
+    private Set<String> lookupPublisherIds(String env, String eventType) {
+        if (publisherIndex != null) {
+            var publisherIds = publisherIndex.findPublisherIds(env, eventType);
+            if (publisherIds != null) {
+                return publisherIds;
+            }
+        }
+
+        if (projection != null) {
+            try {
+                return projection.findPublisherIds(env, eventType);
+            } catch (RuntimeException e) {
+                log.warn("Projection query for event type {} failed, falling back to the subscription query", eventType, e);
+            }
         }
 
         var builder = Query.builder(SubscriptionResource.class)
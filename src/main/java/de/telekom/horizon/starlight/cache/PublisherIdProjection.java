@@ -0,0 +1,116 @@
+// Copyright 2026 Deutsche Telekom IT GmbH
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package de.telekom.horizon.starlight.cache;
+
+import com.hazelcast.config.IndexType;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.hazelcast.projection.Projection;
+import com.hazelcast.query.Predicate;
+import com.hazelcast.query.Predicates;
+import com.hazelcast.query.impl.Extractable;
+import com.hazelcast.query.impl.getters.MultiResult;
+import de.telekom.horizon.starlight.config.cache.PublisherCacheConfiguration;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static de.telekom.horizon.starlight.cache.SubscriptionJson.*;
+
+/**
+ * Looks up the publisher IDs of an event type with a projection query, so that only the publisher IDs are
+ * transferred from Hazelcast instead of every matching subscription resource.
+ *
+ * <p>A single query reads the publisher ID and the additional publisher IDs of every matching subscription on the
+ * members. The built-in projections cannot unnest arrays, so this is done by {@link PublisherIds}, which has to be
+ * on the classpath of the members holding the subscription map. The query filters by environment and event type.
+ * If {@code projection-create-index} is set, a compound hash index on both is created in the cluster on first use.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(value = "starlight.publisher-cache.projection-enabled", havingValue = "true")
+public class PublisherIdProjection {
+
+    private final HazelcastInstance hazelcastInstance;
+
+    private final PublisherCacheConfiguration config;
+
+    private volatile boolean indexChecked;
+
+    public PublisherIdProjection(HazelcastInstance hazelcastInstance, PublisherCacheConfiguration config) {
+        this.hazelcastInstance = hazelcastInstance;
+        this.config = config;
+    }
+
+    /**
+     * Returns the publisher IDs of all subscriptions for the given environment and event type.
+     *
+     * @throws com.hazelcast.core.HazelcastException if the query failed
+     */
+    public Set<String> findPublisherIds(String environment, String eventType) {
+        IMap<Object, Object> map = hazelcastInstance.getMap(config.getSubscriptionMapName());
+        ensureIndex(map);
+
+        Predicate<Object, Object> byType = Predicates.and(
+                Predicates.equal(ATTRIBUTE_ENVIRONMENT, environment),
+                Predicates.equal(ATTRIBUTE_TYPE, eventType));
+
+        var publisherIds = new HashSet<String>();
+        for (var ids : map.project(new PublisherIds(), byType)) {
+            publisherIds.addAll(ids);
+        }
+
+        return publisherIds;
+    }
+
+    private void ensureIndex(IMap<Object, Object> map) {
+        if (indexChecked || !config.isProjectionCreateIndex()) {
+            return;
+        }
+
+        try {
+            map.addIndex(IndexType.HASH, ATTRIBUTE_ENVIRONMENT, ATTRIBUTE_TYPE);
+            log.info("Ensured compound index on {} and {} of map {}", ATTRIBUTE_ENVIRONMENT, ATTRIBUTE_TYPE, map.getName());
+        } catch (Exception e) {
+            log.warn("Could not create compound index on map {}, queries will scan the map", map.getName(), e);
+        }
+
+        indexChecked = true;
+    }
+
+    /**
+     * Projects a subscription to its publisher ID and additional publisher IDs. Reads both attributes through the
+     * query engine like the built-in projections do, so the subscription is not deserialized on the member.
+     */
+    static final class PublisherIds implements Projection<Map.Entry<Object, Object>, List<String>> {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public List<String> transform(Map.Entry<Object, Object> input) {
+            var extractable = (Extractable) input;
+
+            var publisherIds = new ArrayList<String>();
+            add(extractable.getAttributeValue(ATTRIBUTE_PUBLISHER_ID), publisherIds);
+            add(extractable.getAttributeValue(ATTRIBUTE_ADDITIONAL_PUBLISHER_IDS + "[any]"), publisherIds);
+
+            return publisherIds;
+        }
+
+        private static void add(Object value, List<String> publisherIds) {
+            if (value instanceof MultiResult<?> multiResult) {
+                multiResult.getResults().forEach(result -> add(result, publisherIds));
+            } else if (value != null) {
+                publisherIds.add(value.toString());
+            }
+        }
+    }
+}
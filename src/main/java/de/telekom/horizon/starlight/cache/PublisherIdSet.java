@@ -0,0 +1,68 @@
+// Copyright 2026 Deutsche Telekom IT GmbH
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package de.telekom.horizon.starlight.cache;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Immutable set of publisher IDs stored as a sorted array of dictionary IDs.
+ *
+ * <p>{@link #contains} resolves the publisher ID in the dictionary and does a binary search, so checking the
+ * ownership of an event type allocates nothing.
+ */
+final class PublisherIdSet extends AbstractSet<String> {
+
+    private final StringDictionary dictionary;
+
+    private final int[] ids;
+
+    /**
+     * @param ids sorted, distinct IDs of the given dictionary; the array is not copied
+     */
+    PublisherIdSet(StringDictionary dictionary, int[] ids) {
+        this.dictionary = dictionary;
+        this.ids = ids;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        if (!(o instanceof String publisherId)) {
+            return false;
+        }
+
+        var id = dictionary.idOf(publisherId);
+
+        return id >= 0 && Arrays.binarySearch(ids, id) >= 0;
+    }
+
+    @Override
+    public int size() {
+        return ids.length;
+    }
+
+    @Override
+    public Iterator<String> iterator() {
+        return new Iterator<>() {
+            private int position;
+
+            @Override
+            public boolean hasNext() {
+                return position < ids.length;
+            }
+
+            @Override
+            public String next() {
+                if (position >= ids.length) {
+                    throw new NoSuchElementException();
+                }
+
+                return dictionary.valueOf(ids[position++]);
+            }
+        };
+    }
+}
@@ -0,0 +1,542 @@
+// Copyright 2026 Deutsche Telekom IT GmbH
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package de.telekom.horizon.starlight.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hazelcast.core.EntryEvent;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.hazelcast.map.MapEvent;
+import com.hazelcast.map.listener.*;
+import de.telekom.eni.pandora.horizon.metrics.HorizonMetricsHelper;
+import de.telekom.horizon.starlight.config.cache.PublisherCacheConfiguration;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-process index of the publisher IDs that may publish an event type in an environment.
+ *
+ * <p>The index is built from the subscription map in Hazelcast and kept up to date incrementally by an entry
+ * listener. Readers never lock: every {@code (environment, eventType)} entry is an immutable set that is
+ * replaced as a whole when a subscription of that type changes. Writers (listener events and rebuilds) are
+ * serialized by a lock. A rebuild reads the map without holding it, since that is a remote call, and records the
+ * events that arrive in the meantime; they are applied on top of the new state before it is swapped in. Rebuilds
+ * after the map was cleared run on a separate thread, so they do not block the Hazelcast event thread.
+ *
+ * <p>Publisher IDs are interned in a {@link StringDictionary} and every entry stores them as a sorted {@code int}
+ * array, which keeps the index for ~100k subscriptions in the range of a few megabytes. The entries are held in
+ * nested maps by environment and event type, so neither the lookup nor {@code contains} on the returned set
+ * allocates. The dictionary only grows between rebuilds; every rebuild starts with a fresh one.
+ *
+ * <p>The index is rebuilt from scratch periodically to repair changes that may have been missed while the
+ * connection to Hazelcast was interrupted. Until the first rebuild succeeded, {@link #findPublisherIds} returns
+ * {@code null} and callers fall back to querying the subscription cache. Periodic rebuilds and snapshots run on
+ * the index's own thread, so a slow map read does not hold up the tasks sharing Spring's scheduler thread.
+ *
+ * <p>If a snapshot path is configured, the index is written to a {@link PublisherIndexSnapshot} periodically
+ * and loaded from it on start, so a restarting pod answers lookups before the first rebuild has reconciled the
+ * index with the subscription map. Once the data is older than the configured maximum staleness (time since the
+ * last successful rebuild, or since the rebuild the loaded snapshot was taken from), the index stops answering.
+ *
+ * <p>Components that derive state from the index register a change listener, which is called after an added or
+ * updated subscription or a rebuild has been applied, so they observe changes in the same order as the lookups.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(value = "starlight.publisher-cache.index-enabled", havingValue = "true")
+public class PublisherIndex implements EntryAddedListener<Object, Object>, EntryUpdatedListener<Object, Object>,
+        EntryRemovedListener<Object, Object>, EntryEvictedListener<Object, Object>,
+        EntryExpiredListener<Object, Object>, MapClearedListener {
+
+    static final String METRIC_INDEX_SIZE = "starlight_publisher_index_size";
+    static final String METRIC_INDEX_REBUILDS = "starlight_publisher_index_rebuilds";
+    static final String METRIC_INDEX_STALENESS = "starlight_publisher_index_staleness_seconds";
+
+    private final HazelcastInstance hazelcastInstance;
+
+    private final PublisherCacheConfiguration config;
+
+    private final ObjectMapper objectMapper;
+
+    private final Counter rebuildCounter;
+
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    private final ExecutorService rebuildExecutor = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("starlight-publisher-index-rebuild").daemon().factory());
+
+    // only accessed by the scheduler, so a slow task is not queued again before it finished
+    private Future<?> scheduledRebuild = CompletableFuture.completedFuture(null);
+
+    private Future<?> scheduledSnapshot = CompletableFuture.completedFuture(null);
+
+    private final List<Runnable> changeListeners = new CopyOnWriteArrayList<>();
+
+    // guarded by writeLock
+    private State state = new State();
+
+    // guarded by writeLock, false while the index is not built or only loaded from a snapshot
+    private boolean live;
+
+    // guarded by writeLock, the changes received while a rebuild reads the map, null while no rebuild is running
+    private List<Change> pendingChanges;
+
+    private volatile Map<String, Map<String, PublisherIdSet>> publisherIdsByType;
+
+    private volatile long lastSyncMillis;
+
+    private volatile long validAtMillis;
+
+    private long lastSnapshotSyncMillis;
+
+    // registered under rebuildLock
+    private volatile UUID listenerId;
+
+    public PublisherIndex(HazelcastInstance hazelcastInstance, PublisherCacheConfiguration config,
+                          ObjectMapper objectMapper, HorizonMetricsHelper metricsHelper) {
+        this.hazelcastInstance = hazelcastInstance;
+        this.config = config;
+        this.objectMapper = objectMapper;
+
+        var registry = metricsHelper.getRegistry();
+        this.rebuildCounter = registry.counter(METRIC_INDEX_REBUILDS);
+        Gauge.builder(METRIC_INDEX_SIZE, this, PublisherIndex::size).register(registry);
+        Gauge.builder(METRIC_INDEX_STALENESS, this, PublisherIndex::stalenessSeconds).register(registry);
+    }
+
+    /**
+     * Returns the publisher IDs of all subscriptions for the given environment and event type.
+     *
+     * @return the (unmodifiable, possibly empty) set of publisher IDs, or {@code null} if the index has not been
+     * built yet or is too stale
+     */
+    public Set<String> findPublisherIds(String environment, String eventType) {
+        var index = publisherIdsByType;
+        if (index == null || isStale()) {
+            return null;
+        }
+
+        var byType = index.get(environment);
+        var publisherIds = byType != null ? byType.get(eventType) : null;
+
+        return publisherIds != null ? publisherIds : Set.of();
+    }
+
+    public boolean isReady() {
+        return publisherIdsByType != null && !isStale();
+    }
+
+    /**
+     * Registers a listener that is called after a subscription has been added or updated, or the index has been
+     * rebuilt or loaded. By then, lookups already return the changed publisher IDs.
+     */
+    public void addChangeListener(Runnable listener) {
+        changeListeners.add(listener);
+    }
+
+    /**
+     * Loads the index from the snapshot file, if configured and not too stale.
+     */
+    @PostConstruct
+    public void loadSnapshot() {
+        var path = snapshotPath();
+        if (path == null || !Files.exists(path)) {
+            return;
+        }
+
+        try {
+            var snapshot = PublisherIndexSnapshot.read(path);
+            var age = System.currentTimeMillis() - snapshot.validAtMillis();
+            if (age > config.getMaxStalenessMs()) {
+                log.info("Ignoring publisher index snapshot {}, it is {} ms old", path, age);
+                return;
+            }
+
+            writeLock.lock();
+            try {
+                if (live) {
+                    return;
+                }
+                publisherIdsByType = snapshot.publisherIdsByType();
+                validAtMillis = snapshot.validAtMillis();
+                lastSyncMillis = snapshot.validAtMillis();
+                lastSnapshotSyncMillis = snapshot.validAtMillis();
+            } finally {
+                writeLock.unlock();
+            }
+
+            notifyChangeListeners();
+            log.info("Loaded publisher index with {} event types from snapshot {}", size(), path);
+        } catch (IOException e) {
+            log.warn("Could not load publisher index snapshot {}", path, e);
+        }
+    }
+
+    /**
+     * Writes the snapshot on the rebuild thread, unless the previous one is still being written.
+     */
+    @Scheduled(fixedDelayString = "${starlight.publisher-cache.snapshot-interval-ms:60000}",
+            initialDelayString = "${starlight.publisher-cache.snapshot-interval-ms:60000}")
+    public void scheduleSnapshot() {
+        if (scheduledSnapshot.isDone()) {
+            scheduledSnapshot = rebuildExecutor.submit(this::writeSnapshot);
+        }
+    }
+
+    /**
+     * Writes the index to the snapshot file, if configured and changed since the last snapshot.
+     */
+    public void writeSnapshot() {
+        var path = snapshotPath();
+        var index = publisherIdsByType;
+        var syncMillis = lastSyncMillis;
+        if (path == null || index == null || syncMillis == lastSnapshotSyncMillis) {
+            return;
+        }
+
+        try {
+            PublisherIndexSnapshot.write(path, validAtMillis, index);
+            lastSnapshotSyncMillis = syncMillis;
+            log.debug("Wrote publisher index snapshot {}", path);
+        } catch (IOException e) {
+            log.warn("Could not write publisher index snapshot {}", path, e);
+        }
+    }
+
+    /**
+     * Rebuilds the index on the rebuild thread, unless the previous periodic rebuild is still running.
+     */
+    @Scheduled(fixedDelayString = "${starlight.publisher-cache.rebuild-interval-ms:600000}")
+    public void scheduleRebuild() {
+        if (scheduledRebuild.isDone()) {
+            scheduledRebuild = rebuildExecutor.submit(this::rebuild);
+        }
+    }
+
+    /**
+     * Registers the entry listener (if not done yet) and rebuilds the index from the subscription map.
+     */
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            var map = subscriptionMap();
+            if (listenerId == null) {
+                listenerId = map.addEntryListener(this, true);
+            }
+
+            recordChanges(true);
+
+            // lookups and listener events go on with the current state while the map is read
+            var newState = new State();
+            for (var entry : map.entrySet()) {
+                apply(newState, entry.getKey(), entry.getValue(), false);
+            }
+            for (var key : newState.subscriptionKeysByType.keySet()) {
+                refresh(newState, key);
+            }
+
+            int subscriptionCount;
+            writeLock.lock();
+            try {
+                // events received while the map was read, in the order they arrived
+                for (var change : pendingChanges) {
+                    apply(newState, change.subscriptionKey(), change.value(), true);
+                }
+                pendingChanges = null;
+
+                state = newState;
+                publisherIdsByType = newState.publisherIdsByType;
+                live = true;
+                lastSyncMillis = System.currentTimeMillis();
+                validAtMillis = lastSyncMillis;
+                subscriptionCount = newState.subscriptions.size();
+            } finally {
+                writeLock.unlock();
+            }
+
+            notifyChangeListeners();
+            rebuildCounter.increment();
+            log.info("Rebuilt publisher index with {} event types from {} subscriptions", size(), subscriptionCount);
+        } catch (Exception e) {
+            recordChanges(false);
+            log.error("Could not rebuild publisher index", e);
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuildExecutor.shutdownNow();
+    }
+
+    @Override
+    public void entryAdded(EntryEvent<Object, Object> event) {
+        put(event.getKey(), event.getValue());
+    }
+
+    @Override
+    public void entryUpdated(EntryEvent<Object, Object> event) {
+        put(event.getKey(), event.getValue());
+    }
+
+    @Override
+    public void entryRemoved(EntryEvent<Object, Object> event) {
+        remove(event.getKey());
+    }
+
+    @Override
+    public void entryEvicted(EntryEvent<Object, Object> event) {
+        remove(event.getKey());
+    }
+
+    @Override
+    public void entryExpired(EntryEvent<Object, Object> event) {
+        remove(event.getKey());
+    }
+
+    @Override
+    public void mapCleared(MapEvent event) {
+        rebuildExecutor.execute(this::rebuild);
+    }
+
+    private void put(Object subscriptionKey, Object value) {
+        writeLock.lock();
+        try {
+            if (pendingChanges != null) {
+                pendingChanges.add(new Change(subscriptionKey, value));
+            }
+            applyChange(subscriptionKey, value);
+        } finally {
+            writeLock.unlock();
+        }
+
+        notifyChangeListeners();
+    }
+
+    private void remove(Object subscriptionKey) {
+        writeLock.lock();
+        try {
+            if (pendingChanges != null) {
+                pendingChanges.add(new Change(subscriptionKey, null));
+            }
+            applyChange(subscriptionKey, null);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void applyChange(Object subscriptionKey, Object value) {
+        // the publisher IDs are only maintained once the index is built, the first rebuild picks up the change
+        apply(state, subscriptionKey, value, live);
+        if (live) {
+            lastSyncMillis = System.currentTimeMillis();
+        }
+    }
+
+    private void recordChanges(boolean record) {
+        writeLock.lock();
+        try {
+            pendingChanges = record ? new ArrayList<>() : null;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void notifyChangeListeners() {
+        for (var listener : changeListeners) {
+            try {
+                listener.run();
+            } catch (RuntimeException e) {
+                log.warn("Publisher index change listener failed", e);
+            }
+        }
+    }
+
+    /**
+     * Applies the subscription, or its removal if {@code value} is {@code null}, to the state and recomputes the
+     * publisher IDs of the affected event types if {@code refresh} is set.
+     */
+    private void apply(State state, Object subscriptionKey, Object value, boolean refresh) {
+        var subscription = value != null ? parse(subscriptionKey, value, state.dictionary) : null;
+        var previous = subscription != null ?
+                state.subscriptions.put(subscriptionKey, subscription) :
+                state.subscriptions.remove(subscriptionKey);
+
+        if (previous != null && (subscription == null || !previous.key().equals(subscription.key()))) {
+            unlink(state, previous.key(), subscriptionKey);
+            if (refresh) {
+                refresh(state, previous.key());
+            }
+        }
+        if (subscription != null) {
+            state.subscriptionKeysByType.computeIfAbsent(subscription.key(), k -> new HashSet<>()).add(subscriptionKey);
+            if (refresh) {
+                refresh(state, subscription.key());
+            }
+        }
+    }
+
+    private static void unlink(State state, IndexKey key, Object subscriptionKey) {
+        var keys = state.subscriptionKeysByType.get(key);
+        if (keys != null) {
+            keys.remove(subscriptionKey);
+            if (keys.isEmpty()) {
+                state.subscriptionKeysByType.remove(key);
+            }
+        }
+    }
+
+    private static void refresh(State state, IndexKey key) {
+        var index = state.publisherIdsByType;
+
+        var keys = state.subscriptionKeysByType.get(key);
+        if (keys != null) {
+            index.computeIfAbsent(key.environment(), e -> new ConcurrentHashMap<>())
+                    .put(key.eventType(), union(keys, state.subscriptions, state.dictionary));
+            return;
+        }
+
+        var byType = index.get(key.environment());
+        if (byType != null) {
+            byType.remove(key.eventType());
+            if (byType.isEmpty()) {
+                index.remove(key.environment());
+            }
+        }
+    }
+
+    private static PublisherIdSet union(Set<Object> subscriptionKeys, Map<Object, Subscription> subscriptions,
+                                        StringDictionary dictionary) {
+        var length = 0;
+        for (var subscriptionKey : subscriptionKeys) {
+            length += subscriptions.get(subscriptionKey).publisherIds().length;
+        }
+
+        var ids = new int[length];
+        var position = 0;
+        for (var subscriptionKey : subscriptionKeys) {
+            var publisherIds = subscriptions.get(subscriptionKey).publisherIds();
+            System.arraycopy(publisherIds, 0, ids, position, publisherIds.length);
+            position += publisherIds.length;
+        }
+
+        return new PublisherIdSet(dictionary, distinct(ids));
+    }
+
+    private static int[] distinct(int[] ids) {
+        Arrays.sort(ids);
+
+        var length = 0;
+        for (var i = 0; i < ids.length; i++) {
+            if (length == 0 || ids[length - 1] != ids[i]) {
+                ids[length++] = ids[i];
+            }
+        }
+
+        return length == ids.length ? ids : Arrays.copyOf(ids, length);
+    }
+
+    private Subscription parse(Object subscriptionKey, Object value, StringDictionary dictionary) {
+        try {
+            var resource = SubscriptionJson.read(objectMapper, value);
+            var environment = SubscriptionJson.environment(resource);
+            var type = SubscriptionJson.type(resource);
+            if (environment == null || type == null) {
+                return null;
+            }
+
+            var publisherIds = new ArrayList<String>();
+            SubscriptionJson.collectPublisherIds(resource, publisherIds);
+
+            var ids = new int[publisherIds.size()];
+            for (var i = 0; i < ids.length; i++) {
+                ids[i] = dictionary.intern(publisherIds.get(i));
+            }
+
+            return new Subscription(new IndexKey(environment, type), distinct(ids));
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            log.warn("Ignoring malformed subscription {} in publisher index", subscriptionKey, e);
+
+            return null;
+        }
+    }
+
+    private IMap<Object, Object> subscriptionMap() {
+        return hazelcastInstance.getMap(config.getSubscriptionMapName());
+    }
+
+    private Path snapshotPath() {
+        var path = config.getSnapshotPath();
+
+        return path == null || path.isBlank() ? null : Path.of(path);
+    }
+
+    private boolean isStale() {
+        return System.currentTimeMillis() - validAtMillis > config.getMaxStalenessMs();
+    }
+
+    int size() {
+        var index = publisherIdsByType;
+        if (index == null) {
+            return 0;
+        }
+
+        var size = 0;
+        for (var byType : index.values()) {
+            size += byType.size();
+        }
+
+        return size;
+    }
+
+    private double stalenessSeconds() {
+        return lastSyncMillis == 0 ? Double.NaN : (System.currentTimeMillis() - lastSyncMillis) / 1000.0;
+    }
+
+    record IndexKey(String environment, String eventType) {}
+
+    /**
+     * @param publisherIds sorted, distinct dictionary IDs of the publisher IDs of the subscription
+     */
+    private record Subscription(IndexKey key, int[] publisherIds) {}
+
+    /**
+     * @param value the new value of the subscription, or {@code null} if it was removed
+     */
+    private record Change(Object subscriptionKey, Object value) {}
+
+    private static final class State {
+
+        private final Map<Object, Subscription> subscriptions = new HashMap<>();
+
+        private final Map<IndexKey, Set<Object>> subscriptionKeysByType = new HashMap<>();
+
+        private final StringDictionary dictionary = new StringDictionary();
+
+        private final Map<String, Map<String, PublisherIdSet>> publisherIdsByType = new ConcurrentHashMap<>();
+    }
+}
@@ -0,0 +1,146 @@
+// Copyright 2026 Deutsche Telekom IT GmbH
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package de.telekom.horizon.starlight.cache;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Compact binary file format of the {@link PublisherIndex}.
+ *
+ * <p>The file starts with a header (magic, version, time the data was valid at), followed by the dictionary of
+ * publisher IDs and the publisher IDs per environment and event type as dictionary IDs. Strings are stored as
+ * length-prefixed UTF-8. Files are written to a temporary file that is atomically moved into place, and read
+ * through a memory mapping.
+ */
+final class PublisherIndexSnapshot {
+
+    private static final int MAGIC = 0x53504958; // "SPIX"
+
+    private static final int VERSION = 1;
+
+    record Content(long validAtMillis, Map<String, Map<String, PublisherIdSet>> publisherIdsByType) {}
+
+    private PublisherIndexSnapshot() {}
+
+    static void write(Path path, long validAtMillis, Map<String, Map<String, PublisherIdSet>> publisherIdsByType) throws IOException {
+        // re-encode the publisher IDs, so the file only contains the ones that are still in use; the maps may
+        // change while they are iterated, but every set is immutable, so its size matches its elements
+        var dictionary = new StringDictionary();
+        var encoded = new HashMap<String, Map<String, int[]>>();
+        publisherIdsByType.forEach((environment, byType) -> byType.forEach((eventType, publisherIds) -> {
+            var ids = new int[publisherIds.size()];
+            var position = 0;
+            for (var publisherId : publisherIds) {
+                ids[position++] = dictionary.intern(publisherId);
+            }
+            Arrays.sort(ids);
+            encoded.computeIfAbsent(environment, e -> new HashMap<>()).put(eventType, ids);
+        }));
+
+        var parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+
+        var temporary = path.resolveSibling(path.getFileName() + ".tmp");
+        try (var out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(validAtMillis);
+
+            out.writeInt(dictionary.size());
+            for (var id = 0; id < dictionary.size(); id++) {
+                writeString(out, dictionary.valueOf(id));
+            }
+
+            out.writeInt(encoded.size());
+            for (var environment : encoded.entrySet()) {
+                writeString(out, environment.getKey());
+                out.writeInt(environment.getValue().size());
+                for (var eventType : environment.getValue().entrySet()) {
+                    writeString(out, eventType.getKey());
+                    out.writeInt(eventType.getValue().length);
+                    for (var id : eventType.getValue()) {
+                        out.writeInt(id);
+                    }
+                }
+            }
+        }
+
+        Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    static Content read(Path path) throws IOException {
+        try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            var buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+            if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                throw new IOException("Unsupported publisher index snapshot " + path);
+            }
+            var validAtMillis = buffer.getLong();
+
+            var dictionary = new StringDictionary();
+            var dictionarySize = buffer.getInt();
+            for (var id = 0; id < dictionarySize; id++) {
+                dictionary.intern(readString(buffer));
+            }
+            if (dictionary.size() != dictionarySize) {
+                throw new IOException("Corrupt publisher index snapshot " + path);
+            }
+
+            var publisherIdsByType = new ConcurrentHashMap<String, Map<String, PublisherIdSet>>();
+            var environmentCount = buffer.getInt();
+            for (var i = 0; i < environmentCount; i++) {
+                var environment = readString(buffer);
+                var byType = new ConcurrentHashMap<String, PublisherIdSet>();
+                var typeCount = buffer.getInt();
+                for (var j = 0; j < typeCount; j++) {
+                    var eventType = readString(buffer);
+                    var ids = new int[buffer.getInt()];
+                    buffer.asIntBuffer().get(ids);
+                    buffer.position(buffer.position() + ids.length * Integer.BYTES);
+                    for (var k = 0; k < ids.length; k++) {
+                        if (ids[k] < 0 || ids[k] >= dictionarySize || (k > 0 && ids[k] <= ids[k - 1])) {
+                            throw new IOException("Corrupt publisher index snapshot " + path);
+                        }
+                    }
+                    byType.put(eventType, new PublisherIdSet(dictionary, ids));
+                }
+                publisherIdsByType.put(environment, byType);
+            }
+
+            return new Content(validAtMillis, publisherIdsByType);
+        } catch (BufferUnderflowException | IllegalArgumentException | NegativeArraySizeException e) {
+            throw new IOException("Truncated publisher index snapshot " + path, e);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        var bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        var bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,156 @@
+// Copyright 2026 Deutsche Telekom IT GmbH
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package de.telekom.horizon.starlight.cache;
+
+import de.telekom.eni.pandora.horizon.metrics.HorizonMetricsHelper;
+import de.telekom.eni.pandora.horizon.schema.SchemaStore;
+import de.telekom.horizon.starlight.service.validation.SchemaValidationEngine;
+import de.telekom.horizon.starlight.service.validation.SchemaValidator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import lombok.extern.slf4j.Slf4j;
+import org.everit.json.schema.Schema;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache of the schemas of the {@link SchemaStore} by environment, event type, hub and team.
+ *
+ * <p>A miss is loaded by the first request only; concurrent requests for the same key wait for that load instead of
+ * querying the schema store themselves. Failed loads are not cached. After the schema store has been polled,
+ * {@link #refresh()} reloads the cached keys on the polling thread and replaces entries whose schema changed, so
+ * request threads always read a complete entry and never wait for a refresh. Schemas are compared by content, as
+ * the schema store may return a new instance for an unchanged schema, which must not be compiled again.
+ *
+ * <p>Every schema is compiled by the configured {@link SchemaValidationEngine} when it is loaded, so requests reuse
+ * the compiled validator. Engines other than everit prepare a schema up front and only pay off if the result is
+ * reused, so the cache is always active with them, regardless of {@code starlight.features.schemaCache}.
+ */
+@Slf4j
+@Component
+@ConditionalOnExpression("${starlight.features.schemaCache:false} or '${starlight.schema.engine:everit}' != 'everit'")
+public class SchemaCache {
+
+    static final String METRIC_SCHEMA_CACHE_SIZE = "starlight_schema_cache_size";
+    static final String METRIC_SCHEMA_CACHE_LOADS = "starlight_schema_cache_loads";
+
+    private final SchemaStore schemaStore;
+
+    private final SchemaValidationEngine engine;
+
+    private final Counter loadCounter;
+
+    private final ConcurrentHashMap<SchemaKey, CompletableFuture<Optional<CachedSchema>>> schemas = new ConcurrentHashMap<>();
+
+    public SchemaCache(SchemaStore schemaStore, SchemaValidationEngine engine, HorizonMetricsHelper metricsHelper) {
+        this.schemaStore = schemaStore;
+        this.engine = engine;
+
+        var registry = metricsHelper.getRegistry();
+        this.loadCounter = registry.counter(METRIC_SCHEMA_CACHE_LOADS);
+        Gauge.builder(METRIC_SCHEMA_CACHE_SIZE, schemas, ConcurrentHashMap::size).register(registry);
+    }
+
+    /**
+     * Returns the schema of the given event type, loading it from the schema store on a miss.
+     *
+     * @return the schema, or {@code null} if the schema store has none
+     */
+    public Schema getSchema(String environment, String eventType, String hub, String team) {
+        var cached = get(new SchemaKey(environment, eventType, hub, team));
+
+        return cached != null ? cached.schema() : null;
+    }
+
+    /**
+     * Returns the compiled validator of the schema of the given event type, loading the schema on a miss.
+     *
+     * @return the validator, or {@code null} if the schema store has no schema
+     */
+    public SchemaValidator getValidator(String environment, String eventType, String hub, String team) {
+        var cached = get(new SchemaKey(environment, eventType, hub, team));
+
+        return cached != null ? cached.validator() : null;
+    }
+
+    private CachedSchema get(SchemaKey key) {
+        var future = schemas.get(key);
+        if (future == null) {
+            var loading = new CompletableFuture<Optional<CachedSchema>>();
+            future = schemas.putIfAbsent(key, loading);
+            if (future == null) {
+                future = loading;
+                load(key, loading);
+            }
+        }
+
+        try {
+            return future.join().orElse(null);
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException runtimeException ? runtimeException : e;
+        }
+    }
+
+    /**
+     * Reloads all cached schemas from the schema store and replaces the entries that changed.
+     */
+    public void refresh() {
+        var replaced = 0;
+
+        for (var entry : schemas.entrySet()) {
+            var current = entry.getValue();
+            if (!current.isDone() || current.isCompletedExceptionally()) {
+                continue;
+            }
+
+            var key = entry.getKey();
+            try {
+                var schema = loadSchema(key);
+                if (!Objects.equals(schema, current.join().map(CachedSchema::schema).orElse(null))) {
+                    schemas.replace(key, current, CompletableFuture.completedFuture(Optional.ofNullable(schema).map(this::compile)));
+                    replaced++;
+                }
+            } catch (RuntimeException e) {
+                log.warn("Could not refresh schema of event type {} in environment {}, keeping the cached one", key.eventType(), key.environment(), e);
+            }
+        }
+
+        log.debug("Refreshed schema cache, replaced {} of {} schemas", replaced, schemas.size());
+    }
+
+    private void load(SchemaKey key, CompletableFuture<Optional<CachedSchema>> loading) {
+        try {
+            loading.complete(Optional.ofNullable(loadSchema(key)).map(this::compile));
+        } catch (RuntimeException e) {
+            // the next request tries again
+            schemas.remove(key, loading);
+            loading.completeExceptionally(e);
+        }
+    }
+
+    private Schema loadSchema(SchemaKey key) {
+        loadCounter.increment();
+
+        return schemaStore.getSchemaForEventType(key.environment(), key.eventType(), key.hub(), key.team());
+    }
+
+    private CachedSchema compile(Schema schema) {
+        return new CachedSchema(schema, engine.compile(schema));
+    }
+
+    int size() {
+        return schemas.size();
+    }
+
+    record SchemaKey(String environment, String eventType, String hub, String team) {}
+
+    private record CachedSchema(Schema schema, SchemaValidator validator) {}
+}
@@ -12,6 +12,8 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.util.Optional;
+
 @Component
 @ConditionalOnProperty(name = "starlight.features.schemaValidation", havingValue = "true")
 @Slf4j
@@ -21,16 +23,23 @@ public class SchemaCacheUpdateService {
 
     private final SchemaStore schemaStore;
 
+    private final SchemaCache schemaCache;
+
     @Autowired
-    public SchemaCacheUpdateService(SchemaStore schemaStore, StarlightConfig starlightConfig) {
+    public SchemaCacheUpdateService(SchemaStore schemaStore, StarlightConfig starlightConfig, Optional<SchemaCache> schemaCache) {
         this.schemaStore = schemaStore;
         this.starlightConfig = starlightConfig;
+        this.schemaCache = schemaCache.orElse(null);
     }
 
     @Scheduled(fixedRateString = "${eniapi.refreshInterval}")
     protected void scheduledPollSchemas() {
         if(starlightConfig.isEnableSchemaValidation()) {
             schemaStore.pollSchemas();
+
+            if (schemaCache != null) {
+                schemaCache.refresh();
+            }
         }
     }
 }
@@ -0,0 +1,60 @@
+// Copyright 2026 Deutsche Telekom IT GmbH
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package de.telekom.horizon.starlight.cache;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Assigns dense integer IDs to strings, so that sets of strings can be stored as sorted {@code int} arrays.
+ *
+ * <p>Lookups are thread-safe and do not allocate. {@link #intern} must only be called by a single writer at a time;
+ * IDs are never reused or removed, the owner replaces the whole dictionary to compact it.
+ */
+final class StringDictionary {
+
+    private final ConcurrentHashMap<String, Integer> ids = new ConcurrentHashMap<>();
+
+    private volatile String[] values = new String[64];
+
+    // guarded by the owner's write lock
+    private int size;
+
+    /**
+     * Returns the ID of the given string, assigning a new one if it is not part of the dictionary yet.
+     */
+    int intern(String value) {
+        var id = ids.get(value);
+        if (id != null) {
+            return id;
+        }
+
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size * 2);
+        }
+        values[size] = value;
+        // publishing the ID last makes the value visible to readers that find the ID
+        ids.put(value, size);
+
+        return size++;
+    }
+
+    /**
+     * @return the ID of the given string, or {@code -1} if it is not part of the dictionary
+     */
+    int idOf(String value) {
+        var id = ids.get(value);
+
+        return id != null ? id : -1;
+    }
+
+    String valueOf(int id) {
+        return values[id];
+    }
+
+    int size() {
+        return ids.size();
+    }
+}
@@ -0,0 +1,69 @@
+// Copyright 2026 Deutsche Telekom IT GmbH
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package de.telekom.horizon.starlight.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hazelcast.core.HazelcastJsonValue;
+
+import java.util.Collection;
+
+/**
+ * Reads the fields of a subscription resource that are relevant for the ownership check straight from the
+ * value stored in Hazelcast, without binding the whole {@code SubscriptionResource}.
+ */
+final class SubscriptionJson {
+
+    static final String ATTRIBUTE_ENVIRONMENT = "spec.environment";
+    static final String ATTRIBUTE_TYPE = "spec.subscription.type";
+    static final String ATTRIBUTE_PUBLISHER_ID = "spec.subscription.publisherId";
+    static final String ATTRIBUTE_ADDITIONAL_PUBLISHER_IDS = "spec.subscription.additionalPublisherIds";
+
+    private SubscriptionJson() {
+    }
+
+    static JsonNode read(ObjectMapper objectMapper, Object value) throws JsonProcessingException {
+        if (value instanceof HazelcastJsonValue jsonValue) {
+            return objectMapper.readTree(jsonValue.getValue());
+        } else if (value instanceof String json) {
+            return objectMapper.readTree(json);
+        }
+
+        return objectMapper.valueToTree(value);
+    }
+
+    static String environment(JsonNode resource) {
+        return text(resource.at("/spec/environment"));
+    }
+
+    static String type(JsonNode resource) {
+        return text(resource.at("/spec/subscription/type"));
+    }
+
+    /**
+     * Adds the publisher ID and the additional publisher IDs of the subscription to {@code publisherIds}.
+     */
+    static void collectPublisherIds(JsonNode resource, Collection<String> publisherIds) {
+        var publisherId = text(resource.at("/spec/subscription/publisherId"));
+        if (publisherId != null) {
+            publisherIds.add(publisherId);
+        }
+
+        collectAdditionalPublisherIds(resource, publisherIds);
+    }
+
+    private static void collectAdditionalPublisherIds(JsonNode resource, Collection<String> publisherIds) {
+        resource.at("/spec/subscription/additionalPublisherIds").forEach(id -> {
+            if (id.isTextual()) {
+                publisherIds.add(id.asText());
+            }
+        });
+    }
+
+    private static String text(JsonNode node) {
+        return node.isTextual() ? node.asText() : null;
+    }
+}
@@ -45,6 +45,24 @@ public class StarlightConfig {
     @Value("#{'${starlight.payloadCheckExemptionList}'.split(',')}")
     private List<String> payloadCheckExemptionList;
 
+    @Value("${starlight.exemptedMaxPayloadSize:10485760}")
+    private long exemptedMaxPayloadSize;
+
+    @Value("${starlight.payloadEnvelopeAllowance:65536}")
+    private long payloadEnvelopeAllowance;
+
+    @Value("${starlight.batch.maxEvents:500}")
+    private int batchMaxEvents;
+
+    @Value("${starlight.batch.maxBytes:16777216}")
+    private long batchMaxBytes;
+
+    @Value("${starlight.publishing.maxInFlight:0}")
+    private int publishingMaxInFlight;
+
+    @Value("${starlight.publishing.inFlightAcquireTimeoutMs:0}")
+    private long publishingInFlightAcquireTimeoutMs;
+
     @PostConstruct
     void init() {
         compiledHeaderPropagationBlacklist = headerPropagationBlacklist.stream()
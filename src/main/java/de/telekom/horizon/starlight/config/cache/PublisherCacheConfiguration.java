@@ -0,0 +1,94 @@
+// Copyright 2026 Deutsche Telekom IT GmbH
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package de.telekom.horizon.starlight.config.cache;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Configuration of the lookups behind the event type ownership check.
+ *
+ * <p>Bound from the {@code starlight.publisher-cache} configuration tree. By default every publish queries
+ * the subscription cache; with {@link #indexEnabled} the publisher IDs are answered from
+ * {@link de.telekom.horizon.starlight.cache.PublisherIndex}, an in-process index that is kept up to date by
+ * Hazelcast entry listeners. With {@link #negativeCacheEnabled}, event types without subscriptions are
+ * remembered by {@link de.telekom.horizon.starlight.cache.NegativePublisherCache}. {@link #projectionEnabled}
+ * replaces the query for whole subscription resources with
+ * {@link de.telekom.horizon.starlight.cache.PublisherIdProjection}. With a {@link #snapshotPath}, the index is
+ * persisted to a local file and loaded from it on start.
+ */
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "starlight.publisher-cache")
+public class PublisherCacheConfiguration {
+
+    /**
+     * Answers ownership checks from the local index instead of querying the subscription cache.
+     */
+    private boolean indexEnabled = false;
+
+    /**
+     * Name of the Hazelcast map holding the subscription resources.
+     */
+    @NotBlank private String subscriptionMapName = "subscriptions.subscriber.horizon.telekom.de.v1";
+
+    /**
+     * Interval of the full rebuilds of the index, which also repair changes missed while the
+     * connection to Hazelcast was interrupted.
+     */
+    @Positive private long rebuildIntervalMs = 600_000;
+
+    /**
+     * File the index is periodically written to and loaded from on start. Snapshots are disabled if blank.
+     */
+    private String snapshotPath = "";
+
+    /**
+     * Interval of the snapshot writes. Unchanged indexes are not written again.
+     */
+    @Positive private long snapshotIntervalMs = 60_000;
+
+    /**
+     * Maximum time since the last successful rebuild (or since the rebuild a loaded snapshot was taken from)
+     * during which the index answers lookups. Must be larger than the rebuild interval.
+     */
+    @Positive private long maxStalenessMs = 3_600_000;
+
+    /**
+     * Remembers event types without subscriptions, so that repeated publishes of such a type are
+     * answered without a lookup.
+     */
+    private boolean negativeCacheEnabled = false;
+
+    /**
+     * How long an event type is remembered as having no subscriptions, unless a subscription is
+     * added or updated before.
+     */
+    @Positive private long negativeCacheTtlMs = 30_000;
+
+    /**
+     * Maximum number of event types remembered as having no subscriptions.
+     */
+    @Positive private int negativeCacheMaxSize = 10_000;
+
+    /**
+     * Queries only the publisher IDs (projection) instead of whole subscription resources whenever the
+     * ownership check is not answered by the index.
+     */
+    private boolean projectionEnabled = false;
+
+    /**
+     * Creates a compound hash index on {@code spec.environment} and {@code spec.subscription.type}
+     * for the projection query. The index is created in the whole cluster, so it is off by default.
+     */
+    private boolean projectionCreateIndex = false;
+}
@@ -0,0 +1,39 @@
+// Copyright 2026 Deutsche Telekom IT GmbH
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package de.telekom.horizon.starlight.config.jackson;
+
+import com.fasterxml.jackson.core.StreamReadConstraints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Limits what the {@code ObjectMapper} accepts while parsing request bodies, so that deeply nested or huge
+ * documents are rejected by the parser instead of being materialized. Defaults are the ones of Jackson.
+ */
+@Configuration
+public class JsonReadConstraintsConfig {
+
+    @Value("${starlight.json.maxNestingDepth:1000}")
+    private int maxNestingDepth;
+
+    @Value("${starlight.json.maxStringLength:20000000}")
+    private int maxStringLength;
+
+    @Value("${starlight.json.maxNumberLength:1000}")
+    private int maxNumberLength;
+
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer jsonReadConstraintsCustomizer() {
+        var constraints = StreamReadConstraints.builder()
+                .maxNestingDepth(maxNestingDepth)
+                .maxStringLength(maxStringLength)
+                .maxNumberLength(maxNumberLength)
+                .build();
+
+        return builder -> builder.postConfigurer(objectMapper -> objectMapper.getFactory().setStreamReadConstraints(constraints));
+    }
+}
@@ -0,0 +1,37 @@
+// Copyright 2026 Deutsche Telekom IT GmbH
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package de.telekom.horizon.starlight.config.jackson;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import de.telekom.eni.pandora.horizon.model.event.Event;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Keeps {@code event.data} as raw JSON ({@link de.telekom.horizon.starlight.model.RawEventData}) when
+ * {@code starlight.features.rawEventData} is enabled, so that the common publish path (no schema validation,
+ * no Spectre rule) never builds an object tree for the payload.
+ */
+@Configuration
+@ConditionalOnProperty(value = "starlight.features.rawEventData", havingValue = "true")
+@Slf4j
+public class RawEventDataConfig {
+
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer rawEventDataCustomizer() {
+        log.info("Keeping event data as raw JSON");
+
+        return builder -> builder.mixIn(Event.class, EventMixin.class);
+    }
+
+    abstract static class EventMixin {
+
+        @JsonDeserialize(using = RawEventDataDeserializer.class)
+        private Object data;
+    }
+}
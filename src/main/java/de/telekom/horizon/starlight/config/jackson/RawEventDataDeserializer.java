@@ -0,0 +1,37 @@
+// Copyright 2026 Deutsche Telekom IT GmbH
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package de.telekom.horizon.starlight.config.jackson;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import de.telekom.horizon.starlight.model.RawEventData;
+
+import java.io.IOException;
+
+/**
+ * Copies the tokens of {@code event.data} into a {@link RawEventData} holder instead of building maps and lists.
+ * The copy is compact JSON, i.e. it has exactly the size that re-serializing the parsed data would have had.
+ */
+public class RawEventDataDeserializer extends StdDeserializer<Object> {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    public RawEventDataDeserializer() {
+        super(Object.class);
+    }
+
+    @Override
+    public Object deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        try (var out = new ByteArrayBuilder(); var generator = JSON_FACTORY.createGenerator(out)) {
+            generator.copyCurrentStructure(p);
+            generator.flush();
+
+            return new RawEventData(out.toByteArray());
+        }
+    }
+}
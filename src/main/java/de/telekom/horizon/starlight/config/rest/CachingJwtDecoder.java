@@ -0,0 +1,106 @@
+// Copyright 2026 Deutsche Telekom IT GmbH
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package de.telekom.horizon.starlight.config.rest;
+
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.util.Base64;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers successfully decoded and verified tokens until they expire, so that a client reusing its access token
+ * for many requests only pays for the signature verification once.
+ *
+ * <p>Tokens are keyed by their SHA-256 hash, so raw tokens are not kept in memory. Only tokens with an expiry are
+ * cached, and a cached token is no longer served once it has expired. The cache holds at most {@code maxSize}
+ * tokens; when it is full, expired tokens are removed (at most once per second) and new tokens are only verified,
+ * not cached, until there is room again.
+ */
+public class CachingJwtDecoder implements JwtDecoder {
+
+    private static final long SWEEP_INTERVAL_MS = 1_000;
+
+    private final JwtDecoder delegate;
+
+    private final int maxSize;
+
+    private final Clock clock;
+
+    private final ConcurrentHashMap<String, Jwt> verifiedTokens = new ConcurrentHashMap<>();
+
+    private volatile long lastSweepMillis;
+
+    public CachingJwtDecoder(JwtDecoder delegate, int maxSize) {
+        this(delegate, maxSize, Clock.systemUTC());
+    }
+
+    CachingJwtDecoder(JwtDecoder delegate, int maxSize, Clock clock) {
+        this.delegate = delegate;
+        this.maxSize = maxSize;
+        this.clock = clock;
+    }
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        var key = hash(token);
+
+        var jwt = verifiedTokens.get(key);
+        if (jwt != null) {
+            if (isValid(jwt)) {
+                return jwt;
+            }
+            verifiedTokens.remove(key, jwt);
+        }
+
+        jwt = delegate.decode(token);
+        if (jwt.getExpiresAt() != null) {
+            if (verifiedTokens.size() >= maxSize) {
+                removeExpired();
+            }
+            if (verifiedTokens.size() < maxSize) {
+                verifiedTokens.put(key, jwt);
+            }
+        }
+
+        return jwt;
+    }
+
+    int size() {
+        return verifiedTokens.size();
+    }
+
+    private boolean isValid(Jwt jwt) {
+        var now = clock.instant();
+
+        return now.isBefore(jwt.getExpiresAt()) && (jwt.getNotBefore() == null || !now.isBefore(jwt.getNotBefore()));
+    }
+
+    private void removeExpired() {
+        var now = clock.millis();
+        if (now - lastSweepMillis < SWEEP_INTERVAL_MS) {
+            return;
+        }
+        lastSweepMillis = now;
+
+        verifiedTokens.values().removeIf(jwt -> !isValid(jwt));
+    }
+
+    private static String hash(String token) {
+        try {
+            var digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+
+            return Base64.getEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            // every Java platform supports SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+}
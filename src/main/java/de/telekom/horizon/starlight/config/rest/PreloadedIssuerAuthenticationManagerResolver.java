@@ -0,0 +1,203 @@
+// Copyright 2026 Deutsche Telekom IT GmbH
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package de.telekom.horizon.starlight.config.rest;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.jwk.JWKMatcher;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.jwk.source.JWKSourceBuilder;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jose.util.DefaultResourceRetriever;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.AuthenticationManagerResolver;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtDecoders;
+import org.springframework.security.oauth2.jwt.JwtValidators;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationProvider;
+import org.springframework.security.oauth2.server.resource.authentication.JwtIssuerAuthenticationManagerResolver;
+import org.springframework.web.client.RestClient;
+
+import java.io.File;
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolves the {@link AuthenticationManager} of a trusted issuer, with the issuer metadata and JWK set loaded at
+ * startup instead of on the first request of every issuer.
+ *
+ * <p>The JWK sets are cached and refreshed in the background before the cache expires, so a request never waits for
+ * the identity provider while the keys do not change. If a JWK set file is configured, it is used for all issuers
+ * and no discovery happens at all, which allows tests without an identity provider. Issuers whose discovery fails at
+ * startup are discovered lazily on their first request, like {@link JwtIssuerAuthenticationManagerResolver#fromTrustedIssuers} does.
+ *
+ * <p>The issuers are preloaded one after another while the security filter chain is created, so every request to an
+ * identity provider is bounded by the HTTP timeout; an unreachable issuer delays the startup by at most a few
+ * timeouts instead of blocking it.
+ */
+@Slf4j
+public class PreloadedIssuerAuthenticationManagerResolver implements AuthenticationManagerResolver<String> {
+
+    private static final Set<JWSAlgorithm> ALGORITHMS = Set.of(
+            JWSAlgorithm.RS256, JWSAlgorithm.RS384, JWSAlgorithm.RS512,
+            JWSAlgorithm.ES256, JWSAlgorithm.ES384, JWSAlgorithm.ES512);
+
+    private static final String DISCOVERY_PATH = "/.well-known/openid-configuration";
+
+    private final Set<String> trustedIssuers;
+
+    private final String jwksFile;
+
+    private final long cacheTtlMs;
+
+    private final long refreshAheadMs;
+
+    private final int tokenCacheMaxSize;
+
+    private final int httpTimeoutMs;
+
+    private final RestClient restClient;
+
+    private final Map<String, AuthenticationManager> authenticationManagers = new ConcurrentHashMap<>();
+
+    /**
+     * @param trustedIssuers    the issuers whose tokens are accepted
+     * @param jwksFile          optional JWK set file used for all issuers instead of discovery
+     * @param cacheTtlMs        how long a downloaded JWK set is used
+     * @param refreshAheadMs    how long before the expiry of a cached JWK set it is refreshed in the background
+     * @param tokenCacheMaxSize maximum number of verified tokens kept per issuer by a {@link CachingJwtDecoder},
+     *                          or {@code 0} to verify every token
+     * @param httpTimeoutMs     connect and read timeout of the requests for issuer metadata and JWK sets
+     */
+    public PreloadedIssuerAuthenticationManagerResolver(List<String> trustedIssuers, String jwksFile, long cacheTtlMs,
+                                                        long refreshAheadMs, int tokenCacheMaxSize, int httpTimeoutMs) {
+        this.trustedIssuers = Set.copyOf(trustedIssuers);
+        this.jwksFile = jwksFile == null || jwksFile.isBlank() ? null : jwksFile;
+        this.cacheTtlMs = cacheTtlMs;
+        this.refreshAheadMs = refreshAheadMs;
+        this.tokenCacheMaxSize = tokenCacheMaxSize;
+        this.httpTimeoutMs = httpTimeoutMs;
+
+        var requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(httpTimeoutMs);
+        requestFactory.setReadTimeout(httpTimeoutMs);
+        this.restClient = RestClient.builder().requestFactory(requestFactory).build();
+    }
+
+    /**
+     * Discovers all trusted issuers and downloads their JWK sets. Failures are logged, the affected issuers are
+     * retried on their first request.
+     */
+    public void preload() {
+        for (var issuer : trustedIssuers) {
+            try {
+                authenticationManagers.computeIfAbsent(issuer, i -> createAuthenticationManager(i, true));
+                log.info("Preloaded issuer {}", issuer);
+            } catch (RuntimeException e) {
+                log.warn("Could not preload issuer {}, it will be discovered on the first request", issuer, e);
+            }
+        }
+    }
+
+    @Override
+    public AuthenticationManager resolve(String issuer) {
+        if (!trustedIssuers.contains(issuer)) {
+            return null;
+        }
+
+        var authenticationManager = authenticationManagers.get(issuer);
+        if (authenticationManager != null) {
+            return authenticationManager;
+        }
+
+        return authenticationManagers.computeIfAbsent(issuer, i -> createAuthenticationManager(i, false));
+    }
+
+    /**
+     * @return a resolver for requests, which reads the issuer from the bearer token
+     */
+    public AuthenticationManagerResolver<HttpServletRequest> toRequestResolver() {
+        return new JwtIssuerAuthenticationManagerResolver(this);
+    }
+
+    private AuthenticationManager createAuthenticationManager(String issuer, boolean eager) {
+        var decoder = createDecoder(issuer, eager);
+        if (tokenCacheMaxSize > 0) {
+            decoder = new CachingJwtDecoder(decoder, tokenCacheMaxSize);
+        }
+
+        var provider = new JwtAuthenticationProvider(decoder);
+
+        return provider::authenticate;
+    }
+
+    private JwtDecoder createDecoder(String issuer, boolean eager) {
+        if (jwksFile == null && !eager) {
+            // fallback for issuers that could not be discovered at startup
+            return JwtDecoders.fromIssuerLocation(issuer);
+        }
+
+        try {
+            var jwkSource = jwksFile != null ? loadJwkSet() : remoteJwkSet(issuer);
+
+            var processor = new DefaultJWTProcessor<SecurityContext>();
+            processor.setJWSKeySelector(new JWSVerificationKeySelector<>(ALGORITHMS, jwkSource));
+            // claims are validated by the JwtValidators below
+            processor.setJWTClaimsSetVerifier((claims, context) -> {});
+
+            var decoder = new NimbusJwtDecoder(processor);
+            decoder.setJwtValidator(JwtValidators.createDefaultWithIssuer(issuer));
+
+            return decoder;
+        } catch (Exception e) {
+            throw new IllegalStateException("Could not load the JWK set of issuer " + issuer, e);
+        }
+    }
+
+    private JWKSource<SecurityContext> loadJwkSet() throws Exception {
+        return new ImmutableJWKSet<>(JWKSet.load(new File(jwksFile)));
+    }
+
+    private JWKSource<SecurityContext> remoteJwkSet(String issuer) throws Exception {
+        var configuration = restClient.get()
+                .uri(discoveryUri(issuer))
+                .retrieve()
+                .body(new ParameterizedTypeReference<Map<String, Object>>() {});
+
+        if (configuration == null || !issuer.equals(configuration.get("issuer")) || !(configuration.get("jwks_uri") instanceof String jwksUri)) {
+            throw new IllegalStateException("Issuer metadata of " + issuer + " does not match the issuer or lacks a jwks_uri");
+        }
+
+        var resourceRetriever = new DefaultResourceRetriever(httpTimeoutMs, httpTimeoutMs, JWKSourceBuilder.DEFAULT_HTTP_SIZE_LIMIT);
+        JWKSource<SecurityContext> jwkSource = JWKSourceBuilder.<SecurityContext>create(URI.create(jwksUri).toURL(), resourceRetriever)
+                .cache(cacheTtlMs, JWKSourceBuilder.DEFAULT_CACHE_REFRESH_TIMEOUT)
+                .refreshAheadCache(refreshAheadMs, true)
+                .retrying(true)
+                .build();
+
+        // populates the cache, which is refreshed in the background from now on
+        jwkSource.get(new JWKSelector(new JWKMatcher.Builder().build()), null);
+
+        return jwkSource;
+    }
+
+    private static URI discoveryUri(String issuer) {
+        var base = issuer.endsWith("/") ? issuer.substring(0, issuer.length() - 1) : issuer;
+
+        return URI.create(base + DISCOVERY_PATH);
+    }
+}
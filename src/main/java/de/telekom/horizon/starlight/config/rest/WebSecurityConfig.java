@@ -16,7 +16,6 @@ import org.springframework.security.config.annotation.method.configuration.Enabl
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
-import org.springframework.security.oauth2.server.resource.authentication.JwtIssuerAuthenticationManagerResolver;
 import org.springframework.security.web.SecurityFilterChain;
 
 import java.util.List;
@@ -35,6 +34,21 @@ public class WebSecurityConfig {
     @Value("#{'${starlight.security.issuerUrls}'.split(',')}")
     private List<String> issuerUrls;
 
+    @Value("${starlight.security.jwks.file:}")
+    private String jwksFile;
+
+    @Value("${starlight.security.jwks.cacheTtlMs:300000}")
+    private long jwksCacheTtlMs;
+
+    @Value("${starlight.security.jwks.refreshAheadMs:30000}")
+    private long jwksRefreshAheadMs;
+
+    @Value("${starlight.security.tokenCache.maxSize:0}")
+    private int tokenCacheMaxSize;
+
+    @Value("${starlight.security.issuerHttpTimeoutMs:5000}")
+    private int issuerHttpTimeoutMs;
+
     @Bean
     protected SecurityFilterChain gatesSecurityFilterChain(HttpSecurity http) throws Exception {
         log.info("configure security {}", (enableOauth ? "ON" : "OFF") );
@@ -43,7 +57,9 @@ public class WebSecurityConfig {
 
         if (enableOauth) {
 
-            var jwtIssuerAuthenticationManagerResolver = JwtIssuerAuthenticationManagerResolver.fromTrustedIssuers(issuerUrls);
+            var issuerResolver = new PreloadedIssuerAuthenticationManagerResolver(issuerUrls, jwksFile, jwksCacheTtlMs, jwksRefreshAheadMs, tokenCacheMaxSize, issuerHttpTimeoutMs);
+            issuerResolver.preload();
+            var jwtIssuerAuthenticationManagerResolver = issuerResolver.toRequestResolver();
 
             http.authorizeHttpRequests(authorizeRequests -> authorizeRequests
                             .requestMatchers(toAnyEndpoint()).permitAll()
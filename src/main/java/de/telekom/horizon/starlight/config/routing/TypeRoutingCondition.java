@@ -0,0 +1,50 @@
+// Copyright 2026 Deutsche Telekom IT GmbH
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package de.telekom.horizon.starlight.config.routing;
+
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * A condition on a single field of {@code event.data}, addressed by a JSON pointer (RFC 6901). The field has to be
+ * a string, number or boolean, which is compared by its string representation. Exactly one of {@link #equals},
+ * {@link #prefix} and {@link #in} has to be set.
+ */
+@Getter
+@Setter
+public class TypeRoutingCondition {
+
+    /**
+     * JSON pointer of the field, e.g. {@code /issue} or {@code /request/headers/x-tenant}.
+     */
+    @NotBlank
+    @Pattern(regexp = "(/[^/]*)+")
+    private String pointer;
+
+    /**
+     * The field has to be equal to this value.
+     */
+    private String equals;
+
+    /**
+     * The field has to start with this value.
+     */
+    private String prefix;
+
+    /**
+     * The field has to be equal to one of these values.
+     */
+    private List<String> in;
+
+    @AssertTrue(message = "exactly one of equals, prefix and in must be set")
+    public boolean isExactlyOnePredicate() {
+        return (equals != null ? 1 : 0) + (prefix != null ? 1 : 0) + (in != null && !in.isEmpty() ? 1 : 0) == 1;
+    }
+}
@@ -0,0 +1,44 @@
+// Copyright 2026 Deutsche Telekom IT GmbH
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package de.telekom.horizon.starlight.config.routing;
+
+import jakarta.validation.Valid;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuration of the content-based type routing applied at publish time.
+ *
+ * <p>Bound from the {@code starlight.type-routing} configuration tree. When enabled,
+ * {@link de.telekom.horizon.starlight.service.routing.TypeRoutingService} rewrites the type of an event to the
+ * target type of the first rule whose publisher, source type and conditions on {@code event.data} match, so that
+ * Galaxy can route it by type instead of evaluating a content filter per subscription.
+ *
+ * <p>Type routing is the second of two rewrite stages and runs after the Spectre direct-publish, on the type that
+ * stage produced. A rule whose source type is a Spectre target type thus refines direct-published events, and
+ * events Spectre left untouched can still be routed by content. The Spectre stage stays separate for its fixed
+ * selection, its {@code issue-prefix} matching, the reloadable rules file and its diagnostics.
+ */
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "starlight.type-routing")
+public class TypeRoutingConfiguration {
+
+    /**
+     * Rewrites event types according to {@link #rules}.
+     */
+    private boolean enabled = false;
+
+    /**
+     * The routing rules; the first matching rule in this order wins.
+     */
+    private List<@Valid TypeRoutingRule> rules = new ArrayList<>();
+}
@@ -0,0 +1,47 @@
+// Copyright 2026 Deutsche Telekom IT GmbH
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package de.telekom.horizon.starlight.config.routing;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Pattern;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A type routing rule: events of {@link #sourceType} published by {@link #publisherId} whose data satisfies all
+ * {@link #conditions} are published as {@link #targetEventType} instead.
+ */
+@Getter
+@Setter
+public class TypeRoutingRule {
+
+    /**
+     * The event type to rewrite to. Must satisfy the Horizon event-type charset and must have a subscription that
+     * authorises the publisher.
+     */
+    @NotBlank
+    @Pattern(regexp = "[a-zA-Z0-9.-]+")
+    private String targetEventType;
+
+    /**
+     * Only events of this publisher are routed (exact equality).
+     */
+    @NotBlank private String publisherId;
+
+    /**
+     * Only events of this type are routed (exact equality).
+     */
+    @NotBlank private String sourceType;
+
+    /**
+     * Conditions on {@code event.data} that all have to be satisfied.
+     */
+    @NotEmpty private List<@Valid TypeRoutingCondition> conditions = new ArrayList<>();
+}
@@ -0,0 +1,56 @@
+// Copyright 2026 Deutsche Telekom IT GmbH
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package de.telekom.horizon.starlight.config.schema;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Configuration of the sampled schema validation.
+ *
+ * <p>Bound from the {@code starlight.schema.sampling} configuration tree. When enabled and schema validation is not
+ * enforced, {@link de.telekom.horizon.starlight.service.SampledSchemaValidationService} validates only a sample of
+ * the events, in the background after Kafka acknowledged them.
+ */
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "starlight.schema.sampling")
+public class SchemaSamplingConfiguration {
+
+    /**
+     * Validates a sample of the events in the background instead of every event on the request thread, as long as
+     * schema validation is not enforced.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Share of the events of an event type without an own rate that is validated, between 0 and 1.
+     */
+    @DecimalMin("0") @DecimalMax("1") private double defaultRate = 0.1;
+
+    /**
+     * Share of the events that is validated, by event type.
+     */
+    private Map<String, Double> rates = new HashMap<>();
+
+    /**
+     * Number of background threads validating the sampled events.
+     */
+    @Positive private int threads = 1;
+
+    /**
+     * Maximum number of sampled events waiting for validation. Further samples are dropped.
+     */
+    @Positive private int queueCapacity = 1_000;
+}
@@ -6,6 +6,7 @@ package de.telekom.horizon.starlight.config.spectre;
 
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
 
 import lombok.Getter;
 import lombok.Setter;
@@ -68,4 +69,18 @@ public class SpectreDirectPublishConfiguration {
      * values rather than environment variables.
      */
     private List<@Valid SpectreDirectPublishRule> rules = new ArrayList<>();
+
+    /**
+     * Optional YAML file with a top-level {@code rules} list in the same format as {@link #rules}
+     * (typically a mounted config-map). When set, its rules replace {@link #rules} and changes to
+     * the file are picked up at runtime by {@link
+     * de.telekom.horizon.starlight.service.SpectreDirectPublishRuleLoader}, without a restart. A
+     * file with an invalid rule is rejected as a whole and the previous rules stay active.
+     */
+    private String rulesFile = "";
+
+    /**
+     * How often {@link #rulesFile} is checked for changes.
+     */
+    @Positive private long rulesFileCheckIntervalMs = 10_000;
 }
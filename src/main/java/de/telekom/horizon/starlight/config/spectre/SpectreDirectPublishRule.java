@@ -4,6 +4,7 @@
 
 package de.telekom.horizon.starlight.config.spectre;
 
+import jakarta.validation.constraints.AssertTrue;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Pattern;
 
@@ -15,10 +16,12 @@ import lombok.Setter;
  * plus the consuming and providing apps) and the dedicated event type its events should be
  * published under.
  *
- * <p>All four fields are <b>required</b>; an incompletely specified rule fails validation at
- * startup (see {@link SpectreDirectPublishConfiguration}). Matching is exact equality against the
+ * <p>The target event type, consumer, provider and exactly one of {@code issue} and {@code
+ * issue-prefix} are <b>required</b>; an incompletely specified rule fails validation at startup
+ * (see {@link SpectreDirectPublishConfiguration}). Matching is exact equality against the
  * top-level {@code issue}, {@code consumer} and {@code provider} fields of a Spectre event's {@code
- * event.data} ({@code SpectreData}).
+ * event.data} ({@code SpectreData}), except that a rule with an {@code issue-prefix} matches every
+ * base-path below the prefix.
  *
  * @see SpectreDirectPublishConfiguration
  */
@@ -40,7 +43,17 @@ public class SpectreDirectPublishRule {
      * The tapped API base-path. Matched for exact equality against {@code event.data.issue} (which,
      * for REST wiretaps, is the gateway's {@code apiBasePath}).
      */
-    @NotBlank private String issue;
+    @Pattern(regexp = ".*\\S.*")
+    private String issue;
+
+    /**
+     * A base-path prefix, matched by whole path segments against {@code event.data.issue}: {@code
+     * /eni/foo} covers {@code /eni/foo} and {@code /eni/foo/v1}, but not {@code /eni/foobar}. When
+     * several prefix rules cover an issue, the longest prefix wins; an exact {@link #issue} rule
+     * always takes precedence.
+     */
+    @Pattern(regexp = ".*\\S.*")
+    private String issuePrefix;
 
     /**
      * The consuming app id (the caller's token {@code clientId}). Matched for exact equality
@@ -53,4 +66,9 @@ public class SpectreDirectPublishRule {
      * against {@code event.data.provider}.
      */
     @NotBlank private String provider;
+
+    @AssertTrue(message = "exactly one of issue and issue-prefix must be set")
+    public boolean isIssueOrIssuePrefix() {
+        return (issue != null) != (issuePrefix != null);
+    }
 }
@@ -0,0 +1,53 @@
+// Copyright 2026 Deutsche Telekom IT GmbH
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package de.telekom.horizon.starlight.config.spectre;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.Positive;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Configuration of the heavy-hitter detection on the generic Spectre stream.
+ *
+ * <p>Bound from the {@code starlight.spectre.heavy-hitters} configuration tree. When enabled,
+ * {@link de.telekom.horizon.starlight.service.SpectreDirectPublishService} feeds the selection of
+ * every event that passes the direct-publish gates but is not rewritten into {@link
+ * de.telekom.horizon.starlight.service.SpectreHeavyHitters}, which keeps the most frequent and the
+ * largest selections in bounded memory. The {@code spectreHeavyHitters} actuator endpoint lists
+ * them as candidates for direct-publish rules. Works with direct-publish enabled or disabled.
+ */
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "starlight.spectre.heavy-hitters")
+public class SpectreHeavyHittersConfiguration {
+
+    /**
+     * Tracks the heaviest selections of the generic Spectre stream.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Number of selections tracked per ranking and stripe. Selections occurring more often than
+     * once per {@code capacity} sampled events of a stripe are guaranteed to be tracked.
+     */
+    @Positive private int capacity = 1_000;
+
+    /**
+     * Number of selections the actuator endpoint lists unless a limit is requested.
+     */
+    @Positive private int top = 20;
+
+    /**
+     * Fraction of the events that is recorded. Unsampled events skip the payload parsing when
+     * direct-publish is disabled; the report scales the sampled weights back to the full stream.
+     */
+    @Positive @DecimalMax("1.0") private double sampleRate = 0.1;
+}
@@ -0,0 +1,55 @@
+// Copyright 2026 Deutsche Telekom IT GmbH
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package de.telekom.horizon.starlight.config.warmup;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Configuration of the warm-up phase that gates the readiness probe after start.
+ *
+ * <p>Bound from the {@code starlight.warm-up} configuration tree. When enabled,
+ * {@link de.telekom.horizon.starlight.service.WarmUpService} fetches the Kafka metadata of all publishing topics,
+ * preloads the publisher ownership data and the schemas, and runs synthetic publishes through the publish path
+ * without writing to Kafka.
+ */
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "starlight.warm-up")
+public class WarmUpConfiguration {
+
+    /**
+     * Holds back readiness until the warm-up has finished or timed out.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Maximum duration of the warm-up. Starlight reports ready once it has passed, even if the warm-up is not
+     * finished yet.
+     */
+    @Positive private long timeoutMs = 60_000;
+
+    /**
+     * Number of synthetic events that are run through the checks and the serialization of the publish path.
+     */
+    @PositiveOrZero private int syntheticPublishes = 2_000;
+
+    /**
+     * Event type of the synthetic events. It needs no subscription, as the synthetic events skip the ownership
+     * check. A type with a schema for the hub and team of {@link #publisherId} also warms up the schema validation.
+     */
+    @NotBlank private String eventType = "de.telekom.horizon.starlight.warmup.v1";
+
+    /**
+     * Publisher ID of the synthetic events.
+     */
+    @NotBlank private String publisherId = "eni--horizon--starlight-warmup";
+}
@@ -9,4 +9,8 @@ public class EventNotCompliantWithSchemaException extends HorizonStarlightExcept
     public EventNotCompliantWithSchemaException(String message, Throwable t) {
         super(message, t);
     }
+
+    public EventNotCompliantWithSchemaException(String message) {
+        super(message);
+    }
 }
@@ -0,0 +1,18 @@
+// Copyright 2026 Deutsche Telekom IT GmbH
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package de.telekom.horizon.starlight.exception;
+
+import java.io.IOException;
+
+/**
+ * Thrown while reading a request body that exceeds the allowed size. Being an {@link IOException}, it aborts
+ * deserialization of the body as soon as the limit is reached.
+ */
+public class RequestBodyTooLargeException extends IOException {
+
+    public RequestBodyTooLargeException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,12 @@
+// Copyright 2026 Deutsche Telekom IT GmbH
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package de.telekom.horizon.starlight.exception;
+
+public class TooManyPublishesInFlightException extends HorizonStarlightException {
+
+    public TooManyPublishesInFlightException(String message) {
+        super(message);
+    }
+}
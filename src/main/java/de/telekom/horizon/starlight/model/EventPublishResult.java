@@ -0,0 +1,62 @@
+// Copyright 2026 Deutsche Telekom IT GmbH
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package de.telekom.horizon.starlight.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+/**
+ * The outcome of publishing a single event as part of a multi-event request.
+ *
+ * <p>{@link #status} carries the HTTP status code the event would have received when published on its own
+ * via {@code POST /v1/{environment}/events}, and {@link #title} the corresponding problem title, so that
+ * publishers can retry exactly the events that failed.
+ */
+@Getter
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class EventPublishResult {
+
+    /**
+     * The {@code id} of the event, if it could be read from the request.
+     */
+    private final String id;
+
+    /**
+     * The HTTP status code for this event.
+     */
+    private final int status;
+
+    /**
+     * A short description of the problem; {@code null} when the event has been published.
+     */
+    private final String title;
+
+    /**
+     * The position of the event within a stream of events (starting at 0); {@code null} for batch results,
+     * where the position in the response equals the position in the request.
+     */
+    private final Long index;
+
+    public static EventPublishResult created(String id) {
+        return new EventPublishResult(id, HttpStatus.CREATED.value(), null, null);
+    }
+
+    public static EventPublishResult failed(String id, HttpStatus status, String title) {
+        return new EventPublishResult(id, status.value(), title, null);
+    }
+
+    public EventPublishResult atIndex(long index) {
+        return new EventPublishResult(id, status, title, index);
+    }
+
+    @JsonIgnore
+    public boolean isCreated() {
+        return status == HttpStatus.CREATED.value();
+    }
+}
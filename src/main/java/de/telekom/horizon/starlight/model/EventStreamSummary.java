@@ -0,0 +1,50 @@
+// Copyright 2026 Deutsche Telekom IT GmbH
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package de.telekom.horizon.starlight.model;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The outcome of publishing a stream of events ({@code application/x-ndjson}).
+ *
+ * <p>Since a stream is unbounded, only the counters and the failed events are reported. The list of failures
+ * is capped, {@link #failed} always contains the total number.
+ */
+@Getter
+public class EventStreamSummary {
+
+    private long received;
+
+    private long created;
+
+    private long failed;
+
+    private final List<EventPublishResult> failures = new ArrayList<>();
+
+    @Getter(AccessLevel.NONE)
+    private final int maxReportedFailures;
+
+    public EventStreamSummary(int maxReportedFailures) {
+        this.maxReportedFailures = maxReportedFailures;
+    }
+
+    public void add(EventPublishResult result) {
+        received++;
+
+        if (result.isCreated()) {
+            created++;
+        } else {
+            failed++;
+
+            if (failures.size() < maxReportedFailures) {
+                failures.add(result);
+            }
+        }
+    }
+}
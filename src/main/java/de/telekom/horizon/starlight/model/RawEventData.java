@@ -0,0 +1,123 @@
+// Copyright 2026 Deutsche Telekom IT GmbH
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package de.telekom.horizon.starlight.model;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.WritableTypeId;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Holds {@code event.data} as the JSON it was received as, instead of a tree of maps and lists.
+ *
+ * <p>Used when {@code starlight.features.rawEventData} is enabled. The JSON is a compact copy of the received
+ * tokens (see {@code RawEventDataDeserializer}), not the received bytes. It is written as a raw value whenever
+ * the event is serialized (e.g. by the {@code EventWriter}), and only parsed on demand by {@link #getValue()}
+ * when a component actually needs to look at the fields. The parsed value is cached, so several consumers of
+ * the same event only parse it once.
+ *
+ * <p>The {@code EventWriter} serializes messages to a {@code String}, so writing the holder decodes the UTF-8
+ * bytes into the generator's characters. This is done in chunks, so no {@code String} of the whole data is built
+ * in addition to the serialized message.
+ */
+public final class RawEventData implements JsonSerializable {
+
+    private static final ObjectMapper VALUE_MAPPER = new ObjectMapper();
+
+    private static final int DECODE_CHUNK_SIZE = 4096;
+
+    private final byte[] json;
+
+    private volatile Object value;
+
+    public RawEventData(byte[] json) {
+        this.json = json;
+    }
+
+    /**
+     * @return the size of the serialized data in bytes
+     */
+    public int size() {
+        return json.length;
+    }
+
+    public String asString() {
+        return new String(json, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Parses the data into a Jackson tree. Unlike {@link #getValue()}, the result is not cached.
+     */
+    public JsonNode readTree(ObjectMapper objectMapper) throws IOException {
+        return objectMapper.readTree(json);
+    }
+
+    /**
+     * Parses the data into maps, lists and scalars, as it would have been deserialized without this holder.
+     */
+    public Object getValue() {
+        var result = value;
+        if (result == null) {
+            try {
+                result = VALUE_MAPPER.readValue(json, Object.class);
+            } catch (IOException e) {
+                // the bytes have been produced by a JsonGenerator, so this cannot happen for valid input
+                throw new UncheckedIOException(e);
+            }
+            value = result;
+        }
+
+        return result;
+    }
+
+    @Override
+    public void serialize(JsonGenerator gen, SerializerProvider serializers) throws IOException {
+        var decoder = StandardCharsets.UTF_8.newDecoder();
+        var in = ByteBuffer.wrap(json);
+        var chunk = CharBuffer.allocate(Math.min(json.length, DECODE_CHUNK_SIZE));
+
+        var first = true;
+        while (true) {
+            var result = decoder.decode(in, chunk, true);
+            if (result.isError()) {
+                result.throwException();
+            }
+
+            if (first) {
+                gen.writeRawValue(chunk.array(), 0, chunk.position());
+                first = false;
+            } else {
+                gen.writeRaw(chunk.array(), 0, chunk.position());
+            }
+            chunk.clear();
+
+            if (result.isUnderflow()) {
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void serializeWithType(JsonGenerator gen, SerializerProvider serializers, TypeSerializer typeSer) throws IOException {
+        WritableTypeId typeId = typeSer.writeTypePrefix(gen, typeSer.typeId(this, JsonToken.VALUE_EMBEDDED_OBJECT));
+        serialize(gen, serializers);
+        typeSer.writeTypeSuffix(gen, typeId);
+    }
+
+    @Override
+    public String toString() {
+        return asString();
+    }
+}
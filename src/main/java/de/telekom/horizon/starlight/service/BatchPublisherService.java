@@ -0,0 +1,288 @@
+// Copyright 2026 Deutsche Telekom IT GmbH
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package de.telekom.horizon.starlight.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.telekom.eni.pandora.horizon.model.event.Event;
+import de.telekom.eni.pandora.horizon.model.event.PublishedEventMessage;
+import de.telekom.eni.pandora.horizon.tracing.HorizonTracer;
+import de.telekom.horizon.starlight.exception.*;
+import de.telekom.horizon.starlight.model.EventPublishResult;
+import de.telekom.horizon.starlight.model.EventStreamSummary;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.tuple.Pair;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.util.MultiValueMap;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Consumer;
+
+/**
+ * A service class responsible for publishing multiple events within a single request.
+ *
+ * <p>Every event runs through the same checks as a single publish ({@link PublisherService#validateEvent(Event)},
+ * {@link PublisherService#checkPayloadSize(Event)} and the publish-time checks), but all resulting messages are
+ * handed to the Kafka producer before waiting for any acknowledgement. This way the producer can batch the
+ * records and the request only pays for a single Kafka round trip. Failures are reported per event instead of
+ * failing the whole request. If the number of unacknowledged messages is limited, a batch or stream that reaches
+ * the limit with its own messages waits for their acknowledgements instead of rejecting its remaining events.
+ */
+@Service
+@Slf4j
+public class BatchPublisherService {
+
+    private final PublisherService publisherService;
+
+    private final HorizonTracer tracer;
+
+    private final ObjectMapper objectMapper;
+
+    public BatchPublisherService(PublisherService publisherService, HorizonTracer tracer, ObjectMapper objectMapper) {
+        this.publisherService = publisherService;
+        this.tracer = tracer;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Publishes the given events and waits for all Kafka acknowledgements at once.
+     *
+     * @param events      The events to be published.
+     * @param publisherId The ID of the publisher.
+     * @param environment The environment where the events should be published.
+     * @param httpHeaders The HTTP headers associated with the publishing request.
+     * @return one result per event, in the order of the given events
+     */
+    public List<EventPublishResult> publishAll(Iterator<Event> events, String publisherId, String environment,
+                                               MultiValueMap<String, String> httpHeaders) {
+        var results = new ArrayList<EventPublishResult>();
+        var pending = new ArrayList<PendingPublish>();
+
+        var span = tracer.startScopedDebugSpan("publish batch");
+        try {
+            tracer.addTagsToSpan(span, List.of(Pair.of("publisherId", publisherId)));
+
+            span.annotate("send messages to kafka");
+            while (events.hasNext()) {
+                var event = events.next();
+                results.add(null);
+
+                try {
+                    var message = prepare(event, publisherId, environment, httpHeaders);
+                    var future = publisherService.sendMessage(message, () -> anyUnacknowledged(pending));
+                    pending.add(new PendingPublish(results.size() - 1, message, publisherId, future));
+                } catch (HorizonStarlightException e) {
+                    results.set(results.size() - 1, failed(event, e));
+                }
+            }
+
+            span.annotate("await kafka acknowledgements");
+            awaitAll(pending, results);
+        } finally {
+            span.finish();
+        }
+
+        return results;
+    }
+
+    /**
+     * Parses and publishes a stream of newline-delimited events ({@code application/x-ndjson}) while it is being
+     * received. Once {@code window} events are waiting for their Kafka acknowledgement, reading the stream pauses
+     * until the oldest of them has been acknowledged.
+     *
+     * <p>An event that cannot be mapped is reported and skipped. Malformed JSON cannot be recovered from, so it is
+     * reported and the rest of the stream is not processed.
+     *
+     * @param body        The request body.
+     * @param publisherId The ID of the publisher.
+     * @param environment The environment where the events should be published.
+     * @param httpHeaders The HTTP headers associated with the publishing request.
+     * @param window      The maximum number of events waiting for their acknowledgement, also used as the maximum
+     *                    number of reported failures.
+     * @param onPublished Called for every event that has been acknowledged by Kafka.
+     * @return the counters and the (capped) failures of the stream
+     * @throws IOException if reading the request body failed
+     */
+    public EventStreamSummary publishStream(InputStream body, String publisherId, String environment,
+                                            MultiValueMap<String, String> httpHeaders, int window,
+                                            Consumer<Event> onPublished) throws IOException {
+        var maxPending = Math.max(1, window);
+        var summary = new EventStreamSummary(maxPending);
+        var pending = new ArrayDeque<PendingPublish>(maxPending);
+
+        var span = tracer.startScopedDebugSpan("publish stream");
+        try (MappingIterator<Event> events = objectMapper.readerFor(Event.class).readValues(body)) {
+            tracer.addTagsToSpan(span, List.of(Pair.of("publisherId", publisherId)));
+
+            for (long index = 0; ; index++) {
+                Event event;
+                try {
+                    if (!events.hasNextValue()) {
+                        break;
+                    }
+                    event = events.nextValue();
+                } catch (JsonMappingException e) {
+                    log.debug("Could not map event at index {} of stream", index, e);
+                    summary.add(failed(null, new InvalidEventBodyException(InvalidEventBodyException.DEFAULT_ERROR_MESSAGE)).atIndex(index));
+                    continue;
+                } catch (JsonProcessingException e) {
+                    log.debug("Could not parse event at index {} of stream", index, e);
+                    summary.add(failed(null, new InvalidEventBodyException(InvalidEventBodyException.DEFAULT_ERROR_MESSAGE)).atIndex(index));
+                    break;
+                }
+
+                try {
+                    var message = prepare(event, publisherId, environment, httpHeaders);
+                    var future = publisherService.sendMessage(message, () -> anyUnacknowledged(pending));
+                    pending.add(new PendingPublish(index, message, publisherId, future));
+                } catch (HorizonStarlightException e) {
+                    summary.add(failed(event, e).atIndex(index));
+                }
+
+                while (pending.size() >= maxPending) {
+                    completeStreamed(pending.poll(), summary, onPublished);
+                }
+            }
+        } finally {
+            span.annotate("await kafka acknowledgements");
+            while (!pending.isEmpty()) {
+                completeStreamed(pending.poll(), summary, onPublished);
+            }
+
+            span.finish();
+        }
+
+        return summary;
+    }
+
+    private void completeStreamed(PendingPublish p, EventStreamSummary summary, Consumer<Event> onPublished) {
+        try {
+            p.future().get();
+        } catch (ExecutionException | CancellationException e) {
+            // reported by complete
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        var result = complete(p);
+        if (result.isCreated()) {
+            onPublished.accept(p.message().getEvent());
+        }
+
+        summary.add(result.atIndex(p.index()));
+    }
+
+    private static boolean anyUnacknowledged(Collection<PendingPublish> pending) {
+        for (var p : pending) {
+            if (!p.future().isDone()) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private PublishedEventMessage prepare(Event event, String publisherId, String environment,
+                                          MultiValueMap<String, String> httpHeaders) throws HorizonStarlightException {
+        if (event == null) {
+            throw new InvalidEventBodyException(InvalidEventBodyException.DEFAULT_ERROR_MESSAGE);
+        }
+
+        publisherService.validateEvent(event);
+        publisherService.checkPayloadSize(event);
+
+        return publisherService.prepareMessage(event, publisherId, environment, httpHeaders);
+    }
+
+    private void awaitAll(List<PendingPublish> pending, List<EventPublishResult> results) {
+        var futures = pending.stream().map(PendingPublish::future).toArray(CompletableFuture[]::new);
+
+        try {
+            CompletableFuture.allOf(futures).get();
+        } catch (ExecutionException | CancellationException e) {
+            // individual failures are collected below
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        for (var p : pending) {
+            results.set((int) p.index(), complete(p));
+        }
+    }
+
+    private EventPublishResult complete(PendingPublish p) {
+        var event = p.message().getEvent();
+        var cause = failureOf(p.future());
+
+        if (cause == null) {
+            publisherService.markMessagePublished(p.message());
+            publisherService.sampleSchemaValidation(p.message(), p.publisherId());
+
+            return EventPublishResult.created(event.getId());
+        }
+
+        log.warn("Could not publish event with id {}", event.getId(), cause);
+
+        return failed(event, publisherService.toPublishException(cause));
+    }
+
+    private Throwable failureOf(CompletableFuture<?> future) {
+        if (!future.isDone()) {
+            return new InterruptedException("Interrupted while waiting for Kafka acknowledgement");
+        }
+
+        try {
+            future.join();
+            return null;
+        } catch (CompletionException | CancellationException e) {
+            return e;
+        }
+    }
+
+    private EventPublishResult failed(Event event, HorizonStarlightException e) {
+        var id = event != null ? event.getId() : null;
+
+        return EventPublishResult.failed(id, statusFor(e), e.getMessage());
+    }
+
+    /**
+     * Maps the exception of a single event to the status code the event would have received when published on
+     * its own (see {@code RestResponseEntityExceptionHandler}).
+     */
+    static HttpStatus statusFor(HorizonStarlightException e) {
+        if (e instanceof UnknownEventTypeOrNoSubscriptionException) {
+            return HttpStatus.ACCEPTED;
+        } else if (e instanceof EventNotCompliantWithSchemaException || e instanceof InvalidEventBodyException) {
+            return HttpStatus.BAD_REQUEST;
+        } else if (e instanceof RealmDoesNotMatchEnvironmentException) {
+            return HttpStatus.UNAUTHORIZED;
+        } else if (e instanceof PublisherDoesNotMatchEventTypeException) {
+            return HttpStatus.FORBIDDEN;
+        } else if (e instanceof PayloadTooLargeException) {
+            return HttpStatus.PAYLOAD_TOO_LARGE;
+        } else if (e instanceof TooManyPublishesInFlightException) {
+            return HttpStatus.SERVICE_UNAVAILABLE;
+        } else if (e instanceof CouldNotPublishEventMessageException) {
+            return HttpStatus.GATEWAY_TIMEOUT;
+        }
+
+        return HttpStatus.INTERNAL_SERVER_ERROR;
+    }
+
+    private record PendingPublish(long index, PublishedEventMessage message, String publisherId, CompletableFuture<?> future) {}
+}
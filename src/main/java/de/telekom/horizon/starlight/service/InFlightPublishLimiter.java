@@ -0,0 +1,123 @@
+// Copyright 2026 Deutsche Telekom IT GmbH
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package de.telekom.horizon.starlight.service;
+
+import de.telekom.eni.pandora.horizon.metrics.HorizonMetricsHelper;
+import de.telekom.horizon.starlight.config.StarlightConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Bounds the number of messages that have been handed to the Kafka producer but not yet been acknowledged.
+ *
+ * <p>With virtual threads (or the async publish mode) the number of concurrent publishes is no longer bounded by
+ * the servlet thread pool. Without a limit, a slow broker lets the producer's {@code buffer.memory} fill up, after
+ * which every send blocks for up to {@code max.block.ms}. The limiter rejects publishes early instead, so callers
+ * can back off. A {@code maxInFlight} of {@code 0} or less disables the limit.
+ *
+ * <p>A request that publishes several events (a batch or a stream) would otherwise reject its own tail once it has
+ * {@code maxInFlight} messages in flight itself. Such requests report whether they still have unacknowledged
+ * messages; as long as they do, they wait for a permit instead of being rejected, which throttles them to the rate
+ * at which Kafka acknowledges their own messages.
+ *
+ * <p>Uses a {@link Semaphore} rather than {@code synchronized}, so waiting virtual threads do not pin their carrier
+ * thread.
+ *
+ * <p>If enabled, {@code starlight_publish_in_flight} shows the permits in use and
+ * {@code starlight_publish_rejected_in_flight} counts the publishes that did not get one.
+ */
+@Component
+class InFlightPublishLimiter {
+
+    static final String METRIC_PUBLISH_IN_FLIGHT = "starlight_publish_in_flight";
+    static final String METRIC_PUBLISH_REJECTED_IN_FLIGHT = "starlight_publish_rejected_in_flight";
+
+    private static final long BACKPRESSURE_POLL_MS = 10;
+
+    private final int maxInFlight;
+
+    private final Semaphore permits;
+
+    private final long acquireTimeoutMs;
+
+    private final Counter rejectedCounter;
+
+    @Autowired
+    InFlightPublishLimiter(StarlightConfig starlightConfig, HorizonMetricsHelper metricsHelper) {
+        this(starlightConfig.getPublishingMaxInFlight(), starlightConfig.getPublishingInFlightAcquireTimeoutMs(), metricsHelper.getRegistry());
+    }
+
+    InFlightPublishLimiter(int maxInFlight, long acquireTimeoutMs, MeterRegistry registry) {
+        this.maxInFlight = Math.max(0, maxInFlight);
+        this.permits = maxInFlight > 0 ? new Semaphore(maxInFlight) : null;
+        this.acquireTimeoutMs = Math.max(0, acquireTimeoutMs);
+
+        if (permits != null) {
+            this.rejectedCounter = registry.counter(METRIC_PUBLISH_REJECTED_IN_FLIGHT);
+            Gauge.builder(METRIC_PUBLISH_IN_FLIGHT, this, InFlightPublishLimiter::inFlight).register(registry);
+        } else {
+            this.rejectedCounter = null;
+        }
+    }
+
+    boolean isEnabled() {
+        return permits != null;
+    }
+
+    /**
+     * @return the number of permits currently in use
+     */
+    int inFlight() {
+        return maxInFlight - permits.availablePermits();
+    }
+
+    /**
+     * Acquires a permit, waiting at most the configured acquire timeout.
+     *
+     * @return {@code true} if a permit was acquired and must be {@link #release() released} later
+     * @throws InterruptedException if interrupted while waiting
+     */
+    boolean tryAcquire() throws InterruptedException {
+        return permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Acquires a permit like {@link #tryAcquire()}, but keeps waiting as long as {@code ownInFlight} reports that the
+     * caller still has unacknowledged messages, whose acknowledgements will release permits. After it reported none
+     * for the first time, the permit is waited for once more, as the last acknowledgement may release its permit
+     * only after it has been observed. A publish that does not get a permit is counted as rejected.
+     *
+     * @return {@code true} if a permit was acquired and must be {@link #release() released} later
+     * @throws InterruptedException if interrupted while waiting
+     */
+    boolean tryAcquire(BooleanSupplier ownInFlight) throws InterruptedException {
+        if (tryAcquire()) {
+            return true;
+        }
+
+        var waiting = ownInFlight.getAsBoolean();
+        while (waiting) {
+            waiting = ownInFlight.getAsBoolean();
+            if (permits.tryAcquire(BACKPRESSURE_POLL_MS, TimeUnit.MILLISECONDS)) {
+                return true;
+            }
+        }
+
+        rejectedCounter.increment();
+
+        return false;
+    }
+
+    void release() {
+        permits.release();
+    }
+}
@@ -4,7 +4,6 @@
 
 package de.telekom.horizon.starlight.service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import de.telekom.eni.pandora.horizon.kafka.event.EventWriter;
 import de.telekom.eni.pandora.horizon.metrics.AdditionalFields;
@@ -17,17 +16,25 @@ import de.telekom.horizon.starlight.cache.PublisherCache;
 import de.telekom.horizon.starlight.config.StarlightConfig;
 import de.telekom.horizon.starlight.config.tenancy.TenantConfiguration;
 import de.telekom.horizon.starlight.exception.*;
+import de.telekom.horizon.starlight.model.RawEventData;
+import de.telekom.horizon.starlight.service.routing.TypeRoutingService;
 import jakarta.validation.Validator;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.kafka.common.errors.RecordTooLargeException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Service;
 import org.springframework.util.MultiValueMap;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.BooleanSupplier;
 
 import static de.telekom.eni.pandora.horizon.metrics.HorizonMetricsConstants.METRIC_PUBLISHED_EVENTS;
 
@@ -38,6 +45,11 @@ import static de.telekom.eni.pandora.horizon.metrics.HorizonMetricsConstants.MET
 @Slf4j
 public class PublisherService {
 
+    /**
+     * Header in which publishers can state the event type before the body is parsed (see {@code RequestSizeLimitFilter}).
+     */
+    public static final String EVENT_TYPE_HEADER = "ce-type";
+
     private final PublisherCache publisherCache;
 
     private final StarlightConfig starlightConfig;
@@ -58,6 +70,12 @@ public class PublisherService {
 
     private final SpectreDirectPublishService spectreDirectPublishService;
 
+    private final InFlightPublishLimiter inFlightLimiter;
+
+    private final SampledSchemaValidationService sampledSchemaValidationService;
+
+    private final TypeRoutingService typeRoutingService;
+
 
     /**
      * Creates a new PublisherService.
@@ -70,6 +88,9 @@ public class PublisherService {
      * @param eventWriter                 the writer for publishing events
      * @param validator                   the validator used for validating the event's fields
      * @param spectreDirectPublishService direct-publishes eligible Spectre events to a dedicated type before publishing
+     * @param inFlightLimiter             bounds the number of messages waiting for their acknowledgement
+     * @param sampledSchemaValidationService validates a sample of the events after publishing, if enabled
+     * @param typeRoutingService          rewrites event types based on the event content, if enabled
      */
     public PublisherService(
             PublisherCache publisherCache,
@@ -81,7 +102,10 @@ public class PublisherService {
             EventWriter eventWriter,
             Validator validator,
             ObjectMapper objectMapper,
-            SpectreDirectPublishService spectreDirectPublishService
+            SpectreDirectPublishService spectreDirectPublishService,
+            InFlightPublishLimiter inFlightLimiter,
+            Optional<SampledSchemaValidationService> sampledSchemaValidationService,
+            Optional<TypeRoutingService> typeRoutingService
     ) {
         this.publisherCache = publisherCache;
         this.starlightConfig = starlightConfig;
@@ -93,6 +117,9 @@ public class PublisherService {
         this.validator = validator;
         this.objectMapper = objectMapper;
         this.spectreDirectPublishService = spectreDirectPublishService;
+        this.inFlightLimiter = inFlightLimiter;
+        this.sampledSchemaValidationService = sampledSchemaValidationService.orElse(null);
+        this.typeRoutingService = typeRoutingService.orElse(null);
     }
 
     /**
@@ -144,18 +171,123 @@ public class PublisherService {
     public void publish(Event event, String publisherId, String environment,
                         MultiValueMap<String, String> httpHeaders) throws HorizonStarlightException {
 
+        var message = prepareMessage(event, publisherId, environment, httpHeaders);
+
+        var span = tracer.startScopedDebugSpan("publish message");
+        try {
+            tracer.addTagsToSpanFromEventMessage(span, message);
+            tracer.addTagsToSpan(span, List.of(Pair.of("publisherId", publisherId)));
+
+            span.annotate("send message to kafka");
+            sendMessage(message).get();
+
+            span.annotate("export metrics");
+            markMessagePublished(message);
+            sampleSchemaValidation(message, publisherId);
+        } catch (Exception e) {
+            span.error(e);
+            throw toPublishException(e);
+        } finally {
+            span.finish();
+        }
+    }
+
+    /**
+     * Publishes a specified event without blocking the calling thread until Kafka acknowledged it.
+     * All checks are performed synchronously, so check failures are thrown directly. The returned future completes
+     * from the producer callback, which also exports the metrics. If writing to Kafka fails, the future completes
+     * exceptionally with the same exception {@link #publish(Event, String, String, MultiValueMap)} would throw.
+     *
+     * <p>The debug span is scoped to the calling thread and therefore covers the hand-over to the producer only.
+     *
+     * @param event       The event to be published.
+     * @param publisherId The ID of the publisher.
+     * @param environment The environment where the event should be published.
+     * @param httpHeaders The HTTP headers associated with the publishing request.
+     * @return a future that completes once Kafka acknowledged the event
+     * @throws HorizonStarlightException if one of the checks fails
+     */
+    public CompletableFuture<Void> publishAsync(Event event, String publisherId, String environment,
+                                                MultiValueMap<String, String> httpHeaders) throws HorizonStarlightException {
+
+        var message = prepareMessage(event, publisherId, environment, httpHeaders);
+
+        var span = tracer.startScopedDebugSpan("publish message");
+        try {
+            tracer.addTagsToSpanFromEventMessage(span, message);
+            tracer.addTagsToSpan(span, List.of(Pair.of("publisherId", publisherId)));
+
+            span.annotate("hand message over to kafka");
+            return sendMessage(message).handle((result, e) -> {
+                if (e != null) {
+                    throw new CompletionException(toPublishException(e));
+                }
+
+                markMessagePublished(message);
+                sampleSchemaValidation(message, publisherId);
+                return null;
+            });
+        } finally {
+            span.finish();
+        }
+    }
+
+    /**
+     * Runs all publish-time checks for the given event and builds the message that is written to Kafka,
+     * without sending it.
+     * This covers the Spectre direct-publish and type routing rewrites, the event type ownership check, the schema validation
+     * and the enrichment of the message with time, status and filtered HTTP headers.
+     *
+     * @param event       The event to be published.
+     * @param publisherId The ID of the publisher.
+     * @param environment The environment where the event should be published.
+     * @param httpHeaders The HTTP headers associated with the publishing request.
+     * @return the message that is ready to be sent
+     * @throws HorizonStarlightException if one of the checks fails
+     */
+    PublishedEventMessage prepareMessage(Event event, String publisherId, String environment,
+                                         MultiValueMap<String, String> httpHeaders) throws HorizonStarlightException {
+
         // Spectre direct-publish: may rewrite event.type before ownership check.
         // No-op unless starlight.spectre.direct-publish.enabled is true and a rule matches.
         spectreDirectPublishService.rewriteTypeForDirectPublish(event, publisherId);
 
+        // Content-based type routing: second rewrite stage, its rules see the type produced by the Spectre stage.
+        // No-op unless starlight.type-routing.enabled is true and a rule matches.
+        if (typeRoutingService != null) {
+            typeRoutingService.route(event, publisherId);
+        }
+
         if (starlightConfig.isEnablePublisherCheck()) {
             checkEventTypeOwnership(environment, event.getType(), publisherId);
         }
 
         if (starlightConfig.isEnableSchemaValidation()) {
-            schemaValidationService.validate(event, environment, publisherId);
+            if (sampledSchemaValidationService == null || !sampledSchemaValidationService.isActive()) {
+                schemaValidationService.validate(event, environment, publisherId);
+            } else {
+                // sampled validation happens in the background once Kafka acknowledged the event,
+                // but data that is no JSON at all is still rejected for every event
+                schemaValidationService.checkJsonData(event, environment, publisherId);
+            }
         }
 
+        return buildMessage(event, environment, httpHeaders);
+    }
+
+    /**
+     * Builds the message for a synthetic warm-up event like {@link #prepareMessage}, but without the rewrites, the
+     * ownership check and the schema validation, which would count the synthetic event in their metrics and caches.
+     *
+     * @param event       The synthetic event.
+     * @param environment The environment where the event would be published.
+     * @return the message that would be sent
+     */
+    PublishedEventMessage prepareWarmUpMessage(Event event, String environment) {
+        return buildMessage(event, environment, null);
+    }
+
+    private PublishedEventMessage buildMessage(Event event, String environment, MultiValueMap<String, String> httpHeaders) {
         addTimeToEventIfAbsent(event);
 
         var message = new PublishedEventMessage(event, environment);
@@ -163,24 +295,81 @@ public class PublisherService {
         message.setStatus(Status.PROCESSED);
         message.setHttpHeaders(filterHttpHeaders(httpHeaders));
 
-
         addTrustedStartTimeForObservation(message);
 
-        var span = tracer.startScopedDebugSpan("publish message");
+        return message;
+    }
+
+    /**
+     * Hands the message to the Kafka producer without waiting for the acknowledgement.
+     * Errors that occur while handing over the message are returned as a failed future, so callers
+     * only have to deal with a single error channel. If the number of unacknowledged messages is limited
+     * ({@code starlight.publishing.maxInFlight}) and no permit becomes available in time, the future fails
+     * with a {@link TooManyPublishesInFlightException}.
+     *
+     * @param message The message to be sent.
+     * @return a future that completes once Kafka acknowledged the message
+     */
+    CompletableFuture<?> sendMessage(PublishedEventMessage message) {
+        return sendMessage(message, () -> false);
+    }
+
+    /**
+     * Hands the message of a request with several events to the Kafka producer, like {@link #sendMessage(PublishedEventMessage)}.
+     * While the request has unacknowledged messages itself, it waits for a permit instead of being rejected, so a
+     * batch larger than {@code starlight.publishing.maxInFlight} does not reject its own tail.
+     *
+     * @param message     The message to be sent.
+     * @param ownInFlight Reports whether messages sent earlier by the same request are still unacknowledged.
+     * @return a future that completes once Kafka acknowledged the message
+     */
+    CompletableFuture<?> sendMessage(PublishedEventMessage message, BooleanSupplier ownInFlight) {
+        if (!inFlightLimiter.isEnabled()) {
+            return doSendMessage(message);
+        }
+
         try {
-            tracer.addTagsToSpanFromEventMessage(span, message);
-            tracer.addTagsToSpan(span, List.of(Pair.of("publisherId", publisherId)));
+            if (!inFlightLimiter.tryAcquire(ownInFlight)) {
+                return CompletableFuture.failedFuture(new TooManyPublishesInFlightException("Too many events are currently being published, please retry later"));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
 
-            span.annotate("send message to kafka");
-            eventWriter.send(getPublishingTopic(message), message, tracer).get();
+            return CompletableFuture.failedFuture(e);
+        }
 
-            span.annotate("export metrics");
-            metricsHelper.getRegistry().counter(METRIC_PUBLISHED_EVENTS, metricsHelper.buildTagsFromPublishedEventMessage(message)).increment();
+        var future = doSendMessage(message);
+        future.whenComplete((result, e) -> inFlightLimiter.release());
+
+        return future;
+    }
+
+    private CompletableFuture<?> doSendMessage(PublishedEventMessage message) {
+        try {
+            return eventWriter.send(getPublishingTopic(message), message, tracer);
         } catch (Exception e) {
-            span.error(e);
-            handlePublishException(e);
-        } finally {
-            span.finish();
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Exports the metrics for a message that has been acknowledged by Kafka.
+     *
+     * @param message The message that has been published.
+     */
+    void markMessagePublished(PublishedEventMessage message) {
+        metricsHelper.getRegistry().counter(METRIC_PUBLISHED_EVENTS, metricsHelper.buildTagsFromPublishedEventMessage(message)).increment();
+    }
+
+    /**
+     * Hands an event that has been acknowledged by Kafka to the sampled schema validation, if enabled.
+     *
+     * @param message     The message that has been published.
+     * @param publisherId The ID of the publisher.
+     */
+    void sampleSchemaValidation(PublishedEventMessage message, String publisherId) {
+        if (sampledSchemaValidationService != null) {
+            sampledSchemaValidationService.sample(message.getEvent(), message.getEnvironment(), publisherId);
         }
     }
 
@@ -196,11 +385,24 @@ public class PublisherService {
         return starlightConfig.getPublishingTopic();
     }
 
-    private void handlePublishException(Exception e) throws PayloadTooLargeException, CouldNotPublishEventMessageException {
-        if (e instanceof RecordTooLargeException) {
-            throw new PayloadTooLargeException("The payload is too large to be published", e);
+    /**
+     * Maps an error that occurred while writing to Kafka to the exception that is reported to the publisher.
+     * A {@link HorizonStarlightException} in the cause chain is reported as is. A {@link RecordTooLargeException} anywhere in the cause chain results in a {@link PayloadTooLargeException},
+     * every other error in a {@link CouldNotPublishEventMessageException}.
+     *
+     * @param e the error that occurred while writing to Kafka
+     * @return the exception to report
+     */
+    HorizonStarlightException toPublishException(Throwable e) {
+        var starlightExceptionIndex = ExceptionUtils.indexOfType(e, HorizonStarlightException.class);
+        if (starlightExceptionIndex >= 0) {
+            return (HorizonStarlightException) ExceptionUtils.getThrowableList(e).get(starlightExceptionIndex);
+        }
+
+        if (ExceptionUtils.indexOfType(e, RecordTooLargeException.class) >= 0) {
+            return new PayloadTooLargeException("The payload is too large to be published", e);
         } else {
-            throw new CouldNotPublishEventMessageException("Failed to publish event", e);
+            return new CouldNotPublishEventMessageException("Failed to publish event", e);
         }
     }
 
@@ -297,6 +499,31 @@ public class PublisherService {
         )));
     }
 
+    /**
+     * Checks that the event type stated in the {@value #EVENT_TYPE_HEADER} header, if present, is the type of the
+     * event. The header decides about the request size limit before the body is parsed, so a request must not state
+     * an exempted type for an event of another type.
+     *
+     * @throws InvalidEventBodyException if the header states another event type
+     */
+    public void checkEventTypeHeader(Event event, MultiValueMap<String, String> httpHeaders) throws InvalidEventBodyException {
+        if (httpHeaders == null) {
+            return;
+        }
+
+        for (var header : httpHeaders.entrySet()) {
+            if (!EVENT_TYPE_HEADER.equalsIgnoreCase(header.getKey()) || header.getValue() == null) {
+                continue;
+            }
+
+            for (var eventType : header.getValue()) {
+                if (!Objects.equals(eventType, event.getType())) {
+                    throw new InvalidEventBodyException(String.format("The %s header does not match the type of the event", EVENT_TYPE_HEADER));
+                }
+            }
+        }
+    }
+
     /**
      * Checks the size of the payload of the given event.
      * If the event type is in the payload check exemption list, it tags the current span (if it exists)
@@ -319,7 +546,9 @@ public class PublisherService {
         }
 
         try {
-            long payloadSize = objectMapper.writeValueAsBytes(event.getData()).length;
+            long payloadSize = event.getData() instanceof RawEventData rawData ?
+                    rawData.size() :
+                    serializedSize(event.getData());
             if (payloadSize > starlightConfig.getDefaultMaxPayloadSize()) {
                 currentSpan.ifPresent(s -> tracer.addTagsToSpan(s, List.of(
                         Pair.of("matchesPayloadPolicy", "false")
@@ -331,8 +560,33 @@ public class PublisherService {
             currentSpan.ifPresent(s -> tracer.addTagsToSpan(s, List.of(
                     Pair.of("matchesPayloadPolicy", "true")
             )));
-        } catch (JsonProcessingException e) {
+        } catch (IOException e) {
             throw new InvalidEventBodyException("Could not serialize event payload");
         }
     }
+
+    /**
+     * Measures the serialized size of the given data without keeping the serialized bytes.
+     */
+    private long serializedSize(Object data) throws IOException {
+        var out = new CountingOutputStream();
+        objectMapper.writeValue(out, data);
+
+        return out.count;
+    }
+
+    private static class CountingOutputStream extends OutputStream {
+
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
 }
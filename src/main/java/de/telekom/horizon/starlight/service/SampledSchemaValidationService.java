@@ -0,0 +1,114 @@
+// Copyright 2026 Deutsche Telekom IT GmbH
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package de.telekom.horizon.starlight.service;
+
+import de.telekom.eni.pandora.horizon.metrics.HorizonMetricsHelper;
+import de.telekom.eni.pandora.horizon.model.event.Event;
+import de.telekom.horizon.starlight.config.StarlightConfig;
+import de.telekom.horizon.starlight.config.schema.SchemaSamplingConfiguration;
+import de.telekom.horizon.starlight.exception.EventNotCompliantWithSchemaException;
+import io.micrometer.core.instrument.Counter;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Validates a sample of the published events against their schema in the background, while schema validation is
+ * not enforced.
+ *
+ * <p>As long as the result of the validation does not affect the response, there is no need to validate every event
+ * on the request thread. Instead, each event type is sampled with its configured rate once Kafka acknowledged the
+ * event, and the sample is validated on a bounded executor. The success and failure metrics are incremented by the
+ * inverse of the rate, so they estimate the counts of validating every event. If the executor cannot keep up, samples
+ * are dropped and counted instead of slowing down publishing.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(value = "starlight.schema.sampling.enabled", havingValue = "true")
+public class SampledSchemaValidationService {
+
+    static final String METRIC_SAMPLES_DROPPED = "starlight_schema_validation_samples_dropped";
+
+    private final SchemaValidationService schemaValidationService;
+
+    private final StarlightConfig starlightConfig;
+
+    private final SchemaSamplingConfiguration config;
+
+    private final ThreadPoolExecutor executor;
+
+    private final Counter droppedCounter;
+
+    public SampledSchemaValidationService(SchemaValidationService schemaValidationService, StarlightConfig starlightConfig,
+                                          SchemaSamplingConfiguration config, HorizonMetricsHelper metricsHelper) {
+        this.schemaValidationService = schemaValidationService;
+        this.starlightConfig = starlightConfig;
+        this.config = config;
+        this.droppedCounter = metricsHelper.getRegistry().counter(METRIC_SAMPLES_DROPPED);
+
+        var threadIndex = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(config.getThreads(), config.getThreads(), 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(config.getQueueCapacity()),
+                runnable -> Thread.ofPlatform().name("starlight-schema-sampling-" + threadIndex.getAndIncrement()).daemon().unstarted(runnable),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * @return whether events are validated by sampling instead of on the request thread, which is the case as long
+     * as schema validation is not enforced
+     */
+    public boolean isActive() {
+        return starlightConfig.isEnableSchemaValidation() && !starlightConfig.isEnforceSchemaValidation();
+    }
+
+    /**
+     * Validates the given event in the background if it is part of the sample of its event type. Must only be
+     * called once Kafka acknowledged the event, since the event is read concurrently afterward.
+     *
+     * @param event       The published event.
+     * @param environment The environment the event has been published in.
+     * @param publisherId The ID of the publisher.
+     */
+    public void sample(Event event, String environment, String publisherId) {
+        if (!isActive()) {
+            return;
+        }
+
+        var rate = config.getRates().getOrDefault(event.getType(), config.getDefaultRate());
+        if (rate <= 0 || (rate < 1 && ThreadLocalRandom.current().nextDouble() >= rate)) {
+            return;
+        }
+
+        var weight = 1 / Math.min(rate, 1);
+        try {
+            executor.execute(() -> validate(event, environment, publisherId, weight));
+        } catch (RejectedExecutionException e) {
+            droppedCounter.increment();
+        }
+    }
+
+    private void validate(Event event, String environment, String publisherId, double weight) {
+        try {
+            schemaValidationService.validate(event, environment, publisherId, weight);
+        } catch (EventNotCompliantWithSchemaException e) {
+            log.debug("Sampled event of type {} with id {} could not be validated", event.getType(), event.getId(), e);
+        } catch (RuntimeException e) {
+            log.warn("Sampled validation of event of type {} with id {} failed", event.getType(), event.getId(), e);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -4,31 +4,32 @@
 
 package de.telekom.horizon.starlight.service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import de.telekom.eni.pandora.horizon.metrics.HorizonMetricsConstants;
 import de.telekom.eni.pandora.horizon.metrics.HorizonMetricsHelper;
 import de.telekom.eni.pandora.horizon.model.event.Event;
 import de.telekom.eni.pandora.horizon.schema.SchemaStore;
 import de.telekom.eni.pandora.horizon.tracing.HorizonTracer;
+import de.telekom.horizon.starlight.cache.SchemaCache;
 import de.telekom.horizon.starlight.config.StarlightConfig;
 import de.telekom.horizon.starlight.exception.EventNotCompliantWithSchemaException;
+import de.telekom.horizon.starlight.service.validation.EveritSchemaValidationEngine;
+import de.telekom.horizon.starlight.service.validation.SchemaValidationEngine;
+import de.telekom.horizon.starlight.service.validation.SchemaValidator;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.logging.log4j.util.Strings;
-import org.everit.json.schema.Schema;
 import org.everit.json.schema.ValidationException;
-import org.json.JSONArray;
 import org.json.JSONException;
-import org.json.JSONObject;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.MediaType;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
 import org.springframework.util.MimeType;
 
-import java.util.Collection;
+import java.io.IOException;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -46,11 +47,27 @@ public class SchemaValidationService {
 
     private final HorizonTracer tracer;
 
+    private final SchemaCache schemaCache;
+
+    private final SchemaValidationEngine engine;
+
     private final ObjectMapper objectMapper;
 
-    @Autowired
     public SchemaValidationService(SchemaStore schemaStore, StarlightConfig starlightConfig, HorizonMetricsHelper metricsHelper, HorizonTracer tracer, ObjectMapper objectMapper) {
+        this(schemaStore, starlightConfig, metricsHelper, tracer, objectMapper, null, null);
+    }
+
+    @Autowired
+    public SchemaValidationService(SchemaStore schemaStore, StarlightConfig starlightConfig, HorizonMetricsHelper metricsHelper, HorizonTracer tracer, ObjectMapper objectMapper,
+                                   @Nullable SchemaCache schemaCache, @Nullable SchemaValidationEngine engine) {
         this.schemaStore = schemaStore;
+        this.schemaCache = schemaCache;
+        this.engine = engine != null ? engine : new EveritSchemaValidationEngine(objectMapper);
+
+        // without the cache, the schema of every event would be prepared by the engine again
+        if (schemaCache == null && !(this.engine instanceof EveritSchemaValidationEngine)) {
+            throw new IllegalStateException(String.format("Schema validation engine %s requires the schema cache", this.engine.getClass().getSimpleName()));
+        }
         this.starlightConfig = starlightConfig;
         this.metricsHelper = metricsHelper;
         this.tracer = tracer;
@@ -73,6 +90,22 @@ public class SchemaValidationService {
      *                                              with the validation rules or the schema.
      */
     public void validate(Event event, String environment, String publisherId) throws EventNotCompliantWithSchemaException {
+        validate(event, environment, publisherId, 1);
+    }
+
+    /**
+     * Validates the given event like {@link #validate(Event, String, String)}, but counts the result as
+     * {@code weight} events in the success and failure metrics. Used for sampled validation, where one validated
+     * event stands for several published ones.
+     *
+     * @param event       The Event object to validate.
+     * @param environment The environment in which the event is being published.
+     * @param publisherId The ID of the publisher (should be <i>hub--team--application</i>)
+     * @param weight      The number of events the result is counted as.
+     * @throws EventNotCompliantWithSchemaException If the event or the publisher ID is not compliant
+     *                                              with the validation rules or the schema.
+     */
+    public void validate(Event event, String environment, String publisherId, double weight) throws EventNotCompliantWithSchemaException {
         if (publisherId == null || publisherId.isBlank()){
             log.info("PublisherId is null or blank. Schema validation is canceled because no schema can be clearly assigned.");
 
@@ -86,50 +119,26 @@ public class SchemaValidationService {
             return;
         }
 
-        Schema schema = schemaStore.getSchemaForEventType(environment, event.getType(), splitPubId[0], splitPubId[1]);
-        if (schema != null) {
+        var validator = findValidator(event, environment, splitPubId);
+        if (validator != null) {
             var currentSpan = Optional.ofNullable(tracer.getCurrentSpan());
 
-            var dataContentType = Optional.ofNullable(event.getDataContentType());
-            var mimeType = MimeType.valueOf(dataContentType.orElse(MediaType.APPLICATION_JSON_VALUE));
-            if (!mimeType.includes(MediaType.APPLICATION_JSON)) {
+            if (!isJsonContent(event)) {
                 return;
             }
 
-            Object jsonEvent;
             try {
-                Object data = event.getData();
-
-                if (data instanceof JSONObject || data instanceof JSONArray) {
-                    jsonEvent = data;
-                } else if (data instanceof String jsonString) {
-                    jsonEvent = jsonString.trim().startsWith("[") ?
-                            new JSONArray(jsonString) :
-                            new JSONObject(jsonString);
-                } else if (data instanceof Map) {
-                    jsonEvent = new JSONObject((Map<?, ?>) data);
-                } else if (data instanceof Collection) {
-                    jsonEvent = new JSONArray((Collection<?>) data);
-                } else {
-                    String jsonString = objectMapper.writeValueAsString(data);
-                    jsonEvent = jsonString.trim().startsWith("[") ?
-                            new JSONArray(jsonString) :
-                            new JSONObject(jsonString);
-                }
-            } catch (JsonProcessingException | JSONException e) {
-                log.info("Event of type {} is no valid json.", event.getType());
-
-                throw new EventNotCompliantWithSchemaException(String.format("Event of type %s is no valid json.",
-                        event.getType()), e);
-            }
-
-            try {
-                schema.validate(jsonEvent);
+                validator.validate(event.getData());
                 currentSpan.ifPresent(s -> tracer.addTagsToSpan(s, List.of(Pair.of("isMatchingSchema", "true"))));
                 metricsHelper.getRegistry()
                         .counter(HorizonMetricsConstants.METRIC_SCHEMA_VALIDATION_SUCCESS, "event_type", event.getType(), "publisher_id", publisherId)
-                        .increment();
+                        .increment(weight);
+
+            } catch (IOException | JSONException e) {
+                log.info("Event of type {} is no valid json.", event.getType());
 
+                throw new EventNotCompliantWithSchemaException(String.format("Event of type %s is no valid json.",
+                        event.getType()), e);
             } catch (ValidationException ex) {
                 currentSpan.ifPresent(s -> tracer.addTagsToSpan(s, List.of(Pair.of("isMatchingSchema", "false"))));
 
@@ -138,7 +147,7 @@ public class SchemaValidationService {
 
                 metricsHelper.getRegistry()
                         .counter(HorizonMetricsConstants.METRIC_SCHEMA_VALIDATION_FAILURE, "event_type", event.getType(), "publisher_id", publisherId)
-                        .increment();
+                        .increment(weight);
 
                 if (!starlightConfig.isEnforceSchemaValidation()) {
                     log.warn("Schema validation is not enforced, skipping compliance check for event of type {} with id {}", event.getType(), event.getId());
@@ -153,4 +162,90 @@ public class SchemaValidationService {
                     event.getType(), environment);
         }
     }
+
+    /**
+     * Rejects an event whose data is a string that is no JSON object or array, if the event type has a schema and
+     * the data content type is JSON, like {@link #validate(Event, String, String)} does. Used instead of the full
+     * validation while a sample of the events is validated in the background, so that the response does not depend
+     * on whether the event was sampled. Events with object data are accepted without looking up the schema.
+     *
+     * @param event       The Event object to check.
+     * @param environment The environment in which the event is being published.
+     * @param publisherId The ID of the publisher (should be <i>hub--team--application</i>)
+     * @throws EventNotCompliantWithSchemaException If the data is no valid JSON
+     */
+    public void checkJsonData(Event event, String environment, String publisherId) throws EventNotCompliantWithSchemaException {
+        if (!(event.getData() instanceof String jsonString) || !isJsonContent(event)) {
+            return;
+        }
+
+        var splitPubId = publisherId != null ? publisherId.split("--") : new String[0];
+        if (splitPubId.length < 2 || Strings.isBlank(splitPubId[0]) || Strings.isBlank(splitPubId[1])) {
+            return;
+        }
+
+        if (!isJsonObjectOrArray(jsonString) && findValidator(event, environment, splitPubId) != null) {
+            log.info("Event of type {} is no valid json.", event.getType());
+
+            throw new EventNotCompliantWithSchemaException(String.format("Event of type %s is no valid json.",
+                    event.getType()));
+        }
+    }
+
+    /**
+     * Validates the given event like {@link #validate(Event, String, String)} to warm up the schema lookup and the
+     * validation engine, but without recording metrics or tracing tags and without rejecting the event.
+     *
+     * @param event       The Event object to validate.
+     * @param environment The environment in which the event is being published.
+     * @param publisherId The ID of the publisher (should be <i>hub--team--application</i>)
+     * @return whether a schema was found and the event was validated against it
+     */
+    public boolean warmUp(Event event, String environment, String publisherId) {
+        var splitPubId = publisherId != null ? publisherId.split("--") : new String[0];
+        if (splitPubId.length < 2 || Strings.isBlank(splitPubId[0]) || Strings.isBlank(splitPubId[1])) {
+            return false;
+        }
+
+        var validator = findValidator(event, environment, splitPubId);
+        if (validator == null) {
+            return false;
+        }
+
+        try {
+            validator.validate(event.getData());
+        } catch (IOException | JSONException | ValidationException e) {
+            // the outcome does not matter for the warm-up
+        }
+
+        return true;
+    }
+
+    private boolean isJsonContent(Event event) {
+        var dataContentType = Optional.ofNullable(event.getDataContentType());
+        var mimeType = MimeType.valueOf(dataContentType.orElse(MediaType.APPLICATION_JSON_VALUE));
+
+        return mimeType.includes(MediaType.APPLICATION_JSON);
+    }
+
+    private boolean isJsonObjectOrArray(String json) {
+        try (var parser = objectMapper.createParser(json)) {
+            var token = parser.nextToken();
+            if (token != JsonToken.START_OBJECT && token != JsonToken.START_ARRAY) {
+                return false;
+            }
+
+            parser.skipChildren();
+
+            return parser.nextToken() == null;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private SchemaValidator findValidator(Event event, String environment, String[] splitPubId) {
+        return schemaCache != null ?
+                schemaCache.getValidator(environment, event.getType(), splitPubId[0], splitPubId[1]) :
+                Optional.ofNullable(schemaStore.getSchemaForEventType(environment, event.getType(), splitPubId[0], splitPubId[1])).map(engine::compile).orElse(null);
+    }
 }
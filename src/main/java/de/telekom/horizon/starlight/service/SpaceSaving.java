@@ -0,0 +1,194 @@
+// Copyright 2026 Deutsche Telekom IT GmbH
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package de.telekom.horizon.starlight.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The Space-Saving algorithm (Metwally et al.) for the heaviest keys of a weighted stream in
+ * bounded memory.
+ *
+ * <p>At most {@code capacity} counters are kept. A key without a counter takes over the counter
+ * with the smallest weight and inherits it as its error, so a counter overestimates the weight of
+ * its key by at most its error. Every key whose weight exceeds the total weight divided by the
+ * capacity is guaranteed to have a counter. The counters are kept in a min-heap indexed by key, so
+ * an update costs a hash lookup and {@code O(log capacity)} swaps.
+ *
+ * <p>Several sketches of the same stream, e.g. one per stripe of concurrent writers, are combined
+ * by {@link #merge}.
+ *
+ * @param <K> the key type
+ */
+final class SpaceSaving<K> {
+
+    private final int capacity;
+
+    private final Map<K, Counter<K>> counters;
+
+    private final List<Counter<K>> heap;
+
+    private long total;
+
+    SpaceSaving(int capacity) {
+        this.capacity = capacity;
+        this.counters = new HashMap<>(capacity * 2);
+        this.heap = new ArrayList<>(capacity);
+    }
+
+    synchronized void offer(K key, long weight) {
+        total += weight;
+
+        var counter = counters.get(key);
+        if (counter != null) {
+            counter.weight += weight;
+            siftDown(counter.index);
+        } else if (heap.size() < capacity) {
+            counter = new Counter<>(key, heap.size());
+            counter.weight = weight;
+            heap.add(counter);
+            counters.put(key, counter);
+            siftUp(counter.index);
+        } else {
+            counter = heap.get(0);
+            counters.remove(counter.key);
+            counter.key = key;
+            counter.error = counter.weight;
+            counter.weight += weight;
+            counters.put(key, counter);
+            siftDown(0);
+        }
+    }
+
+    /**
+     * @return the {@code limit} heaviest keys, heaviest first
+     */
+    synchronized List<Estimate<K>> top(int limit) {
+        return heap.stream()
+                .map(c -> new Estimate<>(c.key, c.weight, c.error))
+                .sorted(Comparator.comparingLong(Estimate<K>::weight).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    /**
+     * Combines the counters of several sketches and returns the {@code limit} heaviest keys,
+     * heaviest first. A key without a counter in a full sketch may have had a weight up to the
+     * smallest counter of that sketch there, which is added to both its weight and its error, so
+     * the estimates still bound the true weight.
+     */
+    static <K> List<Estimate<K>> merge(List<SpaceSaving<K>> sketches, int limit) {
+        var snapshots = sketches.stream().map(SpaceSaving::snapshot).toList();
+
+        var keys = new HashSet<K>();
+        snapshots.forEach(snapshot -> keys.addAll(snapshot.estimates().keySet()));
+
+        var merged = new ArrayList<Estimate<K>>(keys.size());
+        for (var key : keys) {
+            long weight = 0;
+            long error = 0;
+            for (var snapshot : snapshots) {
+                var estimate = snapshot.estimates().get(key);
+                weight += estimate != null ? estimate.weight() : snapshot.minWeight();
+                error += estimate != null ? estimate.error() : snapshot.minWeight();
+            }
+            merged.add(new Estimate<>(key, weight, error));
+        }
+
+        merged.sort(Comparator.comparingLong(Estimate<K>::weight).reversed());
+
+        return merged.subList(0, Math.min(limit, merged.size()));
+    }
+
+    private synchronized Snapshot<K> snapshot() {
+        var estimates = new HashMap<K, Estimate<K>>(heap.size() * 2);
+        heap.forEach(c -> estimates.put(c.key, new Estimate<>(c.key, c.weight, c.error)));
+
+        // keys without a counter may only have been dropped once the sketch was full
+        long minWeight = heap.size() < capacity ? 0 : heap.get(0).weight;
+
+        return new Snapshot<>(estimates, minWeight);
+    }
+
+    /**
+     * @return the total weight offered since the last {@link #clear()}
+     */
+    synchronized long total() {
+        return total;
+    }
+
+    synchronized void clear() {
+        counters.clear();
+        heap.clear();
+        total = 0;
+    }
+
+    private void siftUp(int index) {
+        while (index > 0) {
+            int parent = (index - 1) / 2;
+            if (heap.get(parent).weight <= heap.get(index).weight) {
+                return;
+            }
+            swap(index, parent);
+            index = parent;
+        }
+    }
+
+    private void siftDown(int index) {
+        int size = heap.size();
+        while (true) {
+            int smallest = index;
+            int left = 2 * index + 1;
+            int right = left + 1;
+            if (left < size && heap.get(left).weight < heap.get(smallest).weight) {
+                smallest = left;
+            }
+            if (right < size && heap.get(right).weight < heap.get(smallest).weight) {
+                smallest = right;
+            }
+            if (smallest == index) {
+                return;
+            }
+            swap(index, smallest);
+            index = smallest;
+        }
+    }
+
+    private void swap(int a, int b) {
+        var first = heap.get(a);
+        var second = heap.get(b);
+        heap.set(a, second);
+        heap.set(b, first);
+        first.index = b;
+        second.index = a;
+    }
+
+    /**
+     * The estimated weight of a key, which overestimates its true weight by at most {@code error}.
+     */
+    record Estimate<K>(K key, long weight, long error) {}
+
+    private record Snapshot<K>(Map<K, Estimate<K>> estimates, long minWeight) {}
+
+    private static final class Counter<K> {
+
+        private K key;
+
+        private long weight;
+
+        private long error;
+
+        private int index;
+
+        private Counter(K key, int index) {
+            this.key = key;
+            this.index = index;
+        }
+    }
+}
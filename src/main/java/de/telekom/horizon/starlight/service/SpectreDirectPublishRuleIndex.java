@@ -0,0 +1,180 @@
+// Copyright 2026 Deutsche Telekom IT GmbH
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package de.telekom.horizon.starlight.service;
+
+import de.telekom.horizon.starlight.config.spectre.SpectreDirectPublishRule;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The Spectre direct-publish rules compiled into hash lookups, so that matching an event costs the
+ * same for ten rules as for thousands.
+ *
+ * <p>Rules are indexed by their full selection ({@code issue}, {@code consumer}, {@code provider}).
+ * For duplicate selections the first rule in configuration order is kept, which preserves the
+ * first-match-wins semantics of evaluating the rules in order. The configured issues are kept in a
+ * separate set for the unmatched diagnostic.
+ *
+ * <p>Rules with an {@code issue-prefix} are kept in a trie of path segments, each node holding the
+ * rules of its prefix by {@code consumer} and {@code provider}. An issue is matched by walking down
+ * its segments, so the cost depends on the depth of the base-path but not on the number of prefix
+ * rules. The deepest node with a rule for the event's consumer and provider wins, and prefix rules
+ * are only consulted when no exact rule matched.
+ */
+final class SpectreDirectPublishRuleIndex {
+
+    private final Map<Selection, String> targetEventTypes;
+
+    private final Set<String> issues;
+
+    private final PrefixNode prefixes;
+
+    private final int size;
+
+    private SpectreDirectPublishRuleIndex(
+            Map<Selection, String> targetEventTypes, Set<String> issues, PrefixNode prefixes, int size) {
+        this.targetEventTypes = targetEventTypes;
+        this.issues = issues;
+        this.prefixes = prefixes;
+        this.size = size;
+    }
+
+    static SpectreDirectPublishRuleIndex compile(List<SpectreDirectPublishRule> rules) {
+        var targetEventTypes = new HashMap<Selection, String>(Math.max(16, rules.size() * 2));
+        var issues = new HashSet<String>();
+        var prefixes = new PrefixNode();
+        int size = 0;
+
+        for (var rule : rules) {
+            var apps = new Apps(rule.getConsumer(), rule.getProvider());
+            if (rule.getIssuePrefix() != null) {
+                var node = prefixes;
+                for (var segment : segments(rule.getIssuePrefix())) {
+                    node = node.children.computeIfAbsent(segment, s -> new PrefixNode());
+                }
+                if (node.targetEventTypes.putIfAbsent(apps, rule.getTargetEventType()) == null) {
+                    size++;
+                }
+            } else {
+                if (targetEventTypes.putIfAbsent(
+                                new Selection(rule.getIssue(), apps), rule.getTargetEventType())
+                        == null) {
+                    size++;
+                }
+                issues.add(rule.getIssue());
+            }
+        }
+
+        return new SpectreDirectPublishRuleIndex(targetEventTypes, issues, prefixes, size);
+    }
+
+    /**
+     * @return the target event type of the first rule matching the selection, or {@code null}
+     */
+    String findTargetEventType(String issue, String consumer, String provider) {
+        var apps = new Apps(consumer, provider);
+        if (issues.contains(issue)) {
+            var targetEventType = targetEventTypes.get(new Selection(issue, apps));
+            if (targetEventType != null) {
+                return targetEventType;
+            }
+        }
+
+        String longest = null;
+        var node = prefixes;
+        int start = 0;
+        while (node != null) {
+            var targetEventType = node.targetEventTypes.get(apps);
+            if (targetEventType != null) {
+                longest = targetEventType;
+            }
+
+            start = skipSlashes(issue, start);
+            if (start == issue.length() || node.children.isEmpty()) {
+                break;
+            }
+            int end = issue.indexOf('/', start);
+            if (end < 0) {
+                end = issue.length();
+            }
+            node = node.children.get(issue.substring(start, end));
+            start = end;
+        }
+
+        return longest;
+    }
+
+    /**
+     * @return whether any exact rule is configured for the issue or any prefix rule covers it
+     */
+    boolean containsIssue(String issue) {
+        if (issues.contains(issue)) {
+            return true;
+        }
+
+        var node = prefixes;
+        if (!node.targetEventTypes.isEmpty()) {
+            return true;
+        }
+        for (var segment : segments(issue)) {
+            node = node.children.get(segment);
+            if (node == null) {
+                return false;
+            }
+            if (!node.targetEventTypes.isEmpty()) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Splits a base-path into its segments, ignoring empty segments, so that {@code /eni/foo/}
+     * and {@code /eni/foo} denote the same prefix.
+     */
+    private static List<String> segments(String path) {
+        var segments = new ArrayList<String>();
+        int start = skipSlashes(path, 0);
+        while (start < path.length()) {
+            int end = path.indexOf('/', start);
+            if (end < 0) {
+                end = path.length();
+            }
+            segments.add(path.substring(start, end));
+            start = skipSlashes(path, end);
+        }
+
+        return segments;
+    }
+
+    private static int skipSlashes(String path, int start) {
+        while (start < path.length() && path.charAt(start) == '/') {
+            start++;
+        }
+
+        return start;
+    }
+
+    private record Apps(String consumer, String provider) {}
+
+    private record Selection(String issue, Apps apps) {}
+
+    private static final class PrefixNode {
+
+        private final Map<String, PrefixNode> children = new HashMap<>();
+
+        private final Map<Apps, String> targetEventTypes = new HashMap<>();
+    }
+}
@@ -0,0 +1,176 @@
+// Copyright 2026 Deutsche Telekom IT GmbH
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package de.telekom.horizon.starlight.service;
+
+import de.telekom.eni.pandora.horizon.metrics.HorizonMetricsHelper;
+import de.telekom.horizon.starlight.config.spectre.SpectreDirectPublishConfiguration;
+import de.telekom.horizon.starlight.config.spectre.SpectreDirectPublishRule;
+
+import io.micrometer.core.instrument.Counter;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.validation.Validator;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.ConfigurationPropertyName;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySource;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.boot.context.properties.source.ConfigurationPropertyState;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Loads the Spectre direct-publish rules from {@code starlight.spectre.direct-publish.rules-file}
+ * and keeps them up to date while Starlight is running.
+ *
+ * <p>The file is read every {@code rules-file-check-interval-ms}. Only if its content changed, the
+ * rules are bound like the {@code rules} of the application configuration, validated with the
+ * constraints of {@link SpectreDirectPublishRule} and handed to {@link
+ * SpectreDirectPublishService#updateRules(List)}, which swaps them in atomically. A file that
+ * cannot be read, parsed or validated, or lacks the {@code rules} key, is rejected as a whole: the
+ * active rules stay in place and {@code spectre_direct_publish_rules_reload_failures} is
+ * incremented. Since a mounted config-map is replaced by swapping a symlink, the file is never
+ * read half-written.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(value = "starlight.spectre.direct-publish.enabled", havingValue = "true")
+public class SpectreDirectPublishRuleLoader {
+
+    static final String METRIC_RULES_RELOAD_FAILURES = "spectre_direct_publish_rules_reload_failures";
+
+    private static final String RULES_PROPERTY = "rules";
+
+    private final SpectreDirectPublishConfiguration config;
+
+    private final SpectreDirectPublishService spectreDirectPublishService;
+
+    private final Validator validator;
+
+    private final Counter reloadFailureCounter;
+
+    private byte[] lastContent;
+
+    public SpectreDirectPublishRuleLoader(
+            SpectreDirectPublishConfiguration config,
+            SpectreDirectPublishService spectreDirectPublishService,
+            Validator validator,
+            HorizonMetricsHelper metricsHelper) {
+        this.config = config;
+        this.spectreDirectPublishService = spectreDirectPublishService;
+        this.validator = validator;
+        this.reloadFailureCounter =
+                metricsHelper.getRegistry().counter(METRIC_RULES_RELOAD_FAILURES);
+    }
+
+    /**
+     * Loads the rules file at startup, so its rules are active before the first request.
+     */
+    @PostConstruct
+    void init() {
+        reload();
+    }
+
+    /**
+     * Reloads the rules if the rules file is configured and its content changed since the last
+     * check.
+     */
+    @Scheduled(
+            fixedDelayString =
+                    "${starlight.spectre.direct-publish.rules-file-check-interval-ms:10000}",
+            initialDelayString =
+                    "${starlight.spectre.direct-publish.rules-file-check-interval-ms:10000}")
+    public synchronized void reload() {
+        if (config.getRulesFile() == null || config.getRulesFile().isBlank()) {
+            return;
+        }
+
+        var path = Path.of(config.getRulesFile());
+        try {
+            var content = Files.readAllBytes(path);
+            if (Arrays.equals(content, lastContent)) {
+                return;
+            }
+
+            var rules = parse(path, content);
+            var version = spectreDirectPublishService.updateRules(rules);
+            lastContent = content;
+
+            log.info(
+                    "Loaded {} Spectre direct-publish rules from {} as version {}",
+                    rules.size(),
+                    path,
+                    version);
+        } catch (IOException | RuntimeException e) {
+            reloadFailureCounter.increment();
+            log.error(
+                    "Could not load Spectre direct-publish rules from {}, keeping the active rules",
+                    path,
+                    e);
+        }
+    }
+
+    /**
+     * Binds and validates the rules of a rules file. A file without a {@code rules} key is rejected,
+     * so that a truncated or misspelled file does not remove all rules; removing them takes an
+     * explicit {@code rules: []}.
+     *
+     * @throws IllegalArgumentException if the {@code rules} key is missing or a rule is invalid
+     */
+    List<SpectreDirectPublishRule> parse(Path path, byte[] content) throws IOException {
+        var sources =
+                new YamlPropertySourceLoader()
+                        .load(path.toString(), new ByteArrayResource(content, path.toString()));
+        var propertySources = ConfigurationPropertySources.from(sources);
+        if (!containsRules(propertySources)) {
+            throw new IllegalArgumentException(
+                    "No " + RULES_PROPERTY + " key found, use \"" + RULES_PROPERTY + ": []\" to remove all rules");
+        }
+
+        var rules =
+                new Binder(propertySources)
+                        .bind(RULES_PROPERTY, Bindable.listOf(SpectreDirectPublishRule.class))
+                        .orElseGet(List::of);
+
+        var violations = new ArrayList<String>();
+        for (int i = 0; i < rules.size(); i++) {
+            for (var violation : validator.validate(rules.get(i))) {
+                violations.add(
+                        "rules[" + i + "]." + violation.getPropertyPath() + " " + violation.getMessage());
+            }
+        }
+        if (!violations.isEmpty()) {
+            throw new IllegalArgumentException("Invalid rules: " + String.join(", ", violations));
+        }
+
+        return rules;
+    }
+
+    private static boolean containsRules(Iterable<ConfigurationPropertySource> propertySources) {
+        var name = ConfigurationPropertyName.of(RULES_PROPERTY);
+        for (var source : propertySources) {
+            // an empty list is bound to an empty value of the key itself
+            if (source.getConfigurationProperty(name) != null
+                    || source.containsDescendantOf(name) == ConfigurationPropertyState.PRESENT) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+}
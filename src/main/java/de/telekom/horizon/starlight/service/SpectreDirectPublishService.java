@@ -8,13 +8,20 @@ import de.telekom.eni.pandora.horizon.metrics.HorizonMetricsHelper;
 import de.telekom.eni.pandora.horizon.model.event.Event;
 import de.telekom.horizon.starlight.config.spectre.SpectreDirectPublishConfiguration;
 import de.telekom.horizon.starlight.config.spectre.SpectreDirectPublishRule;
+import de.telekom.horizon.starlight.model.RawEventData;
+
+import io.micrometer.core.instrument.Gauge;
 
 import lombok.extern.slf4j.Slf4j;
 
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Direct-publishes high-volume Spectre "wiretap" events to a dedicated event type at publish time.
@@ -25,6 +32,14 @@ import java.util.Map;
  * is left untouched and follows the existing flow, so the feature is strictly additive and safe to
  * enable incrementally.
  *
+ * <p>The rules are compiled into a {@link SpectreDirectPublishRuleIndex} at startup, so matching
+ * does not depend on the number of configured rules. {@link SpectreDirectPublishRuleLoader} may
+ * replace them at runtime.
+ *
+ * <p>With {@link SpectreHeavyHitters} enabled, the selections of the events that pass the gates
+ * but are not rewritten are tracked as candidates for new rules, even while direct-publish itself
+ * is disabled.
+ *
  * @see SpectreDirectPublishConfiguration
  */
 @Service
@@ -47,6 +62,13 @@ public class SpectreDirectPublishService {
      */
     static final String METRIC_DIRECT_PUBLISH_UNMATCHED = "spectre_direct_publish_unmatched";
 
+    /**
+     * Gauge of the version of the active rule set. Starts at 1 for the rules bound at startup and
+     * is incremented every time {@link #updateRules(List)} swaps in a new rule set, so a reload is
+     * visible on all pods.
+     */
+    static final String METRIC_RULES_VERSION = "spectre_direct_publish_rules_version";
+
     static final String TAG_TARGET_EVENT_TYPE = "target_event_type";
     static final String TAG_ISSUE = "issue";
     static final String TAG_CONSUMER = "consumer";
@@ -60,10 +82,46 @@ public class SpectreDirectPublishService {
 
     private final HorizonMetricsHelper metricsHelper;
 
+    private final SpectreHeavyHitters heavyHitters;
+
+    private final AtomicLong rulesVersion = new AtomicLong(1);
+
+    private volatile SpectreDirectPublishRuleIndex rules;
+
     public SpectreDirectPublishService(
             SpectreDirectPublishConfiguration config, HorizonMetricsHelper metricsHelper) {
+        this(config, metricsHelper, null);
+    }
+
+    @Autowired
+    public SpectreDirectPublishService(
+            SpectreDirectPublishConfiguration config,
+            HorizonMetricsHelper metricsHelper,
+            @Nullable SpectreHeavyHitters heavyHitters) {
         this.config = config;
         this.metricsHelper = metricsHelper;
+        this.heavyHitters = heavyHitters;
+        this.rules = SpectreDirectPublishRuleIndex.compile(config.getRules());
+
+        Gauge.builder(METRIC_RULES_VERSION, rulesVersion, AtomicLong::get)
+                .register(metricsHelper.getRegistry());
+    }
+
+    /**
+     * Replaces the active rules. The rules are compiled before they are swapped in, so events are
+     * always matched against either the complete old or the complete new rule set. The tracked
+     * heavy hitters are reset, so that they only reflect the traffic the new rules leave behind.
+     *
+     * @param newRules the validated rules, in configuration order
+     * @return the version of the new rule set
+     */
+    public long updateRules(List<SpectreDirectPublishRule> newRules) {
+        rules = SpectreDirectPublishRuleIndex.compile(newRules);
+        if (heavyHitters != null) {
+            heavyHitters.reset();
+        }
+
+        return rulesVersion.incrementAndGet();
     }
 
     /**
@@ -71,17 +129,19 @@ public class SpectreDirectPublishService {
      *
      * <p>No-op unless the feature is enabled, {@code publisherId} exactly equals the configured
      * publisher, and the event's current type exactly equals the configured {@code applicable-type}
-     * gate. Rules are evaluated in order; the first rule whose {@code issue}, {@code consumer} and
-     * {@code provider} all match wins. When the {@code issue} matches a rule but the {@code
-     * consumer}/{@code provider} do not, a diagnostic counter is incremented (no rewrite, no error
-     * log).
+     * gate. Of the rules whose {@code issue}, {@code consumer} and {@code provider} all match, the
+     * first in configuration order wins; without such a rule, the rule with the longest matching
+     * {@code issue-prefix} wins. When the {@code issue} matches or is covered by a rule but the
+     * {@code consumer}/{@code provider} do not, a diagnostic counter is incremented (no rewrite, no
+     * error log). A sample of the events that pass the gates but are not rewritten is recorded in
+     * {@link SpectreHeavyHitters}, if enabled.
      *
      * @param event the event being published (mutated in place on a full match); never {@code null}
      *     and with a non-blank type, as enforced by upstream validation in {@code EventController}
      * @param publisherId the publisher id (OAuth2 {@code clientId}) of the caller
      */
     public void rewriteTypeForDirectPublish(@NonNull Event event, String publisherId) {
-        if (!config.isEnabled()) {
+        if (!config.isEnabled() && heavyHitters == null) {
             return;
         }
         if (!config.getPublisherId().equals(publisherId)) {
@@ -90,8 +150,13 @@ public class SpectreDirectPublishService {
         if (!config.getApplicableType().equals(event.getType())) {
             return;
         }
+        var track = heavyHitters != null && heavyHitters.sample();
+        if (!config.isEnabled() && !track) {
+            return;
+        }
 
-        if (!(event.getData() instanceof Map<?, ?> data)) {
+        var eventData = event.getData() instanceof RawEventData rawData ? rawData.getValue() : event.getData();
+        if (!(eventData instanceof Map<?, ?> data)) {
             // Spectre events carry a JSON object payload; anything else has no selection fields.
             return;
         }
@@ -106,32 +171,41 @@ public class SpectreDirectPublishService {
             return;
         }
 
-        boolean issueOnlyHit = false;
-        for (SpectreDirectPublishRule rule : config.getRules()) {
-            if (!rule.getIssue().equals(issue)) {
-                continue;
-            }
-            if (rule.getConsumer().equals(consumer) && rule.getProvider().equals(provider)) {
-                var targetEventType = rule.getTargetEventType();
-                if (log.isDebugEnabled()) {
-                    log.debug(
-                            "Direct-publishing event id={} from type '{}' to '{}' (publisherId={})",
-                            event.getId(),
-                            event.getType(),
-                            targetEventType,
-                            publisherId);
-                }
-                event.setType(targetEventType);
-                metricsHelper
-                        .getRegistry()
-                        .counter(METRIC_DIRECT_PUBLISH, TAG_TARGET_EVENT_TYPE, targetEventType)
-                        .increment();
-                return; // first match wins
+        if (config.isEnabled() && directPublish(event, publisherId, issue, consumer, provider)) {
+            return;
+        }
+
+        if (track) {
+            long bytes = event.getData() instanceof RawEventData rawData ? rawData.size() : 0;
+            heavyHitters.record(issue, consumer, provider, bytes);
+        }
+    }
+
+    /**
+     * @return whether the event type was rewritten
+     */
+    private boolean directPublish(
+            Event event, String publisherId, String issue, String consumer, String provider) {
+        var index = rules;
+        var targetEventType = index.findTargetEventType(issue, consumer, provider);
+        if (targetEventType != null) {
+            if (log.isDebugEnabled()) {
+                log.debug(
+                        "Direct-publishing event id={} from type '{}' to '{}' (publisherId={})",
+                        event.getId(),
+                        event.getType(),
+                        targetEventType,
+                        publisherId);
             }
-            issueOnlyHit = true;
+            event.setType(targetEventType);
+            metricsHelper
+                    .getRegistry()
+                    .counter(METRIC_DIRECT_PUBLISH, TAG_TARGET_EVENT_TYPE, targetEventType)
+                    .increment();
+            return true;
         }
 
-        if (issueOnlyHit) {
+        if (index.containsIssue(issue)) {
             // A configured base-path is carrying traffic from a consumer/provider we did not
             // configure.
             // Surface it as a metric (not a log line) so it is queryable without flooding logs at
@@ -148,5 +222,7 @@ public class SpectreDirectPublishService {
                             provider)
                     .increment();
         }
+
+        return false;
     }
 }
@@ -0,0 +1,168 @@
+// Copyright 2026 Deutsche Telekom IT GmbH
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package de.telekom.horizon.starlight.service;
+
+import de.telekom.horizon.starlight.config.spectre.SpectreHeavyHittersConfiguration;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.IntStream;
+
+/**
+ * Tracks the heaviest Spectre selections ({@code issue}, {@code consumer}, {@code provider}) of the
+ * events that stay on the generic Spectre stream, ranked by number of events and by payload bytes.
+ *
+ * <p>Each ranking is a set of {@link SpaceSaving} sketches of {@link
+ * SpectreHeavyHittersConfiguration#getCapacity() capacity} counters, so memory stays bounded no
+ * matter how many distinct selections the stream carries. The top selections are the rules that
+ * would take the most fan-out load off the generic stream; {@link SpectreHeavyHittersEndpoint}
+ * exposes them.
+ *
+ * <p>Recording sits on the publish path, so it is kept cheap: only a {@link
+ * SpectreHeavyHittersConfiguration#getSampleRate() sample} of the events is recorded, and each one
+ * goes to a randomly chosen stripe of sketches with its own lock, one stripe per processor. The
+ * stripes are merged and scaled back to the full stream when a report is requested.
+ *
+ * <p>Payload bytes are only known without serializing the event again when {@code event.data} is
+ * kept as raw JSON ({@code STARLIGHT_FEATURE_RAW_EVENT_DATA}); otherwise the byte ranking stays
+ * empty.
+ */
+@Component
+@ConditionalOnProperty(value = "starlight.spectre.heavy-hitters.enabled", havingValue = "true")
+public class SpectreHeavyHitters {
+
+    private final SpectreHeavyHittersConfiguration config;
+
+    private final List<SpaceSaving<Selection>> byCount;
+
+    private final List<SpaceSaving<Selection>> byBytes;
+
+    private volatile Instant since = Instant.now();
+
+    @Autowired
+    public SpectreHeavyHitters(SpectreHeavyHittersConfiguration config) {
+        this(config, Runtime.getRuntime().availableProcessors());
+    }
+
+    SpectreHeavyHitters(SpectreHeavyHittersConfiguration config, int stripes) {
+        this.config = config;
+        this.byCount = sketches(stripes, config.getCapacity());
+        this.byBytes = sketches(stripes, config.getCapacity());
+    }
+
+    /**
+     * @return whether the current event is part of the sample and should be {@link #record
+     *     recorded}
+     */
+    boolean sample() {
+        double rate = config.getSampleRate();
+        return rate >= 1 || ThreadLocalRandom.current().nextDouble() < rate;
+    }
+
+    /**
+     * Records a sampled event that was not direct-published.
+     *
+     * @param bytes the payload size, or {@code 0} if unknown
+     */
+    void record(String issue, String consumer, String provider, long bytes) {
+        var selection = new Selection(issue, consumer, provider);
+        int stripe = ThreadLocalRandom.current().nextInt(byCount.size());
+
+        byCount.get(stripe).offer(selection, 1);
+        if (bytes > 0) {
+            byBytes.get(stripe).offer(selection, bytes);
+        }
+    }
+
+    /**
+     * @param limit the number of selections per ranking, or {@code null} for the configured default
+     * @return the heaviest selections since the start or the last {@link #reset()}, with all
+     *     weights scaled by the inverse of the sample rate
+     */
+    public Report report(Integer limit) {
+        int top = limit != null && limit > 0 ? limit : config.getTop();
+        var start = since;
+        double seconds = Math.max(1, Duration.between(start, Instant.now()).toSeconds());
+        double scale = 1 / config.getSampleRate();
+
+        var events = total(byCount);
+        var bytes = total(byBytes);
+
+        return new Report(
+                start,
+                Math.round(events * scale),
+                Math.round(bytes * scale),
+                heavyHitters(SpaceSaving.merge(byCount, top), events, scale, seconds),
+                heavyHitters(SpaceSaving.merge(byBytes, top), bytes, scale, seconds));
+    }
+
+    /**
+     * Forgets all tracked selections. Called when new direct-publish rules are applied, as the
+     * selections they cover no longer stay on the generic stream.
+     */
+    public void reset() {
+        byCount.forEach(SpaceSaving::clear);
+        byBytes.forEach(SpaceSaving::clear);
+        since = Instant.now();
+    }
+
+    private static List<SpaceSaving<Selection>> sketches(int stripes, int capacity) {
+        return IntStream.range(0, Math.max(1, stripes))
+                .mapToObj(i -> new SpaceSaving<Selection>(capacity))
+                .toList();
+    }
+
+    private static long total(List<SpaceSaving<Selection>> sketches) {
+        return sketches.stream().mapToLong(SpaceSaving::total).sum();
+    }
+
+    private static List<HeavyHitter> heavyHitters(
+            List<SpaceSaving.Estimate<Selection>> estimates, long total, double scale, double seconds) {
+        return estimates.stream()
+                .map(
+                        e ->
+                                new HeavyHitter(
+                                        e.key().issue(),
+                                        e.key().consumer(),
+                                        e.key().provider(),
+                                        Math.round(e.weight() * scale),
+                                        Math.round(e.error() * scale),
+                                        e.weight() * scale / seconds,
+                                        total > 0 ? (double) e.weight() / total : 0))
+                .toList();
+    }
+
+    private record Selection(String issue, String consumer, String provider) {}
+
+    /**
+     * The heaviest selections since {@code since}, out of {@code events} events with {@code bytes}
+     * known payload bytes.
+     */
+    public record Report(
+            Instant since,
+            long events,
+            long bytes,
+            List<HeavyHitter> byCount,
+            List<HeavyHitter> byBytes) {}
+
+    /**
+     * A selection with its estimated weight (events or bytes), which exceeds the true weight by at
+     * most {@code error}, the weight per second and its share of the total weight.
+     */
+    public record HeavyHitter(
+            String issue,
+            String consumer,
+            String provider,
+            long estimate,
+            long error,
+            double perSecond,
+            double share) {}
+}
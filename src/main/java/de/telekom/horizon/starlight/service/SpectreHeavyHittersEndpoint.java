@@ -0,0 +1,36 @@
+// Copyright 2026 Deutsche Telekom IT GmbH
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package de.telekom.horizon.starlight.service;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * Lists the heaviest selections of the generic Spectre stream at {@code
+ * /actuator/spectreHeavyHitters}, optionally limited by {@code ?limit=}.
+ *
+ * <p>Actuator endpoints are not authenticated, so the endpoint is read-only and has to be exposed
+ * explicitly via {@code management.endpoints.web.exposure.include}. The tracked selections are
+ * reset whenever new direct-publish rules are applied.
+ */
+@Component
+@Endpoint(id = "spectreHeavyHitters")
+@ConditionalOnProperty(value = "starlight.spectre.heavy-hitters.enabled", havingValue = "true")
+public class SpectreHeavyHittersEndpoint {
+
+    private final SpectreHeavyHitters heavyHitters;
+
+    public SpectreHeavyHittersEndpoint(SpectreHeavyHitters heavyHitters) {
+        this.heavyHitters = heavyHitters;
+    }
+
+    @ReadOperation
+    public SpectreHeavyHitters.Report heavyHitters(@Nullable Integer limit) {
+        return heavyHitters.report(limit);
+    }
+}
@@ -0,0 +1,37 @@
+// Copyright 2026 Deutsche Telekom IT GmbH
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package de.telekom.horizon.starlight.service;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reports {@code OUT_OF_SERVICE} until the {@link WarmUpService} has finished or timed out. Part of the readiness
+ * group as {@code warmUp}.
+ */
+@Component
+@ConditionalOnProperty(value = "starlight.warm-up.enabled", havingValue = "true")
+public class WarmUpHealthIndicator implements HealthIndicator {
+
+    private final WarmUpService warmUpService;
+
+    public WarmUpHealthIndicator(WarmUpService warmUpService) {
+        this.warmUpService = warmUpService;
+    }
+
+    @Override
+    public Health health() {
+        var builder = warmUpService.isFinished() || warmUpService.isTimedOut() ?
+                Health.up() :
+                Health.outOfService();
+
+        return builder
+                .withDetail("finished", warmUpService.isFinished())
+                .withDetails(warmUpService.getDetails())
+                .build();
+    }
+}
@@ -0,0 +1,203 @@
+// Copyright 2026 Deutsche Telekom IT GmbH
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package de.telekom.horizon.starlight.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.telekom.eni.pandora.horizon.model.event.Event;
+import de.telekom.eni.pandora.horizon.schema.SchemaStore;
+import de.telekom.horizon.starlight.cache.PublisherCache;
+import de.telekom.horizon.starlight.cache.PublisherIndex;
+import de.telekom.horizon.starlight.config.StarlightConfig;
+import de.telekom.horizon.starlight.config.tenancy.TenantConfiguration;
+import de.telekom.horizon.starlight.config.warmup.WarmUpConfiguration;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Warms up Starlight after start, before {@link WarmUpHealthIndicator} lets the readiness probe succeed.
+ *
+ * <p>The warm-up fetches the Kafka metadata of the publishing topic and all tenant topics, builds the
+ * {@link PublisherIndex} (or queries the subscription cache once), polls the schemas and runs synthetic events
+ * through the checks and the serialization of the publish path, so that the first real requests neither wait for
+ * metadata and caches nor run in the interpreter. Nothing is written to Kafka. Failing steps are logged and
+ * skipped; once the configured timeout has passed, Starlight reports ready regardless.
+ *
+ * <p>The synthetic events skip the event type ownership check, so the synthetic event type needs no subscription.
+ * They also bypass the negative publisher cache and the schema validation metrics, so the warm-up leaves no traces
+ * in the caches and metrics of real traffic.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(value = "starlight.warm-up.enabled", havingValue = "true")
+public class WarmUpService {
+
+    private final WarmUpConfiguration config;
+
+    private final StarlightConfig starlightConfig;
+
+    private final TenantConfiguration tenantConfig;
+
+    private final KafkaTemplate<String, String> kafkaTemplate;
+
+    private final PublisherCache publisherCache;
+
+    private final PublisherIndex publisherIndex;
+
+    private final SchemaStore schemaStore;
+
+    private final PublisherService publisherService;
+
+    private final SchemaValidationService schemaValidationService;
+
+    private final ObjectMapper objectMapper;
+
+    private final Map<String, Object> details = new ConcurrentHashMap<>();
+
+    private volatile long deadlineMillis = Long.MAX_VALUE;
+
+    private volatile boolean finished;
+
+    public WarmUpService(WarmUpConfiguration config, StarlightConfig starlightConfig, TenantConfiguration tenantConfig,
+                         KafkaTemplate<String, String> kafkaTemplate, PublisherCache publisherCache,
+                         Optional<PublisherIndex> publisherIndex, SchemaStore schemaStore,
+                         PublisherService publisherService, SchemaValidationService schemaValidationService,
+                         ObjectMapper objectMapper) {
+        this.config = config;
+        this.starlightConfig = starlightConfig;
+        this.tenantConfig = tenantConfig;
+        this.kafkaTemplate = kafkaTemplate;
+        this.publisherCache = publisherCache;
+        this.publisherIndex = publisherIndex.orElse(null);
+        this.schemaStore = schemaStore;
+        this.publisherService = publisherService;
+        this.schemaValidationService = schemaValidationService;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Starts the warm-up in the background once the application context is ready.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void startWarmUp() {
+        deadlineMillis = System.currentTimeMillis() + config.getTimeoutMs();
+        Thread.ofPlatform().name("starlight-warm-up").daemon().start(this::warmUp);
+    }
+
+    void warmUp() {
+        var startedAt = System.currentTimeMillis();
+
+        step("kafkaMetadata", this::fetchKafkaMetadata);
+        step("publishers", this::preloadPublishers);
+        step("schemas", this::preloadSchemas);
+        step("syntheticPublishes", this::runSyntheticPublishes);
+
+        finished = true;
+        log.info("Warm-up finished after {} ms", System.currentTimeMillis() - startedAt);
+    }
+
+    public boolean isFinished() {
+        return finished;
+    }
+
+    public boolean isTimedOut() {
+        return System.currentTimeMillis() > deadlineMillis;
+    }
+
+    public Map<String, Object> getDetails() {
+        return Map.copyOf(details);
+    }
+
+    private void step(String name, Runnable step) {
+        if (isTimedOut()) {
+            details.put(name, "skipped");
+            return;
+        }
+
+        var startedAt = System.currentTimeMillis();
+        try {
+            step.run();
+            details.put(name, (System.currentTimeMillis() - startedAt) + "ms");
+        } catch (Exception e) {
+            log.warn("Warm-up step {} failed", name, e);
+            details.put(name, "failed: " + e.getMessage());
+        }
+    }
+
+    private void fetchKafkaMetadata() {
+        var topics = new LinkedHashSet<String>();
+        topics.add(starlightConfig.getPublishingTopic());
+        if (tenantConfig.isEnabled()) {
+            topics.addAll(tenantConfig.getRules().values());
+        }
+
+        for (var topic : topics) {
+            kafkaTemplate.partitionsFor(topic);
+        }
+    }
+
+    private void preloadPublishers() {
+        if (publisherIndex != null && !publisherIndex.isReady()) {
+            publisherIndex.rebuild();
+        }
+
+        publisherCache.warmUp(starlightConfig.getDefaultEnvironment(), config.getEventType());
+    }
+
+    private void preloadSchemas() {
+        if (starlightConfig.isEnableSchemaValidation()) {
+            schemaStore.pollSchemas();
+        }
+    }
+
+    private void runSyntheticPublishes() {
+        var environment = starlightConfig.getDefaultEnvironment();
+        var validated = 0;
+
+        for (var i = 0; i < config.getSyntheticPublishes() && !isTimedOut(); i++) {
+            var event = syntheticEvent();
+            try {
+                publisherService.validateEvent(event);
+                publisherService.checkPayloadSize(event);
+
+                if (starlightConfig.isEnableSchemaValidation() && schemaValidationService.warmUp(event, environment, config.getPublisherId())) {
+                    validated++;
+                }
+
+                var message = publisherService.prepareWarmUpMessage(event, environment);
+                // what the event writer does before handing the message to the producer
+                objectMapper.writeValueAsString(message);
+            } catch (Exception e) {
+                throw new IllegalStateException("Synthetic publish failed", e);
+            }
+        }
+
+        details.put("syntheticSchemaValidations", validated);
+    }
+
+    private Event syntheticEvent() {
+        var event = new Event();
+
+        event.setId(UUID.randomUUID().toString());
+        event.setType(config.getEventType());
+        event.setSpecVersion("1.0");
+        event.setSource("https://starlight/warm-up");
+        event.setTime(Instant.now().toString());
+        event.setDataContentType("application/json");
+        event.setData(Map.of("warmUp", true, "id", event.getId()));
+
+        return event;
+    }
+}
@@ -12,7 +12,9 @@ import org.springframework.security.oauth2.server.resource.authentication.JwtAut
 import org.springframework.stereotype.Service;
 
 import java.security.Principal;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 
 @Service
@@ -20,8 +22,17 @@ public class TokenServiceImpl implements TokenService {
 
     private static final Pattern REALM_PATTERN = Pattern.compile("^https://[\\w-.]+/auth/realms/(\\w+)$");
 
+    private static final String DEFAULT_REALM = "default";
+
+    static final String PUBLISHER_CONTEXT_ATTRIBUTE = TokenServiceImpl.class.getName() + ".publisherContext";
+
+    // issuers are trusted and therefore few, the limit only guards against misconfiguration
+    private static final int MAX_CACHED_ISSUERS = 256;
+
     private final HttpServletRequest request;
 
+    private final Map<String, String> realmsByIssuer = new ConcurrentHashMap<>();
+
     public TokenServiceImpl(HttpServletRequest request) {
         this.request = request;
     }
@@ -38,29 +49,77 @@ public class TokenServiceImpl implements TokenService {
 
     @Override
     public String getPublisherId() {
-        var principal = request.getUserPrincipal();
-        Jwt token = getToken(principal);
+        return getPublisherContext().getPublisherId();
+    }
+
+    @Override
+    public String getRealm() {
+        return getPublisherContext().getRealm();
+    }
 
-        if (token == null) {
-            return null;
+    /**
+     * Returns the publisher context of the current request, which takes publisher ID and realm from the token at
+     * most once per request.
+     */
+    private PublisherContext getPublisherContext() {
+        if (request.getAttribute(PUBLISHER_CONTEXT_ATTRIBUTE) instanceof PublisherContext context) {
+            return context;
         }
 
-        return Optional.ofNullable(token.getClaimAsString("clientId")).orElseGet(() -> token.getClaimAsString("azp"));
+        var context = new PublisherContext(getToken(request.getUserPrincipal()));
+        request.setAttribute(PUBLISHER_CONTEXT_ATTRIBUTE, context);
+
+        return context;
     }
 
-    @Override
-    public String getRealm() {
-        var principal = request.getUserPrincipal();
-        var token = getToken(principal);
+    private String realmOf(Jwt token) {
+        if (token == null || !token.hasClaim(JwtClaimNames.ISS)) {
+            return DEFAULT_REALM;
+        }
+
+        var issuer = token.getClaimAsString(JwtClaimNames.ISS);
+        var realm = realmsByIssuer.get(issuer);
+        if (realm == null) {
+            var matcher = REALM_PATTERN.matcher(issuer);
+            realm = matcher.find() ? matcher.group(1) : DEFAULT_REALM;
 
-        if (token != null && token.hasClaim(JwtClaimNames.ISS) ) {
-            var matcher = REALM_PATTERN.matcher(token.getIssuer().toString());
+            if (realmsByIssuer.size() < MAX_CACHED_ISSUERS) {
+                realmsByIssuer.put(issuer, realm);
+            }
+        }
+
+        return realm;
+    }
+
+    /**
+     * Publisher ID and realm of a request, each resolved from the token on first access.
+     */
+    private class PublisherContext {
+
+        private final Jwt token;
+
+        private String publisherId;
 
-            if (matcher.find()) {
-                return matcher.group(1);
+        private String realm;
+
+        PublisherContext(Jwt token) {
+            this.token = token;
+        }
+
+        String getPublisherId() {
+            if (publisherId == null && token != null) {
+                publisherId = Optional.ofNullable(token.getClaimAsString("clientId")).orElseGet(() -> token.getClaimAsString("azp"));
             }
+
+            return publisherId;
         }
 
-        return "default";
+        String getRealm() {
+            if (realm == null) {
+                realm = realmOf(token);
+            }
+
+            return realm;
+        }
     }
 }
@@ -7,6 +7,7 @@ package de.telekom.horizon.starlight.service.reporting;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import de.telekom.eni.pandora.horizon.model.event.Event;
+import de.telekom.horizon.starlight.model.RawEventData;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -44,7 +45,8 @@ public class RedisReportingService implements ReportingService {
     }
 
     private Optional<String> getTestCaseValueFromEvent(Event event) {
-        Map<String, String> eventData = objectMapper.convertValue(event.getData(), new TypeReference<>() {
+        var data = event.getData() instanceof RawEventData rawData ? rawData.getValue() : event.getData();
+        Map<String, String> eventData = objectMapper.convertValue(data, new TypeReference<>() {
         });
         return Optional.ofNullable(eventData.get("testCase"));
     }
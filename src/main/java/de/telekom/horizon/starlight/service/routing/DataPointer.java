@@ -0,0 +1,76 @@
+// Copyright 2026 Deutsche Telekom IT GmbH
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package de.telekom.horizon.starlight.service.routing;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A JSON pointer (RFC 6901) resolved against deserialized event data, i.e. maps, lists and scalars.
+ */
+record DataPointer(String pointer, String[] tokens) {
+
+    static DataPointer compile(String pointer) {
+        var parts = pointer.substring(1).split("/", -1);
+        for (int i = 0; i < parts.length; i++) {
+            parts[i] = parts[i].replace("~1", "/").replace("~0", "~");
+        }
+
+        return new DataPointer(pointer, parts);
+    }
+
+    /**
+     * @return the string representation of the scalar the pointer refers to, or {@code null} if there is none
+     */
+    String resolve(Object data) {
+        var current = data;
+        for (var token : tokens) {
+            if (current instanceof Map<?, ?> map) {
+                current = map.get(token);
+            } else if (current instanceof List<?> list) {
+                var index = parseIndex(token);
+                current = index >= 0 && index < list.size() ? list.get(index) : null;
+            } else {
+                return null;
+            }
+        }
+
+        if (current instanceof String string) {
+            return string;
+        } else if (current instanceof Number || current instanceof Boolean) {
+            return current.toString();
+        }
+
+        return null;
+    }
+
+    private static int parseIndex(String token) {
+        if (token.isEmpty() || token.length() > 9 || (token.length() > 1 && token.charAt(0) == '0')) {
+            return -1;
+        }
+        for (int i = 0; i < token.length(); i++) {
+            if (token.charAt(i) < '0' || token.charAt(i) > '9') {
+                return -1;
+            }
+        }
+
+        return Integer.parseInt(token);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof DataPointer other && pointer.equals(other.pointer);
+    }
+
+    @Override
+    public int hashCode() {
+        return pointer.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return pointer;
+    }
+}
@@ -0,0 +1,68 @@
+// Copyright 2026 Deutsche Telekom IT GmbH
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package de.telekom.horizon.starlight.service.routing;
+
+import de.telekom.eni.pandora.horizon.metrics.HorizonMetricsHelper;
+import de.telekom.eni.pandora.horizon.model.event.Event;
+import de.telekom.horizon.starlight.config.routing.TypeRoutingConfiguration;
+import de.telekom.horizon.starlight.model.RawEventData;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+/**
+ * Rewrites the type of published events based on their content, so that Galaxy can route them by type instead of
+ * evaluating a content filter for every subscription of a high-volume type.
+ *
+ * <p>The rules of {@link TypeRoutingConfiguration} are compiled into a {@link TypeRoutingTable} at startup. An
+ * event is routed by the first rule whose publisher and source type equal the event's and whose conditions on
+ * {@code event.data} are all satisfied. Events without a matching rule are left untouched.
+ *
+ * <p>Routing runs after the Spectre direct-publish, so the source type of a rule is compared with the type that
+ * stage produced (see {@link TypeRoutingConfiguration}).
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(value = "starlight.type-routing.enabled", havingValue = "true")
+public class TypeRoutingService {
+
+    static final String METRIC_TYPE_ROUTING = "starlight_type_routing";
+
+    static final String TAG_TARGET_EVENT_TYPE = "target_event_type";
+
+    private final HorizonMetricsHelper metricsHelper;
+
+    private final TypeRoutingTable table;
+
+    public TypeRoutingService(TypeRoutingConfiguration config, HorizonMetricsHelper metricsHelper) {
+        this.metricsHelper = metricsHelper;
+        this.table = TypeRoutingTable.compile(config.getRules());
+
+        log.info("Compiled {} type routing rules", table.size());
+    }
+
+    /**
+     * Rewrites {@code event.type} in place if a routing rule matches.
+     *
+     * @param event       the event being published
+     * @param publisherId the ID of the publisher
+     */
+    public void route(Event event, String publisherId) {
+        if (publisherId == null || event.getType() == null) {
+            return;
+        }
+
+        var data = event.getData() instanceof RawEventData rawData ? rawData.getValue() : event.getData();
+        var targetEventType = table.route(publisherId, event.getType(), data);
+        if (targetEventType == null) {
+            return;
+        }
+
+        log.debug("Routing event id={} from type '{}' to '{}' (publisherId={})", event.getId(), event.getType(), targetEventType, publisherId);
+
+        event.setType(targetEventType);
+        metricsHelper.getRegistry().counter(METRIC_TYPE_ROUTING, TAG_TARGET_EVENT_TYPE, targetEventType).increment();
+    }
+}
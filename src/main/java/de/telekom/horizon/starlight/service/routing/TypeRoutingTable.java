@@ -0,0 +1,199 @@
+// Copyright 2026 Deutsche Telekom IT GmbH
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package de.telekom.horizon.starlight.service.routing;
+
+import de.telekom.horizon.starlight.config.routing.TypeRoutingCondition;
+import de.telekom.horizon.starlight.config.routing.TypeRoutingRule;
+
+import java.util.*;
+import java.util.function.Predicate;
+
+/**
+ * The type routing rules compiled into hash lookups.
+ *
+ * <p>Rules are first grouped by their gate (publisher and source type). Within a gate, rules are grouped by the
+ * pointers of their equality conditions, and each such group maps the combination of expected values to the rules
+ * expecting exactly these values. Set conditions are expanded into one combination per value, as long as a rule
+ * does not expand into more than {@value #MAX_COMBINATIONS_PER_RULE} combinations. Routing an event therefore
+ * costs one lookup per gate and pointer group, and only the rules sharing the event's values are checked further
+ * (prefix conditions and sets that were too large to expand). The number of configured rules does not matter.
+ *
+ * <p>Of all matching rules, the first one in configuration order wins.
+ */
+final class TypeRoutingTable {
+
+    static final int MAX_COMBINATIONS_PER_RULE = 256;
+
+    private final Map<Gate, PointerGroup[]> groupsByGate;
+
+    private final int size;
+
+    private TypeRoutingTable(Map<Gate, PointerGroup[]> groupsByGate, int size) {
+        this.groupsByGate = groupsByGate;
+        this.size = size;
+    }
+
+    static TypeRoutingTable compile(List<TypeRoutingRule> rules) {
+        var builders = new HashMap<Gate, Map<List<DataPointer>, Map<List<String>, List<CompiledRule>>>>();
+
+        for (int index = 0; index < rules.size(); index++) {
+            var rule = rules.get(index);
+
+            // equality conditions by pointer, sorted so that rules with the same pointers share a group
+            var expected = new TreeMap<String, List<String>>();
+            var checks = new ArrayList<Predicate<Object>>();
+            for (var condition : rule.getConditions()) {
+                addCondition(condition, expected, checks);
+            }
+
+            // too many combinations: keep the largest sets as checks
+            while (combinations(expected) > MAX_COMBINATIONS_PER_RULE) {
+                var largest = expected.entrySet().stream().max(Comparator.comparingInt(e -> e.getValue().size())).orElseThrow();
+                var pointer = DataPointer.compile(largest.getKey());
+                var values = Set.copyOf(largest.getValue());
+                checks.add(data -> values.contains(pointer.resolve(data)));
+                expected.remove(largest.getKey());
+            }
+
+            var pointers = expected.keySet().stream().map(DataPointer::compile).toList();
+            var compiled = new CompiledRule(index, rule.getTargetEventType(), List.copyOf(checks));
+
+            var buckets = builders
+                    .computeIfAbsent(new Gate(rule.getPublisherId(), rule.getSourceType()), g -> new LinkedHashMap<>())
+                    .computeIfAbsent(pointers, p -> new HashMap<>());
+            for (var key : cartesianProduct(new ArrayList<>(expected.values()))) {
+                buckets.computeIfAbsent(key, k -> new ArrayList<>()).add(compiled);
+            }
+        }
+
+        var groupsByGate = new HashMap<Gate, PointerGroup[]>();
+        builders.forEach((gate, groups) -> groupsByGate.put(gate, groups.entrySet().stream()
+                .map(e -> new PointerGroup(e.getKey().toArray(DataPointer[]::new), e.getValue()))
+                .toArray(PointerGroup[]::new)));
+
+        return new TypeRoutingTable(groupsByGate, rules.size());
+    }
+
+    /**
+     * @return the target event type of the first matching rule, or {@code null} if no rule matches
+     */
+    String route(String publisherId, String sourceType, Object data) {
+        var groups = groupsByGate.get(new Gate(publisherId, sourceType));
+        if (groups == null) {
+            return null;
+        }
+
+        CompiledRule best = null;
+        for (var group : groups) {
+            var match = group.match(data, best != null ? best.index() : Integer.MAX_VALUE);
+            if (match != null) {
+                best = match;
+            }
+        }
+
+        return best != null ? best.targetEventType() : null;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private static void addCondition(TypeRoutingCondition condition, Map<String, List<String>> expected, List<Predicate<Object>> checks) {
+        var pointer = DataPointer.compile(condition.getPointer());
+
+        if (condition.getEquals() != null) {
+            intersect(expected, condition.getPointer(), List.of(condition.getEquals()));
+        } else if (condition.getIn() != null && !condition.getIn().isEmpty()) {
+            intersect(expected, condition.getPointer(), condition.getIn().stream().distinct().toList());
+        } else if (condition.getPrefix() != null) {
+            var prefix = condition.getPrefix();
+            checks.add(data -> {
+                var value = pointer.resolve(data);
+                return value != null && value.startsWith(prefix);
+            });
+        }
+    }
+
+    private static void intersect(Map<String, List<String>> expected, String pointer, List<String> values) {
+        expected.merge(pointer, values, (a, b) -> a.stream().filter(b::contains).toList());
+    }
+
+    private static long combinations(Map<String, List<String>> expected) {
+        long combinations = 1;
+        for (var values : expected.values()) {
+            combinations *= values.size();
+            if (combinations > MAX_COMBINATIONS_PER_RULE) {
+                break;
+            }
+        }
+
+        return combinations;
+    }
+
+    private static List<List<String>> cartesianProduct(List<List<String>> values) {
+        List<List<String>> product = List.of(List.of());
+        for (var options : values) {
+            var next = new ArrayList<List<String>>();
+            for (var prefix : product) {
+                for (var option : options) {
+                    var combination = new ArrayList<>(prefix);
+                    combination.add(option);
+                    next.add(List.copyOf(combination));
+                }
+            }
+            product = next;
+        }
+
+        return product;
+    }
+
+    private record Gate(String publisherId, String sourceType) {}
+
+    private record CompiledRule(int index, String targetEventType, List<Predicate<Object>> checks) {
+
+        boolean matches(Object data) {
+            for (var check : checks) {
+                if (!check.test(data)) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+    }
+
+    /**
+     * Rules with equality conditions on the same pointers, by their expected values. The rules of a bucket are
+     * in configuration order.
+     */
+    private record PointerGroup(DataPointer[] pointers, Map<List<String>, List<CompiledRule>> buckets) {
+
+        CompiledRule match(Object data, int beforeIndex) {
+            var values = new String[pointers.length];
+            for (int i = 0; i < pointers.length; i++) {
+                values[i] = pointers[i].resolve(data);
+                if (values[i] == null) {
+                    return null;
+                }
+            }
+
+            var bucket = buckets.get(Arrays.asList(values));
+            if (bucket == null) {
+                return null;
+            }
+
+            for (var rule : bucket) {
+                if (rule.index() >= beforeIndex) {
+                    break;
+                }
+                if (rule.matches(data)) {
+                    return rule;
+                }
+            }
+
+            return null;
+        }
+    }
+}
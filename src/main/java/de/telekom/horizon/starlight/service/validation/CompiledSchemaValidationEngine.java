@@ -0,0 +1,332 @@
+// Copyright 2026 Deutsche Telekom IT GmbH
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package de.telekom.horizon.starlight.service.validation;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.everit.json.schema.*;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.*;
+
+/**
+ * Compiles schemas ahead of time into a tree of checks on Jackson trees.
+ *
+ * <p>Where the {@link JacksonSchemaValidationEngine} walks the everit schema model on every validation, this engine
+ * walks it once per schema: every subschema becomes a check with its constants resolved up front (required keys as
+ * an array, properties in a hash map, limits as {@link BigDecimal}s, enum values as hash sets, references linked
+ * directly). Validating is then a plain traversal of the data without any type dispatch on the schema. Schemas with
+ * keywords the Jackson engine does not support are handed over to it, which in turn validates them with everit.
+ *
+ * <p>Compiling a schema costs far more than validating an event, so the compiled validators are kept by the
+ * {@link de.telekom.horizon.starlight.cache.SchemaCache}, which is always active with this engine.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(value = "starlight.schema.engine", havingValue = "compiled")
+public class CompiledSchemaValidationEngine implements SchemaValidationEngine {
+
+    private final JacksonSchemaValidationEngine interpreter;
+
+    public CompiledSchemaValidationEngine(ObjectMapper objectMapper) {
+        this.interpreter = new JacksonSchemaValidationEngine(objectMapper);
+    }
+
+    @Override
+    public SchemaValidator compile(Schema schema) {
+        if (!JacksonSchemaValidationEngine.isSupported(schema, Collections.newSetFromMap(new IdentityHashMap<>()))) {
+            return interpreter.compile(schema);
+        }
+
+        var check = new Compiler().compile(schema);
+
+        return data -> {
+            var violation = check.check(interpreter.toTree(data));
+            if (violation != null) {
+                throw violation;
+            }
+        };
+    }
+
+    /**
+     * A compiled subschema.
+     */
+    @FunctionalInterface
+    interface Check {
+
+        /**
+         * @return the first violation, or {@code null} if the node complies
+         */
+        ValidationException check(JsonNode node);
+    }
+
+    /**
+     * Compiles one schema; remembers the checks of referenced schemas so that recursive references terminate.
+     */
+    private static class Compiler {
+
+        private final Map<Schema, Reference> references = new IdentityHashMap<>();
+
+        Check compile(Schema schema) {
+            if (schema instanceof ObjectSchema objectSchema) {
+                return compileObject(objectSchema);
+            } else if (schema instanceof StringSchema stringSchema) {
+                return compileString(stringSchema);
+            } else if (schema instanceof NumberSchema numberSchema) {
+                return compileNumber(numberSchema);
+            } else if (schema instanceof ArraySchema arraySchema) {
+                return compileArray(arraySchema);
+            } else if (schema instanceof CombinedSchema combinedSchema) {
+                return compileCombined(combinedSchema);
+            } else if (schema instanceof ReferenceSchema referenceSchema) {
+                return compileReference(referenceSchema.getReferredSchema());
+            } else if (schema instanceof BooleanSchema) {
+                return node -> node.isBoolean() ? null : SchemaChecks.type(schema, "Boolean", node);
+            } else if (schema instanceof NullSchema) {
+                return node -> node.isNull() ? null : SchemaChecks.type(schema, "null", node);
+            } else if (schema instanceof EnumSchema enumSchema) {
+                var values = new SchemaChecks.Scalars(enumSchema.getPossibleValues());
+                return node -> values.contains(node) ? null : SchemaChecks.enumValue(schema, node);
+            } else if (schema instanceof ConstSchema constSchema) {
+                var values = new SchemaChecks.Scalars(Collections.singleton(constSchema.getPermittedValue()));
+                return node -> values.contains(node) ? null : SchemaChecks.constValue(schema);
+            } else if (schema instanceof NotSchema notSchema) {
+                var mustNotMatch = compile(notSchema.getMustNotMatch());
+                return node -> mustNotMatch.check(node) != null ? null : SchemaChecks.not(schema, notSchema.getMustNotMatch());
+            } else if (schema instanceof FalseSchema) {
+                return node -> SchemaChecks.falseSchema(schema);
+            }
+
+            // EmptySchema and TrueSchema
+            return node -> null;
+        }
+
+        private Check compileReference(Schema referredSchema) {
+            var reference = references.get(referredSchema);
+            if (reference == null) {
+                reference = new Reference();
+                references.put(referredSchema, reference);
+                reference.target = compile(referredSchema);
+            }
+
+            return reference;
+        }
+
+        private Check compileObject(ObjectSchema schema) {
+            var requiresObject = schema.requiresObject();
+            var required = schema.getRequiredProperties().toArray(String[]::new);
+            var minProperties = schema.getMinProperties();
+            var maxProperties = schema.getMaxProperties();
+            var permitsAdditionalProperties = schema.permitsAdditionalProperties();
+            var additionalProperties = schema.getSchemaOfAdditionalProperties() != null ? compile(schema.getSchemaOfAdditionalProperties()) : null;
+
+            var properties = new HashMap<String, Check>();
+            schema.getPropertySchemas().forEach((name, propertySchema) -> properties.put(name, compile(propertySchema)));
+
+            return node -> {
+                if (!node.isObject()) {
+                    return requiresObject ? SchemaChecks.type(schema, "JSONObject", node) : null;
+                }
+
+                for (var key : required) {
+                    if (!node.has(key)) {
+                        return SchemaChecks.required(schema, key);
+                    }
+                }
+
+                if (minProperties != null && node.size() < minProperties) {
+                    return SchemaChecks.minProperties(schema, minProperties, node.size());
+                }
+                if (maxProperties != null && node.size() > maxProperties) {
+                    return SchemaChecks.maxProperties(schema, maxProperties, node.size());
+                }
+
+                var fields = node.fields();
+                while (fields.hasNext()) {
+                    var field = fields.next();
+                    var property = properties.get(field.getKey());
+
+                    ValidationException violation = null;
+                    if (property != null) {
+                        violation = property.check(field.getValue());
+                    } else if (!permitsAdditionalProperties) {
+                        violation = SchemaChecks.additionalProperty(schema, field.getKey());
+                    } else if (additionalProperties != null) {
+                        violation = additionalProperties.check(field.getValue());
+                    }
+
+                    if (violation != null) {
+                        return violation;
+                    }
+                }
+
+                return null;
+            };
+        }
+
+        private Check compileString(StringSchema schema) {
+            var requiresString = schema.requireString();
+            var minLength = schema.getMinLength() != null ? schema.getMinLength() : -1;
+            var maxLength = schema.getMaxLength() != null ? schema.getMaxLength() : Integer.MAX_VALUE;
+            var pattern = schema.getRegexpPattern();
+            var formatValidator = schema.getFormatValidator() != FormatValidator.NONE ? schema.getFormatValidator() : null;
+
+            return node -> {
+                if (!node.isTextual()) {
+                    return requiresString ? SchemaChecks.type(schema, "String", node) : null;
+                }
+
+                var text = node.textValue();
+                if (minLength > 0 || maxLength != Integer.MAX_VALUE) {
+                    var length = text.codePointCount(0, text.length());
+                    if (length < minLength) {
+                        return SchemaChecks.minLength(schema, minLength, length);
+                    }
+                    if (length > maxLength) {
+                        return SchemaChecks.maxLength(schema, maxLength, length);
+                    }
+                }
+                if (pattern != null && pattern.patternMatchingFailure(text).isPresent()) {
+                    return SchemaChecks.pattern(schema, text, pattern);
+                }
+                if (formatValidator != null) {
+                    var failure = formatValidator.validate(text);
+                    if (failure.isPresent()) {
+                        return SchemaChecks.format(schema, failure.get());
+                    }
+                }
+
+                return null;
+            };
+        }
+
+        private Check compileNumber(NumberSchema schema) {
+            var requiresNumber = schema.isRequiresNumber() || schema.requiresInteger();
+            var requiresInteger = schema.requiresInteger();
+            var minimum = schema.getMinimum() != null ? SchemaChecks.decimal(schema.getMinimum()) : null;
+            var exclusiveMinimum = schema.isExclusiveMinimum();
+            var exclusiveMinimumLimit = schema.getExclusiveMinimumLimit() != null ? SchemaChecks.decimal(schema.getExclusiveMinimumLimit()) : null;
+            var maximum = schema.getMaximum() != null ? SchemaChecks.decimal(schema.getMaximum()) : null;
+            var exclusiveMaximum = schema.isExclusiveMaximum();
+            var exclusiveMaximumLimit = schema.getExclusiveMaximumLimit() != null ? SchemaChecks.decimal(schema.getExclusiveMaximumLimit()) : null;
+            var multipleOf = schema.getMultipleOf() != null ? SchemaChecks.decimal(schema.getMultipleOf()) : null;
+            var unbounded = minimum == null && exclusiveMinimumLimit == null && maximum == null && exclusiveMaximumLimit == null && multipleOf == null;
+
+            return node -> {
+                if (!node.isNumber()) {
+                    return requiresNumber ? SchemaChecks.type(schema, requiresInteger ? "Integer" : "Number", node) : null;
+                }
+                if (requiresInteger && !node.isIntegralNumber()) {
+                    return SchemaChecks.type(schema, "Integer", node);
+                }
+                if (unbounded) {
+                    return null;
+                }
+
+                var value = node.decimalValue();
+                if (minimum != null && (exclusiveMinimum ? value.compareTo(minimum) <= 0 : value.compareTo(minimum) < 0)) {
+                    return SchemaChecks.minimum(schema, value, minimum);
+                }
+                if (exclusiveMinimumLimit != null && value.compareTo(exclusiveMinimumLimit) <= 0) {
+                    return SchemaChecks.exclusiveMinimum(schema, value, exclusiveMinimumLimit);
+                }
+                if (maximum != null && (exclusiveMaximum ? value.compareTo(maximum) >= 0 : value.compareTo(maximum) > 0)) {
+                    return SchemaChecks.maximum(schema, value, maximum);
+                }
+                if (exclusiveMaximumLimit != null && value.compareTo(exclusiveMaximumLimit) >= 0) {
+                    return SchemaChecks.exclusiveMaximum(schema, value, exclusiveMaximumLimit);
+                }
+                if (multipleOf != null && value.remainder(multipleOf).signum() != 0) {
+                    return SchemaChecks.multipleOf(schema, value, multipleOf);
+                }
+
+                return null;
+            };
+        }
+
+        private Check compileArray(ArraySchema schema) {
+            var requiresArray = schema.requiresArray();
+            var minItems = schema.getMinItems();
+            var maxItems = schema.getMaxItems();
+            var items = schema.getAllItemSchema() != null ? compile(schema.getAllItemSchema()) : null;
+
+            return node -> {
+                if (!node.isArray()) {
+                    return requiresArray ? SchemaChecks.type(schema, "JSONArray", node) : null;
+                }
+
+                if (minItems != null && node.size() < minItems) {
+                    return SchemaChecks.minItems(schema, minItems, node.size());
+                }
+                if (maxItems != null && node.size() > maxItems) {
+                    return SchemaChecks.maxItems(schema, maxItems, node.size());
+                }
+
+                if (items != null) {
+                    for (var item : node) {
+                        var violation = items.check(item);
+                        if (violation != null) {
+                            return violation;
+                        }
+                    }
+                }
+
+                return null;
+            };
+        }
+
+        private Check compileCombined(CombinedSchema schema) {
+            var subschemas = schema.getSubschemas().stream().map(this::compile).toArray(Check[]::new);
+            var criterion = schema.getCriterion();
+
+            if (criterion == CombinedSchema.ALL_CRITERION) {
+                return node -> {
+                    for (var subschema : subschemas) {
+                        var violation = subschema.check(node);
+                        if (violation != null) {
+                            return violation;
+                        }
+                    }
+                    return null;
+                };
+            } else if (criterion == CombinedSchema.ANY_CRITERION) {
+                return node -> {
+                    for (var subschema : subschemas) {
+                        if (subschema.check(node) == null) {
+                            return null;
+                        }
+                    }
+                    return SchemaChecks.combined(schema, 0, criterion);
+                };
+            }
+
+            return node -> {
+                var matching = 0;
+                for (var subschema : subschemas) {
+                    if (subschema.check(node) == null) {
+                        matching++;
+                    }
+                }
+                return matching == 1 ? null : SchemaChecks.combined(schema, matching, criterion);
+            };
+        }
+    }
+
+    /**
+     * Check of a referenced schema, linked once the referenced schema has been compiled.
+     */
+    private static class Reference implements Check {
+
+        private Check target;
+
+        @Override
+        public ValidationException check(JsonNode node) {
+            return target.check(node);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+// Copyright 2026 Deutsche Telekom IT GmbH
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package de.telekom.horizon.starlight.service.validation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.telekom.horizon.starlight.model.RawEventData;
+import org.everit.json.schema.Schema;
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Validates with everit, after converting the data into {@link JSONObject}s and {@link JSONArray}s.
+ */
+@Component
+@ConditionalOnProperty(value = "starlight.schema.engine", havingValue = "everit", matchIfMissing = true)
+public class EveritSchemaValidationEngine implements SchemaValidationEngine {
+
+    private final ObjectMapper objectMapper;
+
+    public EveritSchemaValidationEngine(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public SchemaValidator compile(Schema schema) {
+        return data -> schema.validate(toJson(data));
+    }
+
+    private Object toJson(Object data) throws IOException {
+        try {
+            if (data instanceof RawEventData rawData) {
+                data = rawData.asString();
+            }
+
+            if (data instanceof JSONObject || data instanceof JSONArray) {
+                return data;
+            } else if (data instanceof String jsonString) {
+                return parse(jsonString);
+            } else if (data instanceof Map) {
+                return new JSONObject((Map<?, ?>) data);
+            } else if (data instanceof Collection) {
+                return new JSONArray((Collection<?>) data);
+            } else {
+                return parse(objectMapper.writeValueAsString(data));
+            }
+        } catch (JSONException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
+    private static Object parse(String jsonString) {
+        return jsonString.trim().startsWith("[") ?
+                new JSONArray(jsonString) :
+                new JSONObject(jsonString);
+    }
+}
@@ -0,0 +1,308 @@
+// Copyright 2026 Deutsche Telekom IT GmbH
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package de.telekom.horizon.starlight.service.validation;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.telekom.horizon.starlight.model.RawEventData;
+import lombok.extern.slf4j.Slf4j;
+import org.everit.json.schema.*;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+/**
+ * Validates Jackson trees directly against the everit schema model, without converting the data into
+ * {@link JSONObject}s first.
+ *
+ * <p>Data that has been received as raw JSON is parsed into a tree once; maps and lists are converted with
+ * {@link ObjectMapper#valueToTree}. The engine supports the keywords commonly used in event schemas (types,
+ * properties, required, additional properties, items, lengths, ranges, patterns, formats, enums, const, references
+ * and combinations). Schemas using other keywords (e.g. {@code patternProperties}, {@code dependencies}, tuple
+ * items, {@code uniqueItems} or {@code if}/{@code then}/{@code else}) are validated by everit instead. Only the
+ * first violation is reported.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(value = "starlight.schema.engine", havingValue = "jackson")
+public class JacksonSchemaValidationEngine implements SchemaValidationEngine {
+
+    private final ObjectMapper objectMapper;
+
+    private final EveritSchemaValidationEngine fallback;
+
+    public JacksonSchemaValidationEngine(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.fallback = new EveritSchemaValidationEngine(objectMapper);
+    }
+
+    @Override
+    public SchemaValidator compile(Schema schema) {
+        if (!isSupported(schema, Collections.newSetFromMap(new IdentityHashMap<>()))) {
+            log.debug("Schema {} uses keywords the Jackson engine does not support, using everit", schema.getSchemaLocation());
+
+            return fallback.compile(schema);
+        }
+
+        return data -> {
+            var violation = check(schema, toTree(data));
+            if (violation != null) {
+                throw violation;
+            }
+        };
+    }
+
+    JsonNode toTree(Object data) throws IOException {
+        if (data instanceof JsonNode node) {
+            return node;
+        } else if (data instanceof RawEventData rawData) {
+            return rawData.readTree(objectMapper);
+        } else if (data instanceof String jsonString) {
+            return objectMapper.readTree(jsonString);
+        } else if (data instanceof JSONObject || data instanceof JSONArray) {
+            return objectMapper.readTree(data.toString());
+        }
+
+        return objectMapper.valueToTree(data);
+    }
+
+    static boolean isSupported(Schema schema, Set<Schema> visited) {
+        if (!visited.add(schema)) {
+            return true;
+        }
+
+        if (schema instanceof ObjectSchema objectSchema) {
+            return objectSchema.getRegexpPatternProperties().isEmpty()
+                    && objectSchema.getPropertyDependencies().isEmpty()
+                    && objectSchema.getSchemaDependencies().isEmpty()
+                    && objectSchema.getPropertyNameSchema() == null
+                    && allSupported(objectSchema.getPropertySchemas().values(), visited)
+                    && (objectSchema.getSchemaOfAdditionalProperties() == null || isSupported(objectSchema.getSchemaOfAdditionalProperties(), visited));
+        } else if (schema instanceof ArraySchema arraySchema) {
+            return arraySchema.getItemSchemas() == null
+                    && arraySchema.getContainedItemSchema() == null
+                    && !arraySchema.needsUniqueItems()
+                    && (arraySchema.getAllItemSchema() == null || isSupported(arraySchema.getAllItemSchema(), visited));
+        } else if (schema instanceof CombinedSchema combinedSchema) {
+            var criterion = combinedSchema.getCriterion();
+
+            return (criterion == CombinedSchema.ALL_CRITERION || criterion == CombinedSchema.ANY_CRITERION || criterion == CombinedSchema.ONE_CRITERION)
+                    && allSupported(combinedSchema.getSubschemas(), visited);
+        } else if (schema instanceof EnumSchema enumSchema) {
+            return enumSchema.getPossibleValues().stream().allMatch(SchemaChecks::isScalar);
+        } else if (schema instanceof ConstSchema constSchema) {
+            return SchemaChecks.isScalar(constSchema.getPermittedValue());
+        } else if (schema instanceof NotSchema notSchema) {
+            return isSupported(notSchema.getMustNotMatch(), visited);
+        } else if (schema instanceof ReferenceSchema referenceSchema) {
+            return referenceSchema.getReferredSchema() != null && isSupported(referenceSchema.getReferredSchema(), visited);
+        }
+
+        return schema instanceof StringSchema || schema instanceof NumberSchema || schema instanceof BooleanSchema
+                || schema instanceof NullSchema || schema instanceof EmptySchema || schema instanceof FalseSchema;
+    }
+
+    private static boolean allSupported(Collection<Schema> schemas, Set<Schema> visited) {
+        for (var schema : schemas) {
+            if (!isSupported(schema, visited)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * @return the first violation, or {@code null} if the node complies with the schema
+     */
+    static ValidationException check(Schema schema, JsonNode node) {
+        if (schema instanceof ObjectSchema objectSchema) {
+            return checkObject(objectSchema, node);
+        } else if (schema instanceof StringSchema stringSchema) {
+            return checkString(stringSchema, node);
+        } else if (schema instanceof NumberSchema numberSchema) {
+            return checkNumber(numberSchema, node);
+        } else if (schema instanceof ArraySchema arraySchema) {
+            return checkArray(arraySchema, node);
+        } else if (schema instanceof CombinedSchema combinedSchema) {
+            return checkCombined(combinedSchema, node);
+        } else if (schema instanceof ReferenceSchema referenceSchema) {
+            return check(referenceSchema.getReferredSchema(), node);
+        } else if (schema instanceof BooleanSchema) {
+            return node.isBoolean() ? null : SchemaChecks.type(schema, "Boolean", node);
+        } else if (schema instanceof NullSchema) {
+            return node.isNull() ? null : SchemaChecks.type(schema, "null", node);
+        } else if (schema instanceof EnumSchema enumSchema) {
+            for (var value : enumSchema.getPossibleValues()) {
+                if (SchemaChecks.scalarEquals(value, node)) {
+                    return null;
+                }
+            }
+            return SchemaChecks.enumValue(schema, node);
+        } else if (schema instanceof ConstSchema constSchema) {
+            return SchemaChecks.scalarEquals(constSchema.getPermittedValue(), node) ? null : SchemaChecks.constValue(schema);
+        } else if (schema instanceof NotSchema notSchema) {
+            return check(notSchema.getMustNotMatch(), node) != null ? null : SchemaChecks.not(schema, notSchema.getMustNotMatch());
+        } else if (schema instanceof FalseSchema) {
+            return SchemaChecks.falseSchema(schema);
+        }
+
+        // EmptySchema and TrueSchema
+        return null;
+    }
+
+    private static ValidationException checkObject(ObjectSchema schema, JsonNode node) {
+        if (!node.isObject()) {
+            return schema.requiresObject() ? SchemaChecks.type(schema, "JSONObject", node) : null;
+        }
+
+        for (var required : schema.getRequiredProperties()) {
+            if (!node.has(required)) {
+                return SchemaChecks.required(schema, required);
+            }
+        }
+
+        if (schema.getMinProperties() != null && node.size() < schema.getMinProperties()) {
+            return SchemaChecks.minProperties(schema, schema.getMinProperties(), node.size());
+        }
+        if (schema.getMaxProperties() != null && node.size() > schema.getMaxProperties()) {
+            return SchemaChecks.maxProperties(schema, schema.getMaxProperties(), node.size());
+        }
+
+        var propertySchemas = schema.getPropertySchemas();
+        var fields = node.fields();
+        while (fields.hasNext()) {
+            var field = fields.next();
+            var propertySchema = propertySchemas.get(field.getKey());
+
+            ValidationException violation = null;
+            if (propertySchema != null) {
+                violation = check(propertySchema, field.getValue());
+            } else if (!schema.permitsAdditionalProperties()) {
+                violation = SchemaChecks.additionalProperty(schema, field.getKey());
+            } else if (schema.getSchemaOfAdditionalProperties() != null) {
+                violation = check(schema.getSchemaOfAdditionalProperties(), field.getValue());
+            }
+
+            if (violation != null) {
+                return violation;
+            }
+        }
+
+        return null;
+    }
+
+    private static ValidationException checkString(StringSchema schema, JsonNode node) {
+        if (!node.isTextual()) {
+            return schema.requireString() ? SchemaChecks.type(schema, "String", node) : null;
+        }
+
+        var text = node.textValue();
+        var length = text.codePointCount(0, text.length());
+        if (schema.getMinLength() != null && length < schema.getMinLength()) {
+            return SchemaChecks.minLength(schema, schema.getMinLength(), length);
+        }
+        if (schema.getMaxLength() != null && length > schema.getMaxLength()) {
+            return SchemaChecks.maxLength(schema, schema.getMaxLength(), length);
+        }
+        if (schema.getRegexpPattern() != null && schema.getRegexpPattern().patternMatchingFailure(text).isPresent()) {
+            return SchemaChecks.pattern(schema, text, schema.getRegexpPattern());
+        }
+
+        var formatFailure = schema.getFormatValidator().validate(text);
+
+        return formatFailure.map(message -> SchemaChecks.format(schema, message)).orElse(null);
+    }
+
+    private static ValidationException checkNumber(NumberSchema schema, JsonNode node) {
+        if (!node.isNumber()) {
+            return schema.isRequiresNumber() || schema.requiresInteger() ?
+                    SchemaChecks.type(schema, schema.requiresInteger() ? "Integer" : "Number", node) :
+                    null;
+        }
+        if (schema.requiresInteger() && !node.isIntegralNumber()) {
+            return SchemaChecks.type(schema, "Integer", node);
+        }
+
+        var value = node.decimalValue();
+        if (schema.getMinimum() != null) {
+            var comparison = value.compareTo(SchemaChecks.decimal(schema.getMinimum()));
+            if (schema.isExclusiveMinimum() ? comparison <= 0 : comparison < 0) {
+                return SchemaChecks.minimum(schema, value, schema.getMinimum());
+            }
+        }
+        if (schema.getExclusiveMinimumLimit() != null && value.compareTo(SchemaChecks.decimal(schema.getExclusiveMinimumLimit())) <= 0) {
+            return SchemaChecks.exclusiveMinimum(schema, value, schema.getExclusiveMinimumLimit());
+        }
+        if (schema.getMaximum() != null) {
+            var comparison = value.compareTo(SchemaChecks.decimal(schema.getMaximum()));
+            if (schema.isExclusiveMaximum() ? comparison >= 0 : comparison > 0) {
+                return SchemaChecks.maximum(schema, value, schema.getMaximum());
+            }
+        }
+        if (schema.getExclusiveMaximumLimit() != null && value.compareTo(SchemaChecks.decimal(schema.getExclusiveMaximumLimit())) >= 0) {
+            return SchemaChecks.exclusiveMaximum(schema, value, schema.getExclusiveMaximumLimit());
+        }
+        if (schema.getMultipleOf() != null && value.remainder(SchemaChecks.decimal(schema.getMultipleOf())).signum() != 0) {
+            return SchemaChecks.multipleOf(schema, value, schema.getMultipleOf());
+        }
+
+        return null;
+    }
+
+    private static ValidationException checkArray(ArraySchema schema, JsonNode node) {
+        if (!node.isArray()) {
+            return schema.requiresArray() ? SchemaChecks.type(schema, "JSONArray", node) : null;
+        }
+
+        if (schema.getMinItems() != null && node.size() < schema.getMinItems()) {
+            return SchemaChecks.minItems(schema, schema.getMinItems(), node.size());
+        }
+        if (schema.getMaxItems() != null && node.size() > schema.getMaxItems()) {
+            return SchemaChecks.maxItems(schema, schema.getMaxItems(), node.size());
+        }
+
+        if (schema.getAllItemSchema() != null) {
+            for (var item : node) {
+                var violation = check(schema.getAllItemSchema(), item);
+                if (violation != null) {
+                    return violation;
+                }
+            }
+        }
+
+        return null;
+    }
+
+    private static ValidationException checkCombined(CombinedSchema schema, JsonNode node) {
+        var criterion = schema.getCriterion();
+        var matching = 0;
+
+        for (var subschema : schema.getSubschemas()) {
+            var violation = check(subschema, node);
+            if (violation == null) {
+                matching++;
+                if (criterion == CombinedSchema.ANY_CRITERION) {
+                    return null;
+                }
+            } else if (criterion == CombinedSchema.ALL_CRITERION) {
+                return violation;
+            }
+        }
+
+        if (criterion == CombinedSchema.ALL_CRITERION || (criterion == CombinedSchema.ONE_CRITERION && matching == 1)) {
+            return null;
+        }
+
+        return SchemaChecks.combined(schema, matching, criterion);
+    }
+}
@@ -0,0 +1,181 @@
+// Copyright 2026 Deutsche Telekom IT GmbH
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package de.telekom.horizon.starlight.service.validation;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.everit.json.schema.Schema;
+import org.everit.json.schema.ValidationException;
+import org.json.JSONObject;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Violations and scalar comparisons shared by the {@link JacksonSchemaValidationEngine} and the
+ * {@link CompiledSchemaValidationEngine}, so that both report the same messages and compare enum and const values
+ * the same way. The messages follow the ones of everit.
+ */
+final class SchemaChecks {
+
+    private SchemaChecks() {
+    }
+
+    static ValidationException type(Schema schema, String expectedType, JsonNode node) {
+        return violation(schema, "expected type: " + expectedType + ", found: " + node.getNodeType(), "type");
+    }
+
+    static ValidationException required(Schema schema, String key) {
+        return violation(schema, "required key [" + key + "] not found", "required");
+    }
+
+    static ValidationException minProperties(Schema schema, int minProperties, int size) {
+        return violation(schema, "minimum size: [" + minProperties + "], found: [" + size + "]", "minProperties");
+    }
+
+    static ValidationException maxProperties(Schema schema, int maxProperties, int size) {
+        return violation(schema, "maximum size: [" + maxProperties + "], found: [" + size + "]", "maxProperties");
+    }
+
+    static ValidationException additionalProperty(Schema schema, String key) {
+        return violation(schema, "extraneous key [" + key + "] is not permitted", "additionalProperties");
+    }
+
+    static ValidationException minLength(Schema schema, int minLength, int length) {
+        return violation(schema, "expected minLength: " + minLength + ", actual: " + length, "minLength");
+    }
+
+    static ValidationException maxLength(Schema schema, int maxLength, int length) {
+        return violation(schema, "expected maxLength: " + maxLength + ", actual: " + length, "maxLength");
+    }
+
+    static ValidationException pattern(Schema schema, String text, Object pattern) {
+        return violation(schema, "string [" + text + "] does not match pattern " + pattern, "pattern");
+    }
+
+    static ValidationException format(Schema schema, String message) {
+        return violation(schema, message, "format");
+    }
+
+    static ValidationException minimum(Schema schema, BigDecimal value, Object minimum) {
+        return violation(schema, value + " is not greater or equal to " + minimum, "minimum");
+    }
+
+    static ValidationException exclusiveMinimum(Schema schema, BigDecimal value, Object limit) {
+        return violation(schema, value + " is not greater than " + limit, "exclusiveMinimum");
+    }
+
+    static ValidationException maximum(Schema schema, BigDecimal value, Object maximum) {
+        return violation(schema, value + " is not less or equal to " + maximum, "maximum");
+    }
+
+    static ValidationException exclusiveMaximum(Schema schema, BigDecimal value, Object limit) {
+        return violation(schema, value + " is not less than " + limit, "exclusiveMaximum");
+    }
+
+    static ValidationException multipleOf(Schema schema, BigDecimal value, Object multipleOf) {
+        return violation(schema, value + " is not a multiple of " + multipleOf, "multipleOf");
+    }
+
+    static ValidationException minItems(Schema schema, int minItems, int size) {
+        return violation(schema, "expected minimum item count: " + minItems + ", found: " + size, "minItems");
+    }
+
+    static ValidationException maxItems(Schema schema, int maxItems, int size) {
+        return violation(schema, "expected maximum item count: " + maxItems + ", found: " + size, "maxItems");
+    }
+
+    static ValidationException enumValue(Schema schema, JsonNode node) {
+        return violation(schema, node + " is not a valid enum value", "enum");
+    }
+
+    static ValidationException constValue(Schema schema) {
+        return violation(schema, "", "const");
+    }
+
+    static ValidationException not(Schema schema, Schema mustNotMatch) {
+        return violation(schema, "subject must not be valid against schema " + mustNotMatch, "not");
+    }
+
+    static ValidationException falseSchema(Schema schema) {
+        return violation(schema, "false schema always fails", "false");
+    }
+
+    static ValidationException combined(Schema schema, int matching, Object criterion) {
+        return violation(schema, matching + " subschemas matched", criterion.toString());
+    }
+
+    static ValidationException violation(Schema schema, String message, String keyword) {
+        return new ValidationException(schema, message, keyword, schema.getSchemaLocation());
+    }
+
+    static boolean isScalar(Object value) {
+        return value == null || value == JSONObject.NULL || value instanceof String || value instanceof Boolean || value instanceof Number;
+    }
+
+    static boolean scalarEquals(Object value, JsonNode node) {
+        if (value == null || value == JSONObject.NULL) {
+            return node.isNull();
+        } else if (value instanceof String string) {
+            return node.isTextual() && string.equals(node.textValue());
+        } else if (value instanceof Boolean bool) {
+            return node.isBoolean() && bool == node.booleanValue();
+        } else if (value instanceof Number number) {
+            return node.isNumber() && decimal(number).compareTo(node.decimalValue()) == 0;
+        }
+
+        return false;
+    }
+
+    static BigDecimal decimal(Number number) {
+        return number instanceof BigDecimal decimal ? decimal : new BigDecimal(number.toString());
+    }
+
+    /**
+     * Scalar values of an enum or const, grouped by JSON type for hash lookups.
+     */
+    static class Scalars {
+
+        private final Set<String> strings = new HashSet<>();
+
+        private final Set<BigDecimal> numbers = new HashSet<>();
+
+        private final Set<Boolean> booleans = new HashSet<>();
+
+        private boolean containsNull;
+
+        Scalars(Collection<?> values) {
+            for (var value : values) {
+                if (value == null || value == JSONObject.NULL) {
+                    containsNull = true;
+                } else if (value instanceof String string) {
+                    strings.add(string);
+                } else if (value instanceof Boolean bool) {
+                    booleans.add(bool);
+                } else if (value instanceof Number number) {
+                    // stripped, so that 2 and 2.0 are equal
+                    numbers.add(normalize(decimal(number)));
+                }
+            }
+        }
+
+        boolean contains(JsonNode node) {
+            if (node.isTextual()) {
+                return strings.contains(node.textValue());
+            } else if (node.isNumber()) {
+                return !numbers.isEmpty() && numbers.contains(normalize(node.decimalValue()));
+            } else if (node.isBoolean()) {
+                return booleans.contains(node.booleanValue());
+            }
+
+            return node.isNull() && containsNull;
+        }
+
+        private static BigDecimal normalize(BigDecimal value) {
+            return value.signum() == 0 ? BigDecimal.ZERO : value.stripTrailingZeros();
+        }
+    }
+}
@@ -0,0 +1,24 @@
+// Copyright 2026 Deutsche Telekom IT GmbH
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package de.telekom.horizon.starlight.service.validation;
+
+import org.everit.json.schema.Schema;
+
+/**
+ * Validates event data against the schemas of the {@code SchemaStore}.
+ *
+ * <p>The engine is selected with {@code starlight.schema.engine}. Compiling a schema may be costly, so the returned
+ * validators are meant to be cached (see {@link de.telekom.horizon.starlight.cache.SchemaCache}).
+ */
+public interface SchemaValidationEngine {
+
+    /**
+     * Prepares the validation of event data against the given schema.
+     *
+     * @param schema the schema as loaded by the schema store
+     * @return a thread-safe validator for the schema
+     */
+    SchemaValidator compile(Schema schema);
+}
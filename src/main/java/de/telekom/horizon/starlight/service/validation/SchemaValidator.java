@@ -0,0 +1,24 @@
+// Copyright 2026 Deutsche Telekom IT GmbH
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package de.telekom.horizon.starlight.service.validation;
+
+import org.everit.json.schema.ValidationException;
+
+import java.io.IOException;
+
+/**
+ * Validates event data against a single schema.
+ */
+@FunctionalInterface
+public interface SchemaValidator {
+
+    /**
+     * @param data the event data: maps, lists and scalars, a JSON string, a Jackson tree or a
+     *             {@link de.telekom.horizon.starlight.model.RawEventData}
+     * @throws ValidationException if the data does not comply with the schema
+     * @throws IOException         if the data is no valid JSON
+     */
+    void validate(Object data) throws IOException;
+}
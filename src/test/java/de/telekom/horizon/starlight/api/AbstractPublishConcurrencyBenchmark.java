@@ -0,0 +1,146 @@
+// Copyright 2026 Deutsche Telekom IT GmbH
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package de.telekom.horizon.starlight.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.telekom.eni.pandora.horizon.kafka.event.EventWriter;
+import de.telekom.eni.pandora.horizon.model.event.PublishedEventMessage;
+import de.telekom.eni.pandora.horizon.tracing.HorizonTracer;
+import de.telekom.horizon.starlight.cache.PublisherCache;
+import de.telekom.horizon.starlight.service.TokenService;
+import de.telekom.horizon.starlight.test.utils.AbstractIntegrationTest;
+import de.telekom.horizon.starlight.test.utils.HazelcastTestInstance;
+import de.telekom.horizon.starlight.test.utils.HorizonTestHelper;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.when;
+
+/**
+ * Compares the publish path on platform and virtual request threads with 1k and 10k concurrent connections against
+ * the embedded Kafka broker.
+ *
+ * <p>Every acknowledgement of the broker is delayed by {@link #ACK_DELAY_MS}, as a loaded broker would, so a request
+ * holds its thread while it waits. The subclasses only differ in {@code spring.threads.virtual.enabled}; the
+ * throughput and latencies of both runs are logged. 10k connections need about 20k open files for client and server
+ * together, so the benchmark only runs with {@code STARLIGHT_BENCHMARK=true}.
+ */
+@Slf4j
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "server.tomcat.max-connections=12000",
+        "server.tomcat.accept-count=1000"
+})
+@ExtendWith(HazelcastTestInstance.class)
+@EnabledIfEnvironmentVariable(named = "STARLIGHT_BENCHMARK", matches = "true")
+abstract class AbstractPublishConcurrencyBenchmark extends AbstractIntegrationTest {
+
+    static final long ACK_DELAY_MS = 200;
+
+    private static final String DEFAULT_PUBLISHER = "eni--pandora--foobar";
+
+    @MockBean
+    PublisherCache publisherCache;
+
+    @SpyBean
+    TokenService tokenService;
+
+    @SpyBean
+    private EventWriter eventWriter;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @LocalServerPort
+    private int port;
+
+    @BeforeEach
+    void init() {
+        when(tokenService.getPublisherId()).thenReturn(DEFAULT_PUBLISHER);
+        when(publisherCache.findPublisherIds(any(), any())).thenReturn(Set.of(DEFAULT_PUBLISHER));
+
+        doAnswer(invocation -> ((CompletableFuture<?>) invocation.callRealMethod())
+                .thenCompose(result -> CompletableFuture.supplyAsync(() -> result, CompletableFuture.delayedExecutor(ACK_DELAY_MS, TimeUnit.MILLISECONDS))))
+                .when(eventWriter).send(anyString(), any(PublishedEventMessage.class), any(HorizonTracer.class));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1_000, 10_000})
+    void publishWithConcurrentConnections(int connections) throws Exception {
+        var requests = new ArrayList<HttpRequest>(connections);
+        for (var i = 0; i < connections; i++) {
+            requests.add(HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/v1/integration/events"))
+                    .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                    .header(HttpHeaders.AUTHORIZATION, "Bearer Foo")
+                    .timeout(Duration.ofMinutes(2))
+                    .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(HorizonTestHelper.createNewEvent())))
+                    .build());
+        }
+
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            var client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .executor(executor)
+                    .build();
+
+            var latenciesMs = new long[connections];
+            var futures = new ArrayList<CompletableFuture<Integer>>(connections);
+
+            var start = System.nanoTime();
+            for (var i = 0; i < connections; i++) {
+                var index = i;
+                var sent = System.nanoTime();
+                futures.add(client.sendAsync(requests.get(i), HttpResponse.BodyHandlers.discarding())
+                        .thenApply(response -> {
+                            latenciesMs[index] = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - sent);
+                            return response.statusCode();
+                        }));
+            }
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+            var elapsedMs = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+
+            Map<Integer, Integer> statuses = new TreeMap<>();
+            futures.forEach(future -> statuses.merge(future.join(), 1, Integer::sum));
+            Arrays.sort(latenciesMs);
+
+            log.info("{} request threads, {} connections: {} requests/s, p50 {} ms, p99 {} ms, max {} ms, statuses {}",
+                    threadMode(), connections, connections * 1000L / elapsedMs,
+                    latenciesMs[connections / 2], latenciesMs[connections * 99 / 100], latenciesMs[connections - 1], statuses);
+
+            assertEquals(Map.of(HttpStatus.CREATED.value(), connections), statuses);
+        }
+    }
+
+    abstract String threadMode();
+}
@@ -9,6 +9,9 @@ import de.telekom.eni.pandora.horizon.tracing.HorizonTracer;
 import de.telekom.horizon.starlight.config.StarlightConfig;
 import de.telekom.horizon.starlight.config.rest.WebSecurityConfig;
 import de.telekom.horizon.starlight.exception.*;
+import de.telekom.horizon.starlight.model.EventPublishResult;
+import de.telekom.horizon.starlight.model.EventStreamSummary;
+import de.telekom.horizon.starlight.service.BatchPublisherService;
 import de.telekom.horizon.starlight.service.PublisherService;
 import de.telekom.horizon.starlight.service.SchemaValidationService;
 import de.telekom.horizon.starlight.service.TokenService;
@@ -26,6 +29,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
@@ -38,9 +42,14 @@ import org.springframework.test.web.servlet.client.MockMvcWebTestClient;
 import org.springframework.web.reactive.function.BodyInserters;
 import org.springframework.web.servlet.config.annotation.EnableWebMvc;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+
 import static de.telekom.horizon.starlight.test.utils.HorizonTestHelper.createNewEvent;
 import static de.telekom.horizon.starlight.test.utils.HorizonTestHelper.createNewInvalidEvent;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 
 @ExtendWith({SpringExtension.class, HazelcastTestInstance.class})
@@ -57,6 +66,8 @@ class EventControllerTest {
     @MockBean
     PublisherService publisherService;
     @MockBean
+    BatchPublisherService batchPublisherService;
+    @MockBean
     StarlightConfig starlightConfig;
     @MockBean
     KafkaTemplate<String, String> kafkaTemplate;
@@ -80,10 +91,13 @@ class EventControllerTest {
 
     WebTestClient webClient;
 
+    WebTestClient asyncWebClient;
+
     @BeforeEach
     void beforeEach() {
         validator = spy(Validation.buildDefaultValidatorFactory().getValidator());
-        webClient = MockMvcWebTestClient.bindToController(new EventController(tokenService, publisherService, tracer, redisReportingService)).controllerAdvice(restResponseEntityExceptionHandler).build();
+        webClient = MockMvcWebTestClient.bindToController(new EventController(tokenService, publisherService, tracer, redisReportingService, batchPublisherService, starlightConfig)).controllerAdvice(restResponseEntityExceptionHandler).build();
+        asyncWebClient = MockMvcWebTestClient.bindToController(new AsyncEventController(tokenService, publisherService, tracer, redisReportingService, batchPublisherService, starlightConfig)).controllerAdvice(restResponseEntityExceptionHandler).build();
     }
 
     @SneakyThrows
@@ -189,9 +203,169 @@ class EventControllerTest {
         });
     }
 
+    @Test
+    @DisplayName("Batch of events can be successfully published via POST API endpoint")
+    void batchCanBeSuccessfullyPublished() {
+        var publisherId = TokenServiceMockImpl.MOCKED_PUBLISHER_ID;
+        var events = List.of(createNewEvent(), createNewEvent());
+
+        when(tokenService.getPublisherId()).thenReturn(publisherId);
+        when(starlightConfig.getBatchMaxEvents()).thenReturn(10);
+        when(batchPublisherService.publishAll(any(), eq(publisherId), eq(DEFAULT_ENVIRONMENT), any())).thenReturn(List.of(
+                EventPublishResult.created(events.get(0).getId()),
+                EventPublishResult.created(events.get(1).getId())
+        ));
+
+        assertDoesNotThrow(() -> {
+            doPublishBatchRequest(events).expectStatus().isCreated()
+                    .expectBody().jsonPath("$.length()").isEqualTo(2);
+            verify(redisReportingService, times(2)).markEventProduced(any(Event.class));
+        });
+    }
+
+    @Test
+    @DisplayName("Batch with partial failures is answered with a per-event status")
+    void batchWithPartialFailuresReportsStatusPerEvent() {
+        var publisherId = TokenServiceMockImpl.MOCKED_PUBLISHER_ID;
+        var events = List.of(createNewEvent(), createNewEvent());
+
+        when(tokenService.getPublisherId()).thenReturn(publisherId);
+        when(starlightConfig.getBatchMaxEvents()).thenReturn(10);
+        when(batchPublisherService.publishAll(any(), eq(publisherId), eq(DEFAULT_ENVIRONMENT), any())).thenReturn(List.of(
+                EventPublishResult.created(events.get(0).getId()),
+                EventPublishResult.failed(events.get(1).getId(), HttpStatus.FORBIDDEN, "forbidden")
+        ));
+
+        assertDoesNotThrow(() -> {
+            doPublishBatchRequest(events).expectStatus().isEqualTo(HttpStatus.MULTI_STATUS)
+                    .expectBody()
+                    .jsonPath("$[0].status").isEqualTo(201)
+                    .jsonPath("$[1].status").isEqualTo(403)
+                    .jsonPath("$[1].id").isEqualTo(events.get(1).getId());
+            verify(redisReportingService, times(1)).markEventProduced(any(Event.class));
+        });
+    }
+
+    @Test
+    @DisplayName("Batch exceeding the maximum number of events is rejected")
+    void batchExceedingMaximumIsRejected() {
+        when(starlightConfig.getBatchMaxEvents()).thenReturn(1);
+
+        assertDoesNotThrow(() -> {
+            doPublishBatchRequest(List.of(createNewEvent(), createNewEvent())).expectStatus().isEqualTo(HttpStatus.PAYLOAD_TOO_LARGE);
+            verify(batchPublisherService, never()).publishAll(any(), any(), any(), any());
+        });
+    }
+
+    @Test
+    @DisplayName("Stream of events is answered with a summary of the failed events")
+    void streamWithFailuresReportsSummary() throws Exception {
+        var publisherId = TokenServiceMockImpl.MOCKED_PUBLISHER_ID;
+        var summary = new EventStreamSummary(10);
+        summary.add(EventPublishResult.created("1").atIndex(0));
+        summary.add(EventPublishResult.failed("2", HttpStatus.FORBIDDEN, "forbidden").atIndex(1));
+
+        when(tokenService.getPublisherId()).thenReturn(publisherId);
+        when(starlightConfig.getBatchMaxEvents()).thenReturn(10);
+        when(batchPublisherService.publishStream(any(), eq(publisherId), eq(DEFAULT_ENVIRONMENT), any(), eq(10), any())).thenReturn(summary);
+
+        assertDoesNotThrow(() -> webClient.post()
+                .uri(String.format("/v1/%s/events:stream", DEFAULT_ENVIRONMENT))
+                .accept(MediaType.APPLICATION_JSON)
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .header("Authorization", String.format("Bearer %s", TOKEN))
+                .bodyValue("{}\n{}\n")
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.MULTI_STATUS)
+                .expectBody()
+                .jsonPath("$.received").isEqualTo(2)
+                .jsonPath("$.created").isEqualTo(1)
+                .jsonPath("$.failures[0].index").isEqualTo(1)
+                .jsonPath("$.failures[0].status").isEqualTo(403));
+    }
+
+    @Test
+    @DisplayName("Event can be successfully published via POST API endpoint in async mode")
+    void eventCanBeSuccessfullyPublishedAsync() throws HorizonStarlightException {
+        var publisherId = TokenServiceMockImpl.MOCKED_PUBLISHER_ID;
+
+        when(tokenService.getPublisherId()).thenReturn(publisherId);
+        when(publisherService.publishAsync(any(Event.class), eq(publisherId), eq(DEFAULT_ENVIRONMENT), any()))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        assertDoesNotThrow(() -> {
+            doPublishEventRequest(asyncWebClient, createNewEvent()).expectStatus().isCreated();
+            verify(redisReportingService, times(1)).markEventProduced(any(Event.class));
+        });
+    }
+
+    @Test
+    @DisplayName("Reporting in async mode does not run on the producer's callback thread")
+    void asyncReportingLeavesProducerThread() throws HorizonStarlightException {
+        var publisherId = TokenServiceMockImpl.MOCKED_PUBLISHER_ID;
+        var acknowledgement = new CompletableFuture<Void>();
+        var reportingThread = new AtomicReference<String>();
+
+        when(tokenService.getPublisherId()).thenReturn(publisherId);
+        when(publisherService.publishAsync(any(Event.class), eq(publisherId), eq(DEFAULT_ENVIRONMENT), any()))
+                .thenAnswer(i -> {
+                    Thread.ofPlatform().name("kafka-producer-network-thread").start(() -> acknowledgement.complete(null));
+                    return acknowledgement;
+                });
+        doAnswer(i -> {
+            reportingThread.set(Thread.currentThread().getName());
+            return null;
+        }).when(redisReportingService).markEventProduced(any(Event.class));
+
+        assertDoesNotThrow(() -> doPublishEventRequest(asyncWebClient, createNewEvent()).expectStatus().isCreated());
+        assertTrue(reportingThread.get().startsWith("starlight-publish-completion-"), reportingThread.get());
+    }
+
+    @Test
+    @DisplayName("Errors while writing to Kafka are mapped to the same status codes in async mode")
+    void asyncPublishErrorsAreMapped() throws HorizonStarlightException {
+        var publisherId = TokenServiceMockImpl.MOCKED_PUBLISHER_ID;
+
+        when(tokenService.getPublisherId()).thenReturn(publisherId);
+        when(publisherService.publishAsync(any(Event.class), eq(publisherId), eq(DEFAULT_ENVIRONMENT), any()))
+                .thenReturn(CompletableFuture.failedFuture(new PayloadTooLargeException("too large")))
+                .thenReturn(CompletableFuture.failedFuture(new CouldNotPublishEventMessageException("failed", null)));
+
+        assertDoesNotThrow(() -> {
+            doPublishEventRequest(asyncWebClient, createNewEvent()).expectStatus().isEqualTo(HttpStatus.PAYLOAD_TOO_LARGE);
+            doPublishEventRequest(asyncWebClient, createNewEvent()).expectStatus().isEqualTo(HttpStatus.GATEWAY_TIMEOUT);
+            verify(redisReportingService, never()).markEventProduced(any(Event.class));
+        });
+    }
+
+    @Test
+    @DisplayName("Failing checks are answered synchronously in async mode")
+    void asyncPublishChecksFailSynchronously() throws HorizonStarlightException {
+        doThrow(RealmDoesNotMatchEnvironmentException.class).when(publisherService).checkRealm(any(), eq(DEFAULT_ENVIRONMENT));
+
+        assertDoesNotThrow(() -> {
+            doPublishEventRequest(asyncWebClient, createNewEvent()).expectStatus().isUnauthorized();
+            verify(publisherService, never()).publishAsync(any(Event.class), any(), any(), any());
+        });
+    }
+
     // helper functions
-    private WebTestClient.ResponseSpec doPublishEventRequest(Event event) {
+    private WebTestClient.ResponseSpec doPublishBatchRequest(List<Event> events) {
         return webClient.post()
+                .uri(String.format("/v1/%s/events:batch", DEFAULT_ENVIRONMENT))
+                .accept(MediaType.APPLICATION_JSON)
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("Authorization", String.format("Bearer %s", TOKEN))
+                .body(BodyInserters.fromValue(events))
+                .exchange();
+    }
+
+    private WebTestClient.ResponseSpec doPublishEventRequest(Event event) {
+        return doPublishEventRequest(webClient, event);
+    }
+
+    private WebTestClient.ResponseSpec doPublishEventRequest(WebTestClient client, Event event) {
+        return client.post()
                 .uri(String.format("/v1/%s/events", DEFAULT_ENVIRONMENT))
                 .accept(MediaType.APPLICATION_JSON)
                 .contentType(MediaType.APPLICATION_JSON)
@@ -0,0 +1,16 @@
+// Copyright 2026 Deutsche Telekom IT GmbH
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package de.telekom.horizon.starlight.api;
+
+import org.springframework.test.context.TestPropertySource;
+
+@TestPropertySource(properties = "spring.threads.virtual.enabled=false")
+class PlatformThreadPublishConcurrencyBenchmark extends AbstractPublishConcurrencyBenchmark {
+
+    @Override
+    String threadMode() {
+        return "Platform";
+    }
+}
@@ -0,0 +1,145 @@
+// Copyright 2026 Deutsche Telekom IT GmbH
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package de.telekom.horizon.starlight.api;
+
+import de.telekom.horizon.starlight.config.StarlightConfig;
+import de.telekom.horizon.starlight.exception.PayloadTooLargeException;
+import de.telekom.horizon.starlight.exception.RequestBodyTooLargeException;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RequestSizeLimitFilterTest {
+
+    private static final long MAX_PAYLOAD_SIZE = 100;
+    private static final long ENVELOPE_ALLOWANCE = 20;
+
+    @Mock
+    StarlightConfig starlightConfig;
+
+    @Mock
+    HandlerExceptionResolver handlerExceptionResolver;
+
+    @Mock
+    FilterChain filterChain;
+
+    RequestSizeLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(starlightConfig.getDefaultMaxPayloadSize()).thenReturn(MAX_PAYLOAD_SIZE);
+        lenient().when(starlightConfig.getPayloadEnvelopeAllowance()).thenReturn(ENVELOPE_ALLOWANCE);
+        lenient().when(starlightConfig.getPayloadCheckExemptionList()).thenReturn(List.of(""));
+
+        filter = new RequestSizeLimitFilter(starlightConfig, handlerExceptionResolver);
+    }
+
+    @Test
+    @DisplayName("Request with a too large Content-Length is rejected before the body is read")
+    void tooLargeContentLengthIsRejected() throws Exception {
+        var request = eventRequest(new byte[(int) (MAX_PAYLOAD_SIZE + ENVELOPE_ALLOWANCE + 1)]);
+        var response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, filterChain);
+
+        verify(filterChain, never()).doFilter(any(), any());
+        verify(handlerExceptionResolver).resolveException(eq(request), eq(response), isNull(), any(PayloadTooLargeException.class));
+    }
+
+    @Test
+    @DisplayName("Reading a too large body without Content-Length fails once the limit is exceeded")
+    void tooLargeChunkedBodyIsAborted() throws Exception {
+        var request = new MockHttpServletRequest("POST", "/v1/test/events") {
+            @Override
+            public long getContentLengthLong() {
+                return -1;
+            }
+        };
+        request.setContent(new byte[(int) (MAX_PAYLOAD_SIZE + ENVELOPE_ALLOWANCE + 1)]);
+
+        filter.doFilter(request, new MockHttpServletResponse(), filterChain);
+
+        var captor = ArgumentCaptor.forClass(HttpServletRequest.class);
+        verify(filterChain).doFilter(captor.capture(), any());
+        assertThrows(RequestBodyTooLargeException.class, () -> captor.getValue().getInputStream().readAllBytes());
+    }
+
+    @Test
+    @DisplayName("Requests that may carry an exempted event type are limited to the exempted maximum")
+    void exemptedEventTypesAreLimitedToExemptedMaximum() throws Exception {
+        when(starlightConfig.getPayloadCheckExemptionList()).thenReturn(List.of("exempted.v1"));
+        when(starlightConfig.getExemptedMaxPayloadSize()).thenReturn(1000L);
+
+        var withoutType = eventRequest(new byte[1000]);
+        filter.doFilter(withoutType, new MockHttpServletResponse(), filterChain);
+
+        var exempted = eventRequest(new byte[1000]);
+        exempted.addHeader(RequestSizeLimitFilter.EVENT_TYPE_HEADER, "exempted.v1");
+        filter.doFilter(exempted, new MockHttpServletResponse(), filterChain);
+        verify(filterChain, times(2)).doFilter(any(HttpServletRequest.class), any());
+
+        var tooLarge = eventRequest(new byte[1001]);
+        tooLarge.addHeader(RequestSizeLimitFilter.EVENT_TYPE_HEADER, "exempted.v1");
+        filter.doFilter(tooLarge, new MockHttpServletResponse(), filterChain);
+        verify(handlerExceptionResolver).resolveException(eq(tooLarge), any(), isNull(), any(PayloadTooLargeException.class));
+
+        var notExempted = eventRequest(new byte[1000]);
+        notExempted.addHeader(RequestSizeLimitFilter.EVENT_TYPE_HEADER, "other.v1");
+        filter.doFilter(notExempted, new MockHttpServletResponse(), filterChain);
+        verify(handlerExceptionResolver).resolveException(eq(notExempted), any(), isNull(), any(PayloadTooLargeException.class));
+    }
+
+    @Test
+    @DisplayName("Batch requests are limited to the maximum batch size")
+    void batchRequestsAreLimited() throws Exception {
+        when(starlightConfig.getBatchMaxBytes()).thenReturn(500L);
+
+        var withinLimit = eventRequest(new byte[500]);
+        withinLimit.setRequestURI("/v1/test/events:batch");
+        filter.doFilter(withinLimit, new MockHttpServletResponse(), filterChain);
+        verify(filterChain).doFilter(any(HttpServletRequest.class), any());
+
+        var tooLarge = eventRequest(new byte[501]);
+        tooLarge.setRequestURI("/v1/test/events:batch");
+        filter.doFilter(tooLarge, new MockHttpServletResponse(), filterChain);
+        verify(handlerExceptionResolver).resolveException(eq(tooLarge), any(), isNull(), any(PayloadTooLargeException.class));
+    }
+
+    @Test
+    @DisplayName("Only the single-event and the batch endpoint are limited")
+    void otherEndpointsAreNotLimited() throws Exception {
+        var request = eventRequest(new byte[1000]);
+        request.setRequestURI("/v1/test/events:stream");
+
+        filter.doFilter(request, new MockHttpServletResponse(), filterChain);
+
+        verify(filterChain).doFilter(eq(request), any());
+        verifyNoInteractions(handlerExceptionResolver);
+    }
+
+    private MockHttpServletRequest eventRequest(byte[] body) {
+        var request = new MockHttpServletRequest("POST", "/v1/test/events");
+        request.setContent(body);
+
+        return request;
+    }
+}
@@ -0,0 +1,143 @@
+// Copyright 2026 Deutsche Telekom IT GmbH
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package de.telekom.horizon.starlight.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hazelcast.core.HazelcastJsonValue;
+import de.telekom.eni.pandora.horizon.metrics.HorizonMetricsHelper;
+import de.telekom.horizon.starlight.config.cache.PublisherCacheConfiguration;
+import de.telekom.horizon.starlight.test.utils.HazelcastTestInstance;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static de.telekom.horizon.starlight.test.utils.HorizonTestHelper.createSubscriptionJson;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ExtendWith(HazelcastTestInstance.class)
+class NegativePublisherCacheTest {
+
+    private static final String ENVIRONMENT = "default";
+    private static final String EVENT_TYPE = "pandora.horizon.starlight.test.caas.v1";
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private PublisherCacheConfiguration config;
+
+    private NegativePublisherCache negativeCache;
+
+    @BeforeEach
+    void setUp() {
+        config = new PublisherCacheConfiguration();
+        config.setSubscriptionMapName("subscriptions-" + UUID.randomUUID());
+
+        negativeCache = new NegativePublisherCache(HazelcastTestInstance.getHazelcastInstance(), config, new HorizonMetricsHelper(registry));
+    }
+
+    @Test
+    @DisplayName("Event types without subscriptions are remembered and counted as hits")
+    void negativeResultsAreRemembered() {
+        assertFalse(negativeCache.isKnownWithoutSubscriptions(ENVIRONMENT, EVENT_TYPE));
+
+        negativeCache.markWithoutSubscriptions(ENVIRONMENT, EVENT_TYPE, negativeCache.generation());
+
+        assertTrue(negativeCache.isKnownWithoutSubscriptions(ENVIRONMENT, EVENT_TYPE));
+        assertFalse(negativeCache.isKnownWithoutSubscriptions("other", EVENT_TYPE));
+        assertThat(registry.get(NegativePublisherCache.METRIC_NEGATIVE_CACHE_HITS).counter().count(), is(1.0));
+        assertThat(registry.get(NegativePublisherCache.METRIC_NEGATIVE_CACHE_MISSES).counter().count(), is(2.0));
+    }
+
+    @Test
+    @DisplayName("Adding a subscription clears the negative cache")
+    void addedSubscriptionInvalidates() throws InterruptedException {
+        negativeCache.markWithoutSubscriptions(ENVIRONMENT, EVENT_TYPE, negativeCache.generation());
+        var generation = negativeCache.generation();
+
+        HazelcastTestInstance.getHazelcastInstance().getMap(config.getSubscriptionMapName()).put("a", new HazelcastJsonValue("{}"));
+
+        var deadline = System.currentTimeMillis() + 5_000;
+        while (negativeCache.size() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+
+        assertFalse(negativeCache.isKnownWithoutSubscriptions(ENVIRONMENT, EVENT_TYPE));
+
+        // a result looked up before the change must not be cached anymore
+        negativeCache.markWithoutSubscriptions(ENVIRONMENT, EVENT_TYPE, generation);
+        assertFalse(negativeCache.isKnownWithoutSubscriptions(ENVIRONMENT, EVENT_TYPE));
+    }
+
+    @Test
+    @DisplayName("With the publisher index, the cache is cleared once the index has applied a subscription")
+    void publisherIndexInvalidates() throws InterruptedException {
+        var publisherIndex = new PublisherIndex(HazelcastTestInstance.getHazelcastInstance(), config, new ObjectMapper(), new HorizonMetricsHelper(new SimpleMeterRegistry()));
+        negativeCache = new NegativePublisherCache(HazelcastTestInstance.getHazelcastInstance(), config, new HorizonMetricsHelper(registry), Optional.of(publisherIndex));
+
+        // nothing is cached while the index does not answer lookups
+        negativeCache.markWithoutSubscriptions(ENVIRONMENT, EVENT_TYPE, negativeCache.generation());
+        assertThat(negativeCache.size(), is(0));
+
+        publisherIndex.rebuild();
+        negativeCache.markWithoutSubscriptions(ENVIRONMENT, EVENT_TYPE, negativeCache.generation());
+        assertTrue(negativeCache.isKnownWithoutSubscriptions(ENVIRONMENT, EVENT_TYPE));
+
+        var generation = negativeCache.generation();
+        HazelcastTestInstance.getHazelcastInstance().getMap(config.getSubscriptionMapName())
+                .put("a", createSubscriptionJson(ENVIRONMENT, EVENT_TYPE, "pub-a", List.of()));
+
+        var deadline = System.currentTimeMillis() + 5_000;
+        while (negativeCache.generation() == generation && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+
+        // by the time the cache is cleared, the index already answers with the new subscription
+        assertThat(publisherIndex.findPublisherIds(ENVIRONMENT, EVENT_TYPE), contains("pub-a"));
+        assertFalse(negativeCache.isKnownWithoutSubscriptions(ENVIRONMENT, EVENT_TYPE));
+    }
+
+    @Test
+    @DisplayName("Entries expire and the number of entries is bounded")
+    void entriesExpireAndAreBounded() throws InterruptedException {
+        config.setNegativeCacheTtlMs(50);
+        config.setNegativeCacheMaxSize(1);
+
+        negativeCache.markWithoutSubscriptions(ENVIRONMENT, EVENT_TYPE, negativeCache.generation());
+        negativeCache.markWithoutSubscriptions(ENVIRONMENT, "other", negativeCache.generation());
+        assertThat(negativeCache.size(), is(1));
+
+        Thread.sleep(100);
+
+        assertFalse(negativeCache.isKnownWithoutSubscriptions(ENVIRONMENT, EVENT_TYPE));
+        negativeCache.markWithoutSubscriptions(ENVIRONMENT, "other", negativeCache.generation());
+        assertTrue(negativeCache.isKnownWithoutSubscriptions(ENVIRONMENT, "other"));
+    }
+
+    @Test
+    @DisplayName("Cached event types are listed with their hits, most hit first")
+    void cachedTypesAreListedWithHits() {
+        negativeCache.markWithoutSubscriptions(ENVIRONMENT, EVENT_TYPE, negativeCache.generation());
+        negativeCache.markWithoutSubscriptions(ENVIRONMENT, "other", negativeCache.generation());
+
+        negativeCache.isKnownWithoutSubscriptions(ENVIRONMENT, "other");
+        negativeCache.isKnownWithoutSubscriptions(ENVIRONMENT, "other");
+        negativeCache.isKnownWithoutSubscriptions(ENVIRONMENT, EVENT_TYPE);
+
+        var cachedTypes = negativeCache.cachedTypes(null);
+        assertThat(cachedTypes.stream().map(NegativePublisherCache.CachedType::eventType).toList(), contains("other", EVENT_TYPE));
+        assertThat(cachedTypes.stream().map(NegativePublisherCache.CachedType::hits).toList(), contains(2L, 1L));
+
+        assertThat(negativeCache.cachedTypes(1).size(), is(1));
+    }
+}
@@ -14,9 +14,14 @@ import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 
+import java.util.List;
+import java.util.Optional;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.when;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
 
 @SpringBootTest()
 class PublisherCacheTest {
@@ -39,4 +44,19 @@ class PublisherCacheTest {
         assertTrue(ex.getMessage().contains(EVENT_TYPE));
         assertInstanceOf(JsonCacheException.class, ex.getCause());
     }
+
+    @Test
+    void eventTypesKnownWithoutSubscriptionsAreNotQueried() throws JsonCacheException {
+        var negativeCache = mock(NegativePublisherCache.class);
+        when(negativeCache.isKnownWithoutSubscriptions(DEFAULT_ENVIRONMENT, EVENT_TYPE)).thenReturn(false, true);
+        when(subscriptionCache.getQuery(any(Query.class))).thenReturn(List.of());
+
+        var publisherCache = new PublisherCache(starlightConfig, subscriptionCache, Optional.empty(), Optional.of(negativeCache), Optional.empty());
+
+        assertTrue(publisherCache.findPublisherIds(DEFAULT_ENVIRONMENT, EVENT_TYPE).isEmpty());
+        verify(negativeCache).markWithoutSubscriptions(eq(DEFAULT_ENVIRONMENT), eq(EVENT_TYPE), anyLong());
+
+        assertTrue(publisherCache.findPublisherIds(DEFAULT_ENVIRONMENT, EVENT_TYPE).isEmpty());
+        verify(subscriptionCache, times(1)).getQuery(any(Query.class));
+    }
 }
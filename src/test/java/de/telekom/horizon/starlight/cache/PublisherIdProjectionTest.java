@@ -0,0 +1,59 @@
+// Copyright 2026 Deutsche Telekom IT GmbH
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package de.telekom.horizon.starlight.cache;
+
+import com.hazelcast.map.IMap;
+import de.telekom.horizon.starlight.config.cache.PublisherCacheConfiguration;
+import de.telekom.horizon.starlight.test.utils.HazelcastTestInstance;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.List;
+import java.util.UUID;
+
+import static de.telekom.horizon.starlight.test.utils.HorizonTestHelper.createSubscriptionJson;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+
+@ExtendWith(HazelcastTestInstance.class)
+class PublisherIdProjectionTest {
+
+    private static final String ENVIRONMENT = "default";
+    private static final String EVENT_TYPE = "pandora.horizon.starlight.test.caas.v1";
+
+    private IMap<Object, Object> subscriptions;
+
+    private PublisherIdProjection projection;
+
+    @BeforeEach
+    void setUp() {
+        var config = new PublisherCacheConfiguration();
+        config.setSubscriptionMapName("subscriptions-" + UUID.randomUUID());
+
+        subscriptions = HazelcastTestInstance.getHazelcastInstance().getMap(config.getSubscriptionMapName());
+        projection = new PublisherIdProjection(HazelcastTestInstance.getHazelcastInstance(), config);
+    }
+
+    @AfterEach
+    void tearDown() {
+        subscriptions.destroy();
+    }
+
+    @Test
+    @DisplayName("Projection returns publisher IDs and additional publisher IDs of matching subscriptions only")
+    void projectionReturnsPublisherIds() {
+        subscriptions.put("a", createSubscriptionJson(ENVIRONMENT, EVENT_TYPE, "pub-a", List.of("pub-x", "pub-y")));
+        subscriptions.put("b", createSubscriptionJson(ENVIRONMENT, EVENT_TYPE, "pub-b", List.of()));
+        subscriptions.put("c", createSubscriptionJson("other", EVENT_TYPE, "pub-c", List.of("pub-z")));
+        subscriptions.put("d", createSubscriptionJson(ENVIRONMENT, "other.type", "pub-d", List.of()));
+
+        assertThat(projection.findPublisherIds(ENVIRONMENT, EVENT_TYPE), containsInAnyOrder("pub-a", "pub-b", "pub-x", "pub-y"));
+        assertThat(projection.findPublisherIds(ENVIRONMENT, "unknown"), empty());
+    }
+}
@@ -0,0 +1,53 @@
+// Copyright 2026 Deutsche Telekom IT GmbH
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package de.telekom.horizon.starlight.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PublisherIdSetTest {
+
+    @Test
+    @DisplayName("Dictionary assigns stable, dense IDs")
+    void dictionaryAssignsStableIds() {
+        var dictionary = new StringDictionary();
+
+        for (var i = 0; i < 100; i++) {
+            assertThat(dictionary.intern("pub-" + i), is(i));
+        }
+
+        assertThat(dictionary.intern("pub-42"), is(42));
+        assertThat(dictionary.idOf("pub-99"), is(99));
+        assertThat(dictionary.idOf("unknown"), is(-1));
+        assertThat(dictionary.valueOf(7), is("pub-7"));
+        assertThat(dictionary.size(), is(100));
+    }
+
+    @Test
+    @DisplayName("Set answers contains via the dictionary and behaves like an immutable set")
+    void setBehavesLikeImmutableSet() {
+        var dictionary = new StringDictionary();
+        var a = dictionary.intern("pub-a");
+        dictionary.intern("pub-b");
+        var c = dictionary.intern("pub-c");
+
+        var set = new PublisherIdSet(dictionary, new int[]{a, c});
+
+        assertThat(set.contains("pub-a"), is(true));
+        assertThat(set.contains("pub-b"), is(false));
+        assertThat(set.contains("unknown"), is(false));
+        assertThat(set.contains(42), is(false));
+        assertThat(set, containsInAnyOrder("pub-a", "pub-c"));
+        assertThat(set, is(Set.of("pub-a", "pub-c")));
+        assertThat(set.hashCode(), is(Set.of("pub-a", "pub-c").hashCode()));
+        assertThrows(UnsupportedOperationException.class, () -> set.add("pub-b"));
+    }
+}
@@ -0,0 +1,223 @@
+// Copyright 2026 Deutsche Telekom IT GmbH
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package de.telekom.horizon.starlight.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hazelcast.core.HazelcastJsonValue;
+import com.hazelcast.map.IMap;
+import de.telekom.eni.pandora.horizon.metrics.HorizonMetricsHelper;
+import de.telekom.horizon.starlight.config.cache.PublisherCacheConfiguration;
+import de.telekom.horizon.starlight.test.utils.HazelcastTestInstance;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+
+import static de.telekom.horizon.starlight.test.utils.HorizonTestHelper.createSubscriptionJson;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ExtendWith(HazelcastTestInstance.class)
+class PublisherIndexTest {
+
+    private static final String ENVIRONMENT = "default";
+    private static final String EVENT_TYPE = "pandora.horizon.starlight.test.caas.v1";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private PublisherCacheConfiguration config;
+
+    private IMap<Object, Object> subscriptions;
+
+    private PublisherIndex publisherIndex;
+
+    @BeforeEach
+    void setUp() {
+        config = new PublisherCacheConfiguration();
+        config.setSubscriptionMapName("subscriptions-" + UUID.randomUUID());
+
+        subscriptions = HazelcastTestInstance.getHazelcastInstance().getMap(config.getSubscriptionMapName());
+        publisherIndex = new PublisherIndex(HazelcastTestInstance.getHazelcastInstance(), config, objectMapper, new HorizonMetricsHelper(registry));
+    }
+
+    @AfterEach
+    void tearDown() {
+        publisherIndex.shutdown();
+        subscriptions.destroy();
+    }
+
+    @Test
+    @DisplayName("Index is not answering lookups before it has been built")
+    void indexIsNotReadyBeforeRebuild() {
+        assertThat(publisherIndex.findPublisherIds(ENVIRONMENT, EVENT_TYPE), nullValue());
+    }
+
+    @Test
+    @DisplayName("Rebuild collects publisher IDs and additional publisher IDs by environment and event type")
+    void rebuildCollectsPublisherIds() {
+        subscriptions.put("a", createSubscriptionJson(ENVIRONMENT, EVENT_TYPE, "pub-a", List.of("pub-x")));
+        subscriptions.put("b", createSubscriptionJson(ENVIRONMENT, EVENT_TYPE, "pub-b", List.of()));
+        subscriptions.put("c", createSubscriptionJson("other", EVENT_TYPE, "pub-c", List.of()));
+        subscriptions.put("broken", new HazelcastJsonValue("{\"spec\": 42}"));
+
+        publisherIndex.rebuild();
+
+        assertThat(publisherIndex.findPublisherIds(ENVIRONMENT, EVENT_TYPE), containsInAnyOrder("pub-a", "pub-b", "pub-x"));
+        assertThat(publisherIndex.findPublisherIds("other", EVENT_TYPE), contains("pub-c"));
+        assertThat(publisherIndex.findPublisherIds(ENVIRONMENT, "unknown"), empty());
+        assertThat(registry.get(PublisherIndex.METRIC_INDEX_REBUILDS).counter().count(), is(1.0));
+        assertThat(registry.get(PublisherIndex.METRIC_INDEX_SIZE).gauge().value(), is(2.0));
+    }
+
+    @Test
+    @DisplayName("Added, updated and removed subscriptions are applied incrementally")
+    void changesAreAppliedIncrementally() throws InterruptedException {
+        publisherIndex.rebuild();
+
+        subscriptions.put("a", createSubscriptionJson(ENVIRONMENT, EVENT_TYPE, "pub-a", List.of()));
+        awaitUntil(() -> publisherIndex.findPublisherIds(ENVIRONMENT, EVENT_TYPE).contains("pub-a"));
+
+        subscriptions.put("a", createSubscriptionJson(ENVIRONMENT, EVENT_TYPE, "pub-b", List.of()));
+        awaitUntil(() -> publisherIndex.findPublisherIds(ENVIRONMENT, EVENT_TYPE).equals(Set.of("pub-b")));
+
+        subscriptions.put("a", createSubscriptionJson(ENVIRONMENT, "moved", "pub-b", List.of()));
+        awaitUntil(() -> publisherIndex.findPublisherIds(ENVIRONMENT, EVENT_TYPE).isEmpty());
+        assertThat(publisherIndex.findPublisherIds(ENVIRONMENT, "moved"), contains("pub-b"));
+
+        subscriptions.remove("a");
+        awaitUntil(() -> publisherIndex.findPublisherIds(ENVIRONMENT, "moved").isEmpty());
+        assertThat(publisherIndex.size(), is(0));
+    }
+
+    @Test
+    @DisplayName("Rebuilds do not block listener events and keep the changes received while reading the map")
+    void changesDuringRebuildAreKept() throws InterruptedException {
+        var testThread = Thread.currentThread();
+        var duringRead = new AtomicReference<Runnable>();
+        var hookedMapper = new ObjectMapper() {
+            @Override
+            public JsonNode readTree(String content) throws JsonProcessingException {
+                var hook = Thread.currentThread() == testThread ? duringRead.getAndSet(null) : null;
+                if (hook != null) {
+                    hook.run();
+                }
+                return super.readTree(content);
+            }
+        };
+        publisherIndex = new PublisherIndex(HazelcastTestInstance.getHazelcastInstance(), config, hookedMapper, new HorizonMetricsHelper(registry));
+        publisherIndex.rebuild();
+
+        subscriptions.put("a", createSubscriptionJson(ENVIRONMENT, EVENT_TYPE, "pub-a", List.of()));
+        awaitUntil(() -> publisherIndex.findPublisherIds(ENVIRONMENT, EVENT_TYPE).contains("pub-a"));
+
+        duringRead.set(() -> {
+            subscriptions.remove("a");
+            try {
+                // the listener applies the removal while the rebuild is still reading the map
+                awaitUntil(() -> publisherIndex.findPublisherIds(ENVIRONMENT, EVENT_TYPE).isEmpty());
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        publisherIndex.rebuild();
+
+        assertThat(duringRead.get(), nullValue());
+        assertThat(publisherIndex.findPublisherIds(ENVIRONMENT, EVENT_TYPE), empty());
+        assertThat(registry.get(PublisherIndex.METRIC_INDEX_REBUILDS).counter().count(), is(2.0));
+    }
+
+    @Test
+    @DisplayName("Scheduled rebuilds run on the rebuild thread")
+    void scheduledRebuildRunsOnRebuildThread() throws InterruptedException {
+        subscriptions.put("a", createSubscriptionJson(ENVIRONMENT, EVENT_TYPE, "pub-a", List.of()));
+
+        publisherIndex.scheduleRebuild();
+
+        awaitUntil(() -> registry.get(PublisherIndex.METRIC_INDEX_REBUILDS).counter().count() == 1.0);
+        assertThat(publisherIndex.findPublisherIds(ENVIRONMENT, EVENT_TYPE), contains("pub-a"));
+    }
+
+    @Test
+    @DisplayName("Clearing the map rebuilds the index off the listener thread")
+    void clearedMapRebuilds() throws InterruptedException {
+        subscriptions.put("a", createSubscriptionJson(ENVIRONMENT, EVENT_TYPE, "pub-a", List.of()));
+        publisherIndex.rebuild();
+
+        subscriptions.clear();
+
+        awaitUntil(() -> registry.get(PublisherIndex.METRIC_INDEX_REBUILDS).counter().count() == 2.0);
+        assertThat(publisherIndex.findPublisherIds(ENVIRONMENT, EVENT_TYPE), empty());
+    }
+
+    @Test
+    @DisplayName("Snapshot is loaded on start and ignored once it is too stale")
+    void snapshotIsLoadedOnStart(@TempDir Path directory) throws InterruptedException {
+        config.setSnapshotPath(directory.resolve("publisher-index.bin").toString());
+        subscriptions.put("a", createSubscriptionJson(ENVIRONMENT, EVENT_TYPE, "pub-a", List.of("pub-x")));
+        subscriptions.put("b", createSubscriptionJson("other", EVENT_TYPE, "pub-b", List.of()));
+
+        publisherIndex.rebuild();
+        publisherIndex.writeSnapshot();
+
+        var restarted = new PublisherIndex(HazelcastTestInstance.getHazelcastInstance(), config, objectMapper, new HorizonMetricsHelper(new SimpleMeterRegistry()));
+        restarted.loadSnapshot();
+
+        assertThat(restarted.findPublisherIds(ENVIRONMENT, EVENT_TYPE), containsInAnyOrder("pub-a", "pub-x"));
+        assertThat(restarted.findPublisherIds("other", EVENT_TYPE), contains("pub-b"));
+        assertThat(restarted.findPublisherIds(ENVIRONMENT, "unknown"), empty());
+
+        Thread.sleep(20);
+        config.setMaxStalenessMs(10);
+        assertThat(restarted.findPublisherIds(ENVIRONMENT, EVENT_TYPE), nullValue());
+
+        var tooStale = new PublisherIndex(HazelcastTestInstance.getHazelcastInstance(), config, objectMapper, new HorizonMetricsHelper(new SimpleMeterRegistry()));
+        tooStale.loadSnapshot();
+        assertThat(tooStale.isReady(), is(false));
+    }
+
+    @Test
+    @DisplayName("Truncated snapshots are rejected")
+    void truncatedSnapshotIsRejected(@TempDir Path directory) throws IOException {
+        var path = directory.resolve("publisher-index.bin");
+        config.setSnapshotPath(path.toString());
+        subscriptions.put("a", createSubscriptionJson(ENVIRONMENT, EVENT_TYPE, "pub-a", List.of()));
+
+        publisherIndex.rebuild();
+        publisherIndex.writeSnapshot();
+
+        var bytes = Files.readAllBytes(path);
+        Files.write(path, Arrays.copyOf(bytes, bytes.length - 2));
+
+        assertThrows(IOException.class, () -> PublisherIndexSnapshot.read(path));
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        var deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+
+        assertTrue(condition.getAsBoolean());
+    }
+}
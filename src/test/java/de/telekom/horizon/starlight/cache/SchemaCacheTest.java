@@ -0,0 +1,135 @@
+// Copyright 2026 Deutsche Telekom IT GmbH
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package de.telekom.horizon.starlight.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.telekom.eni.pandora.horizon.metrics.HorizonMetricsHelper;
+import de.telekom.eni.pandora.horizon.schema.SchemaStore;
+import de.telekom.horizon.starlight.service.validation.EveritSchemaValidationEngine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.everit.json.schema.Schema;
+import org.everit.json.schema.loader.SchemaLoader;
+import org.json.JSONObject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SchemaCacheTest {
+
+    private static final String ENVIRONMENT = "integration";
+    private static final String EVENT_TYPE = "pandora.horizon.starlight.test.caas.v1";
+
+    @Mock
+    SchemaStore schemaStore;
+
+    SchemaCache schemaCache;
+
+    @BeforeEach
+    void setUp() {
+        schemaCache = new SchemaCache(schemaStore, new EveritSchemaValidationEngine(new ObjectMapper()), new HorizonMetricsHelper(new SimpleMeterRegistry()));
+    }
+
+    @Test
+    @DisplayName("Concurrent misses for the same event type load the schema only once")
+    void concurrentMissesLoadOnce() throws Exception {
+        var schema = schema("string");
+        var loading = new CountDownLatch(1);
+        when(schemaStore.getSchemaForEventType(ENVIRONMENT, EVENT_TYPE, "hub", "team")).thenAnswer(i -> {
+            loading.await(5, TimeUnit.SECONDS);
+            return schema;
+        });
+
+        var executor = Executors.newFixedThreadPool(8);
+        try {
+            var results = new ArrayList<Future<Schema>>();
+            for (int i = 0; i < 50; i++) {
+                results.add(executor.submit(() -> schemaCache.getSchema(ENVIRONMENT, EVENT_TYPE, "hub", "team")));
+            }
+            loading.countDown();
+
+            for (var result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS), is(sameInstance(schema)));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        verify(schemaStore, times(1)).getSchemaForEventType(ENVIRONMENT, EVENT_TYPE, "hub", "team");
+    }
+
+    @Test
+    @DisplayName("Missing schemas are cached, failed loads are retried")
+    void missingSchemasAreCachedAndFailuresRetried() {
+        when(schemaStore.getSchemaForEventType(ENVIRONMENT, "none", "hub", "team")).thenReturn(null);
+        when(schemaStore.getSchemaForEventType(ENVIRONMENT, "failing", "hub", "team"))
+                .thenThrow(new IllegalStateException("unavailable"))
+                .thenReturn(schema("string"));
+
+        assertThat(schemaCache.getSchema(ENVIRONMENT, "none", "hub", "team"), nullValue());
+        assertThat(schemaCache.getSchema(ENVIRONMENT, "none", "hub", "team"), nullValue());
+        verify(schemaStore, times(1)).getSchemaForEventType(ENVIRONMENT, "none", "hub", "team");
+
+        assertThrows(IllegalStateException.class, () -> schemaCache.getSchema(ENVIRONMENT, "failing", "hub", "team"));
+        assertThat(schemaCache.getSchema(ENVIRONMENT, "failing", "hub", "team"), notNullValue());
+    }
+
+    @Test
+    @DisplayName("Refresh replaces changed schemas and keeps the cached one if reloading fails")
+    void refreshReplacesChangedSchemas() {
+        var original = schema("string");
+        var changed = schema("number");
+        when(schemaStore.getSchemaForEventType(ENVIRONMENT, EVENT_TYPE, "hub", "team"))
+                .thenReturn(original)
+                .thenThrow(new IllegalStateException("unavailable"))
+                .thenReturn(changed);
+
+        assertThat(schemaCache.getSchema(ENVIRONMENT, EVENT_TYPE, "hub", "team"), is(sameInstance(original)));
+
+        schemaCache.refresh();
+        assertThat(schemaCache.getSchema(ENVIRONMENT, EVENT_TYPE, "hub", "team"), is(sameInstance(original)));
+
+        schemaCache.refresh();
+        assertThat(schemaCache.getSchema(ENVIRONMENT, EVENT_TYPE, "hub", "team"), is(sameInstance(changed)));
+        assertThat(schemaCache.size(), is(1));
+    }
+
+    @Test
+    @DisplayName("Refresh keeps the cached entry if the reloaded schema has the same content")
+    void refreshKeepsUnchangedSchemas() {
+        var engine = spy(new EveritSchemaValidationEngine(new ObjectMapper()));
+        schemaCache = new SchemaCache(schemaStore, engine, new HorizonMetricsHelper(new SimpleMeterRegistry()));
+
+        var original = schema("string");
+        var reloaded = schema("string");
+        when(schemaStore.getSchemaForEventType(ENVIRONMENT, EVENT_TYPE, "hub", "team")).thenReturn(original, reloaded);
+
+        var validator = schemaCache.getValidator(ENVIRONMENT, EVENT_TYPE, "hub", "team");
+        schemaCache.refresh();
+
+        assertThat(reloaded, is(not(sameInstance(original))));
+        assertThat(schemaCache.getSchema(ENVIRONMENT, EVENT_TYPE, "hub", "team"), is(sameInstance(original)));
+        assertThat(schemaCache.getValidator(ENVIRONMENT, EVENT_TYPE, "hub", "team"), is(sameInstance(validator)));
+        verify(engine, times(1)).compile(any());
+    }
+
+    private static Schema schema(String type) {
+        return SchemaLoader.load(new JSONObject("{\"type\": \"object\", \"properties\": {\"foo\": {\"type\": \"" + type + "\"}}}"));
+    }
+}
@@ -0,0 +1,84 @@
+// Copyright 2026 Deutsche Telekom IT GmbH
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package de.telekom.horizon.starlight.config.jackson;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.telekom.eni.pandora.horizon.model.event.Event;
+import de.telekom.horizon.starlight.model.RawEventData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.Map;
+
+import static de.telekom.horizon.starlight.test.utils.HorizonTestHelper.createNewEvent;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+class RawEventDataConfigTest {
+
+    private final ObjectMapper plainMapper = new ObjectMapper();
+
+    private ObjectMapper rawMapper;
+
+    @BeforeEach
+    void setUp() {
+        var builder = Jackson2ObjectMapperBuilder.json();
+        new RawEventDataConfig().rawEventDataCustomizer().customize(builder);
+
+        rawMapper = builder.build();
+    }
+
+    @Test
+    @DisplayName("Event data is kept as raw JSON with the size of the re-serialized data")
+    void dataIsKeptRaw() throws Exception {
+        var event = createNewEvent();
+        event.setData(Map.of("foo", "bär", "nested", Map.of("list", new int[]{1, 2, 3})));
+
+        var json = plainMapper.writeValueAsString(event).replace(":", " : ");
+        var parsed = rawMapper.readValue(json, Event.class);
+
+        assertThat(parsed.getData(), instanceOf(RawEventData.class));
+        var rawData = (RawEventData) parsed.getData();
+        assertThat(rawData.size(), is(plainMapper.writeValueAsBytes(event.getData()).length));
+        assertThat(rawData.getValue(), is(plainMapper.readValue(plainMapper.writeValueAsString(event.getData()), Object.class)));
+    }
+
+    @Test
+    @DisplayName("Raw event data is written back with the same content")
+    void rawDataIsSerializedVerbatim() throws Exception {
+        var event = createNewEvent();
+
+        var parsed = rawMapper.readValue(plainMapper.writeValueAsString(event), Event.class);
+
+        assertThat(plainMapper.readTree(plainMapper.writeValueAsString(parsed)), is(plainMapper.readTree(plainMapper.writeValueAsString(event))));
+    }
+
+    @Test
+    @DisplayName("Large raw event data is written with the same content to byte and character output")
+    void largeRawDataIsSerializedVerbatim() throws Exception {
+        var event = createNewEvent();
+        event.setData(Map.of("text", "bär \uD83D\uDE00 ".repeat(5_000)));
+
+        var parsed = rawMapper.readValue(plainMapper.writeValueAsString(event), Event.class);
+        var expected = plainMapper.readTree(plainMapper.writeValueAsString(event));
+
+        assertThat(plainMapper.readTree(plainMapper.writeValueAsString(parsed)), is(expected));
+        assertThat(plainMapper.readTree(plainMapper.writeValueAsBytes(parsed)), is(expected));
+    }
+
+    @Test
+    @DisplayName("Null and scalar data are handled like before")
+    void nullAndScalarData() throws Exception {
+        var event = createNewEvent();
+        event.setData(null);
+        assertThat(rawMapper.readValue(plainMapper.writeValueAsString(event), Event.class).getData(), nullValue());
+
+        event.setData("text");
+        var parsed = rawMapper.readValue(plainMapper.writeValueAsString(event), Event.class);
+        assertThat(((RawEventData) parsed.getData()).getValue(), is("text"));
+    }
+}
@@ -0,0 +1,78 @@
+// Copyright 2026 Deutsche Telekom IT GmbH
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package de.telekom.horizon.starlight.config.rest;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CachingJwtDecoderTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T12:00:00Z");
+
+    @Mock
+    JwtDecoder delegate;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(delegate.decode(anyString())).thenAnswer(i -> jwt(i.getArgument(0), NOW.plusSeconds(60)));
+    }
+
+    @Test
+    @DisplayName("Verified tokens are served from the cache until they expire")
+    void verifiedTokensAreCachedUntilExpiry() {
+        var decoder = new CachingJwtDecoder(delegate, 10, Clock.fixed(NOW, ZoneOffset.UTC));
+        var first = decoder.decode("token");
+
+        assertThat(decoder.decode("token"), is(sameInstance(first)));
+        verify(delegate, times(1)).decode("token");
+
+        var expired = new CachingJwtDecoder(delegate, 10, Clock.fixed(NOW.plusSeconds(60), ZoneOffset.UTC));
+        expired.decode("token");
+        expired.decode("token");
+        verify(delegate, times(3)).decode("token");
+    }
+
+    @Test
+    @DisplayName("Rejected tokens are not cached and the cache is bounded")
+    void rejectedTokensAreNotCachedAndCacheIsBounded() {
+        when(delegate.decode("forged")).thenThrow(new BadJwtException("invalid signature"));
+        var decoder = new CachingJwtDecoder(delegate, 2, Clock.fixed(NOW, ZoneOffset.UTC));
+
+        assertThrows(BadJwtException.class, () -> decoder.decode("forged"));
+        assertThrows(BadJwtException.class, () -> decoder.decode("forged"));
+
+        decoder.decode("a");
+        decoder.decode("b");
+        decoder.decode("c");
+        decoder.decode("c");
+
+        assertThat(decoder.size(), is(2));
+        verify(delegate, times(2)).decode("c");
+    }
+
+    private static Jwt jwt(String token, Instant expiresAt) {
+        return new Jwt(token, NOW.minusSeconds(10), expiresAt, Map.of("alg", "RS256"), Map.of("sub", token));
+    }
+}
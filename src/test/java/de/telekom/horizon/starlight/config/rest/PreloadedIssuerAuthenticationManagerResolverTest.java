@@ -0,0 +1,102 @@
+// Copyright 2026 Deutsche Telekom IT GmbH
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package de.telekom.horizon.starlight.config.rest;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.security.oauth2.server.resource.InvalidBearerTokenException;
+import org.springframework.security.oauth2.server.resource.authentication.BearerTokenAuthenticationToken;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+class PreloadedIssuerAuthenticationManagerResolverTest {
+
+    private static final String ISSUER = "https://iris.example.com/auth/realms/default";
+
+    private RSAKey key;
+
+    private PreloadedIssuerAuthenticationManagerResolver resolver;
+
+    @BeforeEach
+    void setUp(@TempDir Path directory) throws JOSEException, IOException {
+        key = new RSAKeyGenerator(2048).keyID("test").generate();
+
+        var jwksFile = directory.resolve("jwks.json");
+        Files.writeString(jwksFile, new JWKSet(key.toPublicJWK()).toString());
+
+        resolver = new PreloadedIssuerAuthenticationManagerResolver(List.of(ISSUER), jwksFile.toString(), 300_000, 30_000, 0, 5_000);
+        resolver.preload();
+    }
+
+    @Test
+    @DisplayName("Tokens of trusted issuers are verified against the preloaded JWK set")
+    void tokensOfTrustedIssuersAreVerified() throws JOSEException {
+        var authentication = resolver.resolve(ISSUER).authenticate(new BearerTokenAuthenticationToken(token(ISSUER, key)));
+
+        assertThat(authentication, instanceOf(JwtAuthenticationToken.class));
+        assertThat(((JwtAuthenticationToken) authentication).getToken().getClaimAsString("clientId"), is("eni--pandora--foobar"));
+    }
+
+    @Test
+    @DisplayName("Untrusted issuers are not resolved and foreign signatures are rejected")
+    void untrustedTokensAreRejected() throws JOSEException {
+        assertThat(resolver.resolve("https://evil.example.com"), nullValue());
+
+        var foreignKey = new RSAKeyGenerator(2048).keyID("test").generate();
+        var manager = resolver.resolve(ISSUER);
+        var token = new BearerTokenAuthenticationToken(token(ISSUER, foreignKey));
+
+        assertThrows(InvalidBearerTokenException.class, () -> manager.authenticate(token));
+    }
+
+    @Test
+    @DisplayName("An issuer that does not answer delays the preload by the HTTP timeout only")
+    void unresponsiveIssuerDoesNotBlockPreload() throws IOException {
+        // accepts connections, but never answers
+        try (var server = new ServerSocket(0)) {
+            var issuer = "http://localhost:" + server.getLocalPort() + "/auth/realms/default";
+            var unresponsive = new PreloadedIssuerAuthenticationManagerResolver(List.of(issuer), null, 300_000, 30_000, 0, 200);
+
+            assertTimeoutPreemptively(Duration.ofSeconds(5), unresponsive::preload);
+        }
+    }
+
+    private static String token(String issuer, RSAKey signingKey) throws JOSEException {
+        var claims = new JWTClaimsSet.Builder()
+                .issuer(issuer)
+                .claim("clientId", "eni--pandora--foobar")
+                .expirationTime(Date.from(Instant.now().plusSeconds(300)))
+                .build();
+
+        var jwt = new SignedJWT(new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(signingKey.getKeyID()).build(), claims);
+        jwt.sign(new RSASSASigner(signingKey));
+
+        return jwt.serialize();
+    }
+}
@@ -174,4 +174,22 @@ class SpectreDirectPublishConfigurationTest {
         // @NotBlank
         assertEquals(5, violations.size(), "expected 5 violations, got: " + violations);
     }
+
+    @Test
+    @DisplayName("a rule needs exactly one of issue and issue-prefix")
+    void issueOrIssuePrefix() {
+        var prefixOnly = rule(TARGET, null, CONSUMER, PROVIDER);
+        prefixOnly.setIssuePrefix("/eni/example");
+        var both = rule(TARGET, ISSUE, CONSUMER, PROVIDER);
+        both.setIssuePrefix("/eni/example");
+        var neither = rule(TARGET, null, CONSUMER, PROVIDER);
+
+        assertTrue(validator.validate(configWith(prefixOnly)).isEmpty());
+        assertTrue(
+                validator.validate(configWith(both)).stream()
+                        .anyMatch(v -> v.getPropertyPath().toString().contains("issueOrIssuePrefix")));
+        assertTrue(
+                validator.validate(configWith(neither)).stream()
+                        .anyMatch(v -> v.getPropertyPath().toString().contains("issueOrIssuePrefix")));
+    }
 }
@@ -0,0 +1,178 @@
+// Copyright 2026 Deutsche Telekom IT GmbH
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package de.telekom.horizon.starlight.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.telekom.eni.pandora.horizon.model.event.Event;
+import de.telekom.eni.pandora.horizon.model.event.PublishedEventMessage;
+import de.telekom.eni.pandora.horizon.tracing.HorizonTracer;
+import de.telekom.eni.pandora.horizon.tracing.ScopedDebugSpanWrapper;
+import de.telekom.horizon.starlight.exception.*;
+import de.telekom.horizon.starlight.model.EventPublishResult;
+import org.apache.kafka.common.errors.RecordTooLargeException;
+import org.apache.kafka.common.errors.TimeoutException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static de.telekom.horizon.starlight.test.utils.HorizonTestHelper.createNewEvent;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BatchPublisherServiceTest {
+
+    private static final String DEFAULT_ENVIRONMENT = "test";
+    private static final String DEFAULT_PUBLISHER_ID = "eni--pandora--foobar";
+
+    @Mock
+    PublisherService publisherService;
+
+    @Mock
+    HorizonTracer tracer;
+
+    @Mock
+    ScopedDebugSpanWrapper span;
+
+    ObjectMapper objectMapper = new ObjectMapper();
+
+    BatchPublisherService batchPublisherService;
+
+    @BeforeEach
+    void setUp() throws HorizonStarlightException {
+        lenient().when(tracer.startScopedDebugSpan(anyString())).thenReturn(span);
+        lenient().when(publisherService.prepareMessage(any(Event.class), eq(DEFAULT_PUBLISHER_ID), eq(DEFAULT_ENVIRONMENT), any()))
+                .thenAnswer(i -> new PublishedEventMessage(i.getArgument(0), DEFAULT_ENVIRONMENT));
+        lenient().when(publisherService.toPublishException(any())).thenCallRealMethod();
+
+        batchPublisherService = new BatchPublisherService(publisherService, tracer, objectMapper);
+    }
+
+    @Test
+    @DisplayName("All events of a batch are sent before waiting for Kafka")
+    void allEventsAreSentBeforeWaiting() {
+        when(publisherService.sendMessage(any(), any())).thenAnswer(i -> CompletableFuture.supplyAsync(() -> null));
+
+        var results = publish(createNewEvent(), createNewEvent(), createNewEvent());
+
+        verify(publisherService, times(3)).sendMessage(any(), any());
+        verify(publisherService, times(3)).markMessagePublished(any());
+        assertThat(results.stream().allMatch(EventPublishResult::isCreated), is(true));
+    }
+
+    @Test
+    @DisplayName("Failing checks and Kafka errors are reported per event")
+    void failuresAreReportedPerEvent() throws HorizonStarlightException {
+        var forbidden = createNewEvent();
+        var tooLarge = createNewEvent();
+        var kafkaTimeout = createNewEvent();
+        var ok = createNewEvent();
+
+        doThrow(new PublisherDoesNotMatchEventTypeException("forbidden"))
+                .when(publisherService).prepareMessage(eq(forbidden), any(), any(), any());
+        when(publisherService.sendMessage(any(), any())).thenAnswer(i -> {
+            var event = ((PublishedEventMessage) i.getArgument(0)).getEvent();
+            if (event == tooLarge) {
+                return CompletableFuture.failedFuture(new RecordTooLargeException("too large"));
+            } else if (event == kafkaTimeout) {
+                return CompletableFuture.failedFuture(new TimeoutException("timeout"));
+            }
+            return CompletableFuture.completedFuture(null);
+        });
+
+        var results = publish(forbidden, tooLarge, kafkaTimeout, ok);
+
+        assertThat(results.stream().map(EventPublishResult::getStatus).toList(), contains(403, 413, 504, 201));
+        assertThat(results.get(0).getId(), is(forbidden.getId()));
+        verify(publisherService, times(1)).markMessagePublished(any());
+    }
+
+    @Test
+    @DisplayName("Invalid and null events do not prevent the rest of the batch from being published")
+    void invalidEventsDoNotFailTheBatch() throws HorizonStarlightException {
+        var invalid = createNewEvent();
+
+        doThrow(new InvalidEventBodyException("invalid")).when(publisherService).validateEvent(invalid);
+        doReturn(CompletableFuture.completedFuture(null)).when(publisherService).sendMessage(any(), any());
+
+        var results = publish(invalid, null, createNewEvent());
+
+        assertThat(results.stream().map(EventPublishResult::getStatus).toList(), contains(400, 400, 201));
+    }
+
+    @Test
+    @DisplayName("Events of a stream are published with a bounded number of pending acknowledgements")
+    void streamIsPublishedWithinWindow() throws IOException {
+        var futures = new ArrayList<CompletableFuture<Object>>();
+        when(publisherService.sendMessage(any(), any())).thenAnswer(i -> {
+            // the window of 2 must have been drained before the third event is sent
+            assertThat(futures.stream().filter(f -> !f.isDone()).count(), lessThan(2L));
+            var future = new CompletableFuture<>();
+            futures.add(future);
+            CompletableFuture.runAsync(() -> future.complete(null));
+            return future;
+        });
+
+        var published = new ArrayList<Event>();
+        var summary = batchPublisherService.publishStream(ndjson(createNewEvent(), createNewEvent(), createNewEvent()),
+                DEFAULT_PUBLISHER_ID, DEFAULT_ENVIRONMENT, null, 2, published::add);
+
+        assertThat(summary.getReceived(), is(3L));
+        assertThat(summary.getCreated(), is(3L));
+        assertThat(published, hasSize(3));
+    }
+
+    @Test
+    @DisplayName("Unmappable events of a stream are skipped, malformed JSON ends the stream")
+    void invalidStreamEntriesAreReported() throws IOException {
+        doReturn(CompletableFuture.completedFuture(null)).when(publisherService).sendMessage(any(), any());
+
+        var event = objectMapper.writeValueAsString(createNewEvent());
+        var body = String.join("\n", event, "[\"not an event\"]", event, "{ broken", event);
+
+        var summary = batchPublisherService.publishStream(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)),
+                DEFAULT_PUBLISHER_ID, DEFAULT_ENVIRONMENT, null, 10, e -> {});
+
+        assertThat(summary.getCreated(), is(2L));
+        assertThat(summary.getFailed(), is(2L));
+        assertThat(summary.getFailures().stream().map(EventPublishResult::getStatus).toList(), everyItem(is(400)));
+    }
+
+    @Test
+    @DisplayName("Exceptions are mapped to the status of the single-event endpoint")
+    void exceptionsAreMappedToSingleEventStatus() {
+        assertThat(BatchPublisherService.statusFor(new UnknownEventTypeOrNoSubscriptionException("")).value(), is(202));
+        assertThat(BatchPublisherService.statusFor(new EventNotCompliantWithSchemaException("", null)).value(), is(400));
+        assertThat(BatchPublisherService.statusFor(new PayloadTooLargeException("")).value(), is(413));
+        assertThat(BatchPublisherService.statusFor(new CouldNotPublishEventMessageException("", null)).value(), is(504));
+    }
+
+    private ByteArrayInputStream ndjson(Event... events) throws IOException {
+        var lines = new ArrayList<String>();
+        for (var event : events) {
+            lines.add(objectMapper.writeValueAsString(event));
+        }
+
+        return new ByteArrayInputStream(String.join("\n", lines).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private List<EventPublishResult> publish(Event... events) {
+        return batchPublisherService.publishAll(Arrays.asList(events).iterator(), DEFAULT_PUBLISHER_ID, DEFAULT_ENVIRONMENT, null);
+    }
+}
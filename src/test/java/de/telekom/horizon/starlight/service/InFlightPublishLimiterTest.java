@@ -0,0 +1,80 @@
+// Copyright 2026 Deutsche Telekom IT GmbH
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package de.telekom.horizon.starlight.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+class InFlightPublishLimiterTest {
+
+    @Test
+    @DisplayName("Limiter is disabled when maxInFlight is not positive")
+    void limiterIsDisabledByDefault() {
+        assertThat(new InFlightPublishLimiter(0, 0, new SimpleMeterRegistry()).isEnabled(), is(false));
+        assertThat(new InFlightPublishLimiter(-1, 100, new SimpleMeterRegistry()).isEnabled(), is(false));
+    }
+
+    @Test
+    @DisplayName("Publishes are rejected once all permits are in use and accepted again after a release")
+    void permitsAreBounded() throws InterruptedException {
+        var limiter = new InFlightPublishLimiter(2, 0, new SimpleMeterRegistry());
+
+        assertThat(limiter.tryAcquire(), is(true));
+        assertThat(limiter.tryAcquire(), is(true));
+        assertThat(limiter.tryAcquire(), is(false));
+
+        limiter.release();
+
+        assertThat(limiter.tryAcquire(), is(true));
+    }
+
+    @Test
+    @DisplayName("Requests with own messages in flight wait for a permit instead of being rejected")
+    void ownMessagesInFlightWaitForPermit() throws InterruptedException {
+        var limiter = new InFlightPublishLimiter(1, 0, new SimpleMeterRegistry());
+        assertThat(limiter.tryAcquire(), is(true));
+
+        assertThat(limiter.tryAcquire(() -> false), is(false));
+
+        var ownInFlight = new AtomicBoolean(true);
+        Thread.ofVirtual().start(() -> {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            // the acknowledgement is observed before its permit is released
+            ownInFlight.set(false);
+            limiter.release();
+        });
+
+        assertThat(limiter.tryAcquire(ownInFlight::get), is(true));
+    }
+
+    @Test
+    @DisplayName("Permits in use and rejected publishes are exposed as metrics")
+    void permitsAndRejectionsAreMeasured() throws InterruptedException {
+        var registry = new SimpleMeterRegistry();
+        var limiter = new InFlightPublishLimiter(1, 0, registry);
+
+        assertThat(registry.get(InFlightPublishLimiter.METRIC_PUBLISH_IN_FLIGHT).gauge().value(), is(0.0));
+
+        assertThat(limiter.tryAcquire(() -> false), is(true));
+        assertThat(limiter.tryAcquire(() -> false), is(false));
+
+        assertThat(registry.get(InFlightPublishLimiter.METRIC_PUBLISH_IN_FLIGHT).gauge().value(), is(1.0));
+        assertThat(registry.get(InFlightPublishLimiter.METRIC_PUBLISH_REJECTED_IN_FLIGHT).counter().count(), is(1.0));
+
+        limiter.release();
+
+        assertThat(registry.get(InFlightPublishLimiter.METRIC_PUBLISH_IN_FLIGHT).gauge().value(), is(0.0));
+    }
+}
@@ -18,6 +18,7 @@ import de.telekom.horizon.starlight.config.StarlightConfig;
 import de.telekom.horizon.starlight.config.tenancy.TenantConfiguration;
 import de.telekom.horizon.starlight.exception.*;
 import de.telekom.horizon.starlight.service.impl.TokenServiceMockImpl;
+import de.telekom.horizon.starlight.service.routing.TypeRoutingService;
 import de.telekom.horizon.starlight.test.utils.HazelcastTestInstance;
 import de.telekom.horizon.starlight.test.utils.HorizonTestHelper;
 import io.micrometer.core.instrument.Counter;
@@ -27,6 +28,7 @@ import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Validator;
 import org.apache.kafka.clients.producer.ProducerRecord;
 import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.errors.RecordTooLargeException;
 import org.apache.kafka.common.errors.TimeoutException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -41,6 +43,7 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.boot.test.mock.mockito.SpyBean;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.SendResult;
+import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
 
 import java.lang.reflect.InvocationTargetException;
@@ -48,6 +51,7 @@ import java.lang.reflect.Method;
 import java.time.Instant;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
 
@@ -86,6 +90,10 @@ class PublisherServiceTest {
     HorizonMetricsHelper metricsHelper;
     @MockBean
     SpectreDirectPublishService spectreDirectPublishService;
+    @MockBean
+    TypeRoutingService typeRoutingService;
+    @MockBean
+    InFlightPublishLimiter inFlightLimiter;
     @Autowired
     PublisherService publisherService;
     @Autowired
@@ -98,6 +106,22 @@ class PublisherServiceTest {
         assertThat(publisherService, notNullValue());
     }
 
+    @Test
+    @DisplayName("Message is not sent when the in-flight limiter rejects it")
+    void messageIsRejectedWithoutInFlightPermit() throws InterruptedException {
+        var message = new PublishedEventMessage(createNewEvent(), DEFAULT_ENVIRONMENT);
+
+        when(inFlightLimiter.isEnabled()).thenReturn(true);
+        when(inFlightLimiter.tryAcquire(any())).thenReturn(false);
+
+        var future = publisherService.sendMessage(message);
+
+        var exception = assertThrows(ExecutionException.class, future::get);
+        assertThat(exception.getCause(), instanceOf(TooManyPublishesInFlightException.class));
+        verify(kafkaTemplate, times(0)).send(any(ProducerRecord.class));
+        verify(inFlightLimiter, times(0)).release();
+    }
+
     @ParameterizedTest
     @ValueSource(booleans = {true, false})
     @DisplayName("Event can be published successfully")
@@ -212,6 +236,85 @@ class PublisherServiceTest {
         });
     }
 
+    @Test
+    @DisplayName("Event can be published asynchronously and metrics are exported from the callback")
+    void eventMessageCanBePublishedAsync() throws Exception {
+        var event = createNewEvent();
+        var message = new PublishedEventMessage(event, DEFAULT_ENVIRONMENT);
+
+        when(starlightConfig.isEnablePublisherCheck()).thenReturn(true);
+        when(starlightConfig.getPublishingTopic()).thenReturn(DEFAULT_TOPIC);
+        when(publisherCache.findPublisherIds(DEFAULT_ENVIRONMENT, event.getType())).thenReturn(Set.of(DEFAULT_PUBLISHER_ID));
+        when(tracer.startScopedDebugSpan(anyString())).thenReturn(scopedDebugSpanWrapper);
+
+        var counterMock = Mockito.mock(Counter.class);
+        var registryMock = Mockito.mock(MeterRegistry.class);
+        when(registryMock.counter(any(), any(Tags.class))).thenReturn(counterMock);
+        when(metricsHelper.buildTagsFromPublishedEventMessage(any())).thenReturn(Tags.empty());
+        when(metricsHelper.getRegistry()).thenReturn(registryMock);
+
+        applyKafkaStubs(DEFAULT_TOPIC, 0L, 0, message);
+        var ack = new CompletableFuture<SendResult<String, String>>();
+        when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(ack);
+
+        var future = publisherService.publishAsync(event, DEFAULT_PUBLISHER_ID, DEFAULT_ENVIRONMENT, null);
+
+        assertThat(future.isDone(), is(false));
+        verify(counterMock, never()).increment();
+
+        ack.complete(mock(SendResult.class));
+
+        assertDoesNotThrow(() -> future.get(1, TimeUnit.SECONDS));
+        verify(counterMock).increment();
+    }
+
+    @Test
+    @DisplayName("Asynchronous publishing maps a too large record to PayloadTooLargeException")
+    void asyncPublishMapsRecordTooLarge() throws Exception {
+        var event = createNewEvent();
+        var message = new PublishedEventMessage(event, DEFAULT_ENVIRONMENT);
+
+        when(starlightConfig.isEnablePublisherCheck()).thenReturn(false);
+        when(starlightConfig.getPublishingTopic()).thenReturn(DEFAULT_TOPIC);
+        when(tracer.startScopedDebugSpan(anyString())).thenReturn(scopedDebugSpanWrapper);
+
+        applyKafkaStubs(DEFAULT_TOPIC, 0L, 0, message);
+        when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(CompletableFuture.failedFuture(new RecordTooLargeException("too large")));
+
+        var future = publisherService.publishAsync(event, DEFAULT_PUBLISHER_ID, DEFAULT_ENVIRONMENT, null);
+
+        var ex = assertThrows(ExecutionException.class, () -> future.get(1, TimeUnit.SECONDS));
+        assertThat(ex.getCause(), instanceOf(PayloadTooLargeException.class));
+    }
+
+    @Test
+    @DisplayName("Type routing runs after Spectre direct-publish on the rewritten type, before the ownership check")
+    void typeRoutingRunsAfterSpectreDirectPublish() throws HorizonStarlightException {
+        var event = createNewEvent();
+        var routedTypes = new ArrayList<String>();
+
+        doAnswer(i -> {
+            i.<Event>getArgument(0).setType("spectre.dedicated.v1");
+            return null;
+        }).when(spectreDirectPublishService).rewriteTypeForDirectPublish(event, DEFAULT_PUBLISHER_ID);
+        doAnswer(i -> {
+            routedTypes.add(i.<Event>getArgument(0).getType());
+            i.<Event>getArgument(0).setType("routed.v1");
+            return null;
+        }).when(typeRoutingService).route(event, DEFAULT_PUBLISHER_ID);
+        when(starlightConfig.isEnablePublisherCheck()).thenReturn(true);
+        when(publisherCache.findPublisherIds(DEFAULT_ENVIRONMENT, "routed.v1")).thenReturn(Set.of(DEFAULT_PUBLISHER_ID));
+
+        var message = publisherService.prepareMessage(event, DEFAULT_PUBLISHER_ID, DEFAULT_ENVIRONMENT, null);
+
+        var order = inOrder(spectreDirectPublishService, typeRoutingService, publisherCache);
+        order.verify(spectreDirectPublishService).rewriteTypeForDirectPublish(event, DEFAULT_PUBLISHER_ID);
+        order.verify(typeRoutingService).route(event, DEFAULT_PUBLISHER_ID);
+        order.verify(publisherCache).findPublisherIds(DEFAULT_ENVIRONMENT, "routed.v1");
+        assertThat(routedTypes, is(List.of("spectre.dedicated.v1")));
+        assertThat(message.getEvent().getType(), is("routed.v1"));
+    }
+
     @Test
     @DisplayName("Event message passes the validation")
     void eventMessagePassesValidation() {
@@ -235,6 +338,16 @@ class PublisherServiceTest {
         assertThat(resultCaptor.getResult().size(), is(7));
     }
 
+    @Test
+    @DisplayName("Event type header must match the type of the event")
+    void eventTypeHeaderMustMatchEventType() {
+        var event = createNewEvent();
+
+        assertDoesNotThrow(() -> publisherService.checkEventTypeHeader(event, new LinkedMultiValueMap<>()));
+        assertDoesNotThrow(() -> publisherService.checkEventTypeHeader(event, new LinkedMultiValueMap<>(Map.of("Ce-Type", List.of(event.getType())))));
+        assertThrows(InvalidEventBodyException.class, () -> publisherService.checkEventTypeHeader(event, new LinkedMultiValueMap<>(Map.of("ce-type", List.of("exempted.v1")))));
+    }
+
     @Test
     @DisplayName("Too large payload should throw an exception")
     void tooLargePayloadShouldThrowAnException() {
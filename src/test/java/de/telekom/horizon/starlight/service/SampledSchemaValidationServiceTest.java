@@ -0,0 +1,127 @@
+// Copyright 2026 Deutsche Telekom IT GmbH
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package de.telekom.horizon.starlight.service;
+
+import de.telekom.eni.pandora.horizon.metrics.HorizonMetricsHelper;
+import de.telekom.eni.pandora.horizon.model.event.Event;
+import de.telekom.horizon.starlight.config.StarlightConfig;
+import de.telekom.horizon.starlight.config.schema.SchemaSamplingConfiguration;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class SampledSchemaValidationServiceTest {
+
+    private static final String ENVIRONMENT = "integration";
+    private static final String PUBLISHER_ID = "eni--pandora--foobar";
+
+    @Mock
+    SchemaValidationService schemaValidationService;
+
+    @Mock
+    StarlightConfig starlightConfig;
+
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    SchemaSamplingConfiguration config = new SchemaSamplingConfiguration();
+
+    SampledSchemaValidationService service;
+
+    @BeforeEach
+    void setUp() {
+        when(starlightConfig.isEnableSchemaValidation()).thenReturn(true);
+
+        config.setDefaultRate(0);
+        config.setRates(Map.of("always.v1", 1.0, "quarter.v1", 0.25));
+        config.setQueueCapacity(1);
+        service = new SampledSchemaValidationService(schemaValidationService, starlightConfig, config, new HorizonMetricsHelper(registry));
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    @DisplayName("Sampled events are validated in the background and weighted by the inverse of the rate")
+    void sampledEventsAreWeighted() throws Exception {
+        var validated = new CountDownLatch(1);
+        doAnswer(i -> {
+            validated.countDown();
+            return null;
+        }).when(schemaValidationService).validate(any(), eq(ENVIRONMENT), eq(PUBLISHER_ID), anyDouble());
+
+        service.sample(event("never.v1"), ENVIRONMENT, PUBLISHER_ID);
+        service.sample(event("always.v1"), ENVIRONMENT, PUBLISHER_ID);
+
+        assertThat(validated.await(5, TimeUnit.SECONDS), is(true));
+        verify(schemaValidationService).validate(argThat(e -> e.getType().equals("always.v1")), eq(ENVIRONMENT), eq(PUBLISHER_ID), eq(1.0));
+        verify(schemaValidationService, never()).validate(argThat(e -> e.getType().equals("never.v1")), any(), any(), anyDouble());
+
+        var quarter = new CountDownLatch(1);
+        doAnswer(i -> {
+            quarter.countDown();
+            return null;
+        }).when(schemaValidationService).validate(argThat(e -> e.getType().equals("quarter.v1")), any(), any(), eq(4.0));
+        for (int i = 0; i < 200 && quarter.getCount() > 0; i++) {
+            service.sample(event("quarter.v1"), ENVIRONMENT, PUBLISHER_ID);
+            Thread.sleep(1);
+        }
+        assertThat(quarter.await(5, TimeUnit.SECONDS), is(true));
+    }
+
+    @Test
+    @DisplayName("Samples are dropped when the queue is full and nothing is sampled while validation is enforced")
+    void samplesAreDroppedUnderPressure() throws Exception {
+        var blocked = new CountDownLatch(1);
+        var started = new CountDownLatch(1);
+        doAnswer(i -> {
+            started.countDown();
+            blocked.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(schemaValidationService).validate(any(), any(), any(), anyDouble());
+
+        service.sample(event("always.v1"), ENVIRONMENT, PUBLISHER_ID);
+        assertThat(started.await(5, TimeUnit.SECONDS), is(true));
+
+        // one waits in the queue, two are dropped
+        for (int i = 0; i < 3; i++) {
+            service.sample(event("always.v1"), ENVIRONMENT, PUBLISHER_ID);
+        }
+        assertThat(registry.counter(SampledSchemaValidationService.METRIC_SAMPLES_DROPPED).count(), is(2.0));
+        blocked.countDown();
+
+        when(starlightConfig.isEnforceSchemaValidation()).thenReturn(true);
+        assertThat(service.isActive(), is(false));
+    }
+
+    private static Event event(String type) {
+        var event = new Event();
+        event.setId("id");
+        event.setType(type);
+
+        return event;
+    }
+}
@@ -8,8 +8,11 @@ import de.telekom.eni.pandora.horizon.metrics.HorizonMetricsHelper;
 import de.telekom.eni.pandora.horizon.model.event.Event;
 import de.telekom.eni.pandora.horizon.schema.SchemaStore;
 import de.telekom.eni.pandora.horizon.tracing.HorizonTracer;
+import de.telekom.horizon.starlight.cache.SchemaCache;
 import de.telekom.horizon.starlight.config.StarlightConfig;
 import de.telekom.horizon.starlight.exception.EventNotCompliantWithSchemaException;
+import de.telekom.horizon.starlight.service.validation.CompiledSchemaValidationEngine;
+import de.telekom.horizon.starlight.service.validation.JacksonSchemaValidationEngine;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import lombok.Getter;
 import lombok.Setter;
@@ -144,6 +147,37 @@ class SchemaValidationServiceTest {
         }
     }
 
+    @Test
+    @DisplayName("JSON check rejects string data that is no JSON if the event type has a schema")
+    void checkJsonDataRejectsInvalidJson() {
+        when(schemaStore.getSchemaForEventType(anyString(), anyString(), anyString(), anyString())).thenReturn(generateSchemes(1));
+
+        Event event = generateEvent(true);
+        event.setData("<optional JSON scheme>");
+        assertThrows(EventNotCompliantWithSchemaException.class, () -> schemaValidationService.checkJsonData(event, ENV_MOCK, PUB_ID_MOCK));
+
+        event.setData("{\"foo\": \"bar\"}");
+        assertDoesNotThrow(() -> schemaValidationService.checkJsonData(event, ENV_MOCK, PUB_ID_MOCK));
+
+        event.setDataContentType("text/plain");
+        event.setData("This is not a valid JSON string as suggested by the dataContentType");
+        assertDoesNotThrow(() -> schemaValidationService.checkJsonData(event, ENV_MOCK, PUB_ID_MOCK));
+
+        verifyNoInteractions(metricsHelper);
+    }
+
+    @Test
+    @DisplayName("JSON check does not look up the schema for object data or types without a schema")
+    void checkJsonDataSkipsObjectDataAndTypesWithoutSchema() {
+        assertDoesNotThrow(() -> schemaValidationService.checkJsonData(generateEvent(true), ENV_MOCK, PUB_ID_MOCK));
+        verify(schemaStore, times(0)).getSchemaForEventType(anyString(), anyString(), anyString(), anyString());
+
+        when(schemaStore.getSchemaForEventType(anyString(), anyString(), anyString(), anyString())).thenReturn(null);
+        Event event = generateEvent(true);
+        event.setData("<optional JSON scheme>");
+        assertDoesNotThrow(() -> schemaValidationService.checkJsonData(event, ENV_MOCK, PUB_ID_MOCK));
+    }
+
     @Test
     @DisplayName("validate should not throw when publisherID is malformed")
     void shouldNotThrowWhenPublisherIdIsMalformed() {
@@ -155,6 +189,31 @@ class SchemaValidationServiceTest {
         verify(schemaStore, times(0)).getSchemaForEventType(anyString(), anyString(), anyString(), anyString());
     }
 
+    @Test
+    @DisplayName("engines other than everit require the schema cache")
+    void nonEveritEnginesRequireSchemaCache() {
+        var engine = new JacksonSchemaValidationEngine(objectMapper);
+
+        assertThrows(IllegalStateException.class, () -> new SchemaValidationService(schemaStore, starlightConfig, metricsHelper, tracer, objectMapper, null, engine));
+    }
+
+    @Test
+    @DisplayName("the compiled engine compiles a schema once and reuses it for later events")
+    void compiledEngineCompilesOnce() {
+        var schema = generateSchemes(1);
+        when(schemaStore.getSchemaForEventType(anyString(), anyString(), anyString(), anyString())).thenReturn(schema);
+        when(metricsHelper.getRegistry()).thenReturn(new SimpleMeterRegistry());
+
+        var engine = spy(new CompiledSchemaValidationEngine(objectMapper));
+        var schemaCache = new SchemaCache(schemaStore, engine, metricsHelper);
+        var service = new SchemaValidationService(schemaStore, starlightConfig, metricsHelper, tracer, objectMapper, schemaCache, engine);
+
+        assertDoesNotThrow(() -> service.validate(generateEvent(true), ENV_MOCK, PUB_ID_MOCK));
+        assertDoesNotThrow(() -> service.validate(generateEvent(true), ENV_MOCK, PUB_ID_MOCK));
+
+        verify(engine, times(1)).compile(schema);
+    }
+
     private Schema generateSchemes(int specificationType) {
         String spec = "";
         switch (specificationType) {
@@ -0,0 +1,109 @@
+// Copyright 2026 Deutsche Telekom IT GmbH
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package de.telekom.horizon.starlight.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Random;
+
+class SpaceSavingTest {
+
+    @Test
+    @DisplayName("exact weights while the keys fit into the capacity")
+    void exactWithinCapacity() {
+        var sketch = new SpaceSaving<String>(3);
+        sketch.offer("a", 5);
+        sketch.offer("b", 1);
+        sketch.offer("a", 2);
+        sketch.offer("c", 3);
+
+        var top = sketch.top(2);
+
+        assertEquals(2, top.size());
+        assertEquals(new SpaceSaving.Estimate<>("a", 7, 0), top.get(0));
+        assertEquals(new SpaceSaving.Estimate<>("c", 3, 0), top.get(1));
+        assertEquals(11, sketch.total());
+    }
+
+    @Test
+    @DisplayName("heavy keys of a long tail are found and their estimates bound the true weight")
+    void heavyKeysOfLongTail() {
+        var sketch = new SpaceSaving<String>(50);
+        var random = new Random(42);
+        var truth = new HashMap<String, Long>();
+
+        for (int i = 0; i < 200_000; i++) {
+            // three heavy keys carry 30% of the weight, the rest is spread over 10000 keys
+            var key = i % 10 < 3 ? "heavy-" + (i % 10) : "tail-" + random.nextInt(10_000);
+            long weight = 1 + random.nextInt(100);
+            sketch.offer(key, weight);
+            truth.merge(key, weight, Long::sum);
+        }
+
+        var top = sketch.top(3);
+        for (var estimate : top) {
+            assertTrue(estimate.key().startsWith("heavy-"), "unexpected heavy hitter " + estimate);
+            long actual = truth.get(estimate.key());
+            assertTrue(estimate.weight() >= actual);
+            assertTrue(estimate.weight() - estimate.error() <= actual);
+        }
+    }
+
+    @Test
+    @DisplayName("merged sketches find the heavy keys and their estimates bound the true weight")
+    void merge() {
+        var sketches = List.of(new SpaceSaving<String>(50), new SpaceSaving<String>(50));
+        var random = new Random(42);
+        var truth = new HashMap<String, Long>();
+
+        for (int i = 0; i < 200_000; i++) {
+            var key = i % 10 < 3 ? "heavy-" + (i % 10) : "tail-" + random.nextInt(10_000);
+            long weight = 1 + random.nextInt(100);
+            sketches.get(random.nextInt(sketches.size())).offer(key, weight);
+            truth.merge(key, weight, Long::sum);
+        }
+
+        var top = SpaceSaving.merge(sketches, 3);
+        assertEquals(3, top.size());
+        for (var estimate : top) {
+            assertTrue(estimate.key().startsWith("heavy-"), "unexpected heavy hitter " + estimate);
+            long actual = truth.get(estimate.key());
+            assertTrue(estimate.weight() >= actual);
+            assertTrue(estimate.weight() - estimate.error() <= actual);
+        }
+    }
+
+    @Test
+    @DisplayName("merging sketches that are not full is exact")
+    void mergeWithinCapacity() {
+        var first = new SpaceSaving<String>(3);
+        first.offer("a", 5);
+        first.offer("b", 1);
+        var second = new SpaceSaving<String>(3);
+        second.offer("a", 2);
+        second.offer("c", 3);
+
+        var top = SpaceSaving.merge(List.of(first, second), 2);
+
+        assertEquals(List.of(new SpaceSaving.Estimate<>("a", 7, 0), new SpaceSaving.Estimate<>("c", 3, 0)), top);
+    }
+
+    @Test
+    @DisplayName("clear forgets all keys")
+    void clear() {
+        var sketch = new SpaceSaving<String>(2);
+        sketch.offer("a", 1);
+        sketch.clear();
+
+        assertTrue(sketch.top(10).isEmpty());
+        assertEquals(0, sketch.total());
+    }
+}
@@ -0,0 +1,145 @@
+// Copyright 2026 Deutsche Telekom IT GmbH
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package de.telekom.horizon.starlight.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import de.telekom.eni.pandora.horizon.metrics.HorizonMetricsHelper;
+import de.telekom.eni.pandora.horizon.model.event.Event;
+import de.telekom.horizon.starlight.config.spectre.SpectreDirectPublishConfiguration;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import jakarta.validation.Validation;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+class SpectreDirectPublishRuleLoaderTest {
+
+    private static final String GENERIC = "de.telekom.ei.listener";
+
+    @TempDir Path directory;
+
+    private SimpleMeterRegistry registry;
+
+    private Path rulesFile;
+
+    private SpectreDirectPublishService service;
+
+    private SpectreDirectPublishRuleLoader loader;
+
+    @BeforeEach
+    void setUp() {
+        rulesFile = directory.resolve("rules.yaml");
+
+        var config = new SpectreDirectPublishConfiguration();
+        config.setEnabled(true);
+        config.setRulesFile(rulesFile.toString());
+
+        registry = new SimpleMeterRegistry();
+        var metricsHelper = new HorizonMetricsHelper(registry);
+        service = new SpectreDirectPublishService(config, metricsHelper);
+        loader =
+                new SpectreDirectPublishRuleLoader(
+                        config,
+                        service,
+                        Validation.buildDefaultValidatorFactory().getValidator(),
+                        metricsHelper);
+    }
+
+    @Test
+    @DisplayName("changed rule files are swapped in, invalid ones are rejected as a whole")
+    void reloadsValidRulesAndRejectsInvalidOnes() throws IOException {
+        writeRules("de.telekom.ei.listener.first", "/eni/example/v1");
+        loader.reload();
+        assertEquals("de.telekom.ei.listener.first", rewrite("/eni/example/v1"));
+        assertEquals(2.0d, version());
+
+        // unchanged content is not reloaded
+        loader.reload();
+        assertEquals(2.0d, version());
+
+        writeRules("invalid type!", "/eni/example/v1");
+        loader.reload();
+        assertEquals("de.telekom.ei.listener.first", rewrite("/eni/example/v1"));
+        assertEquals(2.0d, version());
+        assertEquals(
+                1.0d,
+                registry.counter(SpectreDirectPublishRuleLoader.METRIC_RULES_RELOAD_FAILURES)
+                        .count());
+
+        writeRules("de.telekom.ei.listener.second", "/eni/other/v1");
+        loader.reload();
+        assertEquals(GENERIC, rewrite("/eni/example/v1"));
+        assertEquals("de.telekom.ei.listener.second", rewrite("/eni/other/v1"));
+        assertEquals(3.0d, version());
+    }
+
+    @Test
+    @DisplayName("a file without a rules key is rejected, an explicit empty list removes all rules")
+    void missingRulesKeyIsRejected() throws IOException {
+        writeRules("de.telekom.ei.listener.first", "/eni/example/v1");
+        loader.reload();
+        assertEquals(2.0d, version());
+
+        Files.writeString(rulesFile, "rule:\n  - issue: /eni/example/v1\n");
+        loader.reload();
+        assertEquals("de.telekom.ei.listener.first", rewrite("/eni/example/v1"));
+        assertEquals(2.0d, version());
+
+        Files.writeString(rulesFile, "");
+        loader.reload();
+        assertEquals("de.telekom.ei.listener.first", rewrite("/eni/example/v1"));
+        assertEquals(
+                2.0d,
+                registry.counter(SpectreDirectPublishRuleLoader.METRIC_RULES_RELOAD_FAILURES)
+                        .count());
+
+        Files.writeString(rulesFile, "rules: []\n");
+        loader.reload();
+        assertEquals(GENERIC, rewrite("/eni/example/v1"));
+        assertEquals(3.0d, version());
+    }
+
+    private void writeRules(String targetEventType, String issue) throws IOException {
+        Files.writeString(
+                rulesFile,
+                """
+                rules:
+                  - target-event-type: %s
+                    issue: %s
+                    consumer: eni--example-consumer--example-app
+                    provider: eni--example-provider--example-app
+                """
+                        .formatted(targetEventType, issue));
+    }
+
+    private String rewrite(String issue) {
+        var event = new Event();
+        event.setId("id");
+        event.setType(GENERIC);
+        event.setData(
+                Map.of(
+                        "issue", issue,
+                        "consumer", "eni--example-consumer--example-app",
+                        "provider", "eni--example-provider--example-app"));
+
+        service.rewriteTypeForDirectPublish(event, "gateway");
+
+        return event.getType();
+    }
+
+    private double version() {
+        return registry.get(SpectreDirectPublishService.METRIC_RULES_VERSION).gauge().value();
+    }
+}
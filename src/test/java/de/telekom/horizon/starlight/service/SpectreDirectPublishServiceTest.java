@@ -11,6 +11,8 @@ import de.telekom.eni.pandora.horizon.metrics.HorizonMetricsHelper;
 import de.telekom.eni.pandora.horizon.model.event.Event;
 import de.telekom.horizon.starlight.config.spectre.SpectreDirectPublishConfiguration;
 import de.telekom.horizon.starlight.config.spectre.SpectreDirectPublishRule;
+import de.telekom.horizon.starlight.config.spectre.SpectreHeavyHittersConfiguration;
+import de.telekom.horizon.starlight.model.RawEventData;
 
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
@@ -18,6 +20,8 @@ import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -85,6 +89,19 @@ class SpectreDirectPublishServiceTest {
         return r;
     }
 
+    private SpectreDirectPublishRule prefixRule(
+            String targetEventType, String issuePrefix, String consumer, String provider) {
+        var r = rule(targetEventType, null, consumer, provider);
+        r.setIssuePrefix(issuePrefix);
+        return r;
+    }
+
+    private String rewrite(SpectreDirectPublishService svc, String issue, String consumer) {
+        var event = listenerEvent(spectreData(consumer, PROVIDER, issue));
+        svc.rewriteTypeForDirectPublish(event, GATEWAY);
+        return event.getType();
+    }
+
     private Event listenerEvent(Object data) {
         var e = new Event();
         e.setId(UUID.randomUUID().toString());
@@ -316,4 +333,91 @@ class SpectreDirectPublishServiceTest {
         assertEquals(0.0d, rewriteCount(DEDICATED));
         assertEquals(0.0d, unmatchedCount(ISSUE, CONSUMER, PROVIDER));
     }
+
+    @Test
+    @DisplayName("thousands of rules are matched by selection, duplicates keep the first rule")
+    void manyRulesMatchedBySelection() {
+        var rules = new ArrayList<SpectreDirectPublishRule>();
+        for (int i = 0; i < 5_000; i++) {
+            rules.add(rule(DEDICATED + "-" + i, "/eni/team-" + (i % 50) + "/v1", "consumer-" + i, PROVIDER));
+        }
+        rules.add(rule("de.telekom.ei.listener.duplicate", "/eni/team-7/v1", "consumer-4007", PROVIDER));
+        var svc = service(config(true, rules.toArray(SpectreDirectPublishRule[]::new)));
+
+        var event = listenerEvent(spectreData("consumer-4007", PROVIDER, "/eni/team-7/v1"));
+        svc.rewriteTypeForDirectPublish(event, GATEWAY);
+        assertEquals(DEDICATED + "-4007", event.getType());
+
+        var stray = listenerEvent(spectreData("consumer-4008", PROVIDER, "/eni/team-7/v1"));
+        svc.rewriteTypeForDirectPublish(stray, GATEWAY);
+        assertEquals(GENERIC, stray.getType());
+        assertEquals(1.0d, unmatchedCount("/eni/team-7/v1", "consumer-4008", PROVIDER));
+    }
+
+    @Test
+    @DisplayName("issue-prefix rules match by path segment, exact rules first, then the longest prefix")
+    void prefixRulesLongestPrefixWins() {
+        var svc =
+                service(
+                        config(
+                                true,
+                                prefixRule(DEDICATED + "-family", "/eni/example", CONSUMER, PROVIDER),
+                                prefixRule(DEDICATED + "-admin", "/eni/example/v2/admin/", CONSUMER, PROVIDER),
+                                prefixRule(DEDICATED + "-other", "/eni/example/v2", "other-consumer", PROVIDER),
+                                rule(DEDICATED + "-exact", "/eni/example/v2/admin/users", CONSUMER, PROVIDER)));
+
+        assertEquals(DEDICATED + "-family", rewrite(svc, "/eni/example", CONSUMER));
+        assertEquals(DEDICATED + "-family", rewrite(svc, "/eni/example/v1", CONSUMER));
+        assertEquals(DEDICATED + "-family", rewrite(svc, "/eni/example/v2/", CONSUMER));
+        assertEquals(DEDICATED + "-admin", rewrite(svc, "/eni/example/v2/admin", CONSUMER));
+        assertEquals(DEDICATED + "-admin", rewrite(svc, "/eni/example/v2/admin/groups/1", CONSUMER));
+        assertEquals(DEDICATED + "-exact", rewrite(svc, "/eni/example/v2/admin/users", CONSUMER));
+        assertEquals(DEDICATED + "-other", rewrite(svc, "/eni/example/v2/x", "other-consumer"));
+        assertEquals(GENERIC, rewrite(svc, "/eni/example-provisioning/v1", CONSUMER));
+        assertEquals(GENERIC, rewrite(svc, "/eni", CONSUMER));
+
+        // covered by a prefix, but no rule for the consumer
+        assertEquals(GENERIC, rewrite(svc, "/eni/example/v1", "stray-consumer"));
+        assertEquals(1.0d, unmatchedCount("/eni/example/v1", "stray-consumer", PROVIDER));
+        assertEquals(GENERIC, rewrite(svc, "/eni/example-provisioning/v1", "stray-consumer"));
+        assertEquals(0.0d, unmatchedCount("/eni/example-provisioning/v1", "stray-consumer", PROVIDER));
+    }
+
+    @Test
+    @DisplayName("events that are not rewritten feed the heavy hitters, also while direct-publish is disabled")
+    void heavyHittersTrackNonRewrittenEvents() {
+        registry = new SimpleMeterRegistry();
+        var heavyHittersConfig = new SpectreHeavyHittersConfiguration();
+        heavyHittersConfig.setSampleRate(1);
+        var heavyHitters = new SpectreHeavyHitters(heavyHittersConfig);
+        var cfg = config(true, rule(DEDICATED, ISSUE, CONSUMER, PROVIDER));
+        var svc = new SpectreDirectPublishService(cfg, new HorizonMetricsHelper(registry), heavyHitters);
+
+        var json = "{\"issue\":\"/eni/other/v1\",\"consumer\":\"c\",\"provider\":\"p\"}";
+        for (int i = 0; i < 3; i++) {
+            svc.rewriteTypeForDirectPublish(listenerEvent(spectreData(CONSUMER, PROVIDER, ISSUE)), GATEWAY);
+            svc.rewriteTypeForDirectPublish(
+                    listenerEvent(new RawEventData(json.getBytes(StandardCharsets.UTF_8))), GATEWAY);
+        }
+        svc.rewriteTypeForDirectPublish(listenerEvent(spectreData("c2", PROVIDER, ISSUE)), GATEWAY);
+        // other publishers do not pass the gate
+        svc.rewriteTypeForDirectPublish(listenerEvent(spectreData("c3", PROVIDER, ISSUE)), "other");
+
+        cfg.setEnabled(false);
+        svc.rewriteTypeForDirectPublish(listenerEvent(spectreData(CONSUMER, PROVIDER, ISSUE)), GATEWAY);
+
+        var report = heavyHitters.report(null);
+        assertEquals(5, report.events());
+        assertEquals(3L * json.length(), report.bytes());
+        assertEquals(3, report.byCount().size());
+        assertEquals("/eni/other/v1", report.byCount().get(0).issue());
+        assertEquals(3, report.byCount().get(0).estimate());
+        assertEquals(0.6d, report.byCount().get(0).share(), 1e-9);
+        assertEquals(1, report.byBytes().size());
+        assertEquals("c", report.byBytes().get(0).consumer());
+
+        // new rules leave other traffic behind
+        svc.updateRules(List.of());
+        assertEquals(0, heavyHitters.report(1).events());
+    }
 }
@@ -0,0 +1,53 @@
+// Copyright 2026 Deutsche Telekom IT GmbH
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package de.telekom.horizon.starlight.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import de.telekom.horizon.starlight.config.spectre.SpectreHeavyHittersConfiguration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+
+class SpectreHeavyHittersTest {
+
+    @Test
+    @DisplayName("sampled events of concurrent publishers are merged and scaled back to the full stream")
+    void sampledStripesAreMergedAndScaled() throws Exception {
+        var config = new SpectreHeavyHittersConfiguration();
+        config.setSampleRate(0.5);
+        var heavyHitters = new SpectreHeavyHitters(config, 4);
+
+        var tasks = new ArrayList<Callable<Void>>();
+        for (int t = 0; t < 8; t++) {
+            tasks.add(
+                    () -> {
+                        for (int i = 0; i < 25_000; i++) {
+                            if (heavyHitters.sample()) {
+                                heavyHitters.record(i % 4 == 0 ? "heavy" : "tail-" + i, "c", "p", 10);
+                            }
+                        }
+                        return null;
+                    });
+        }
+        try (var executor = Executors.newFixedThreadPool(8)) {
+            for (var future : executor.invokeAll(tasks)) {
+                future.get();
+            }
+        }
+
+        var report = heavyHitters.report(1);
+        assertEquals(200_000, report.events(), 5_000);
+        assertEquals(10 * report.events(), report.bytes(), 20);
+        var heaviest = report.byCount().get(0);
+        assertEquals("heavy", heaviest.issue());
+        assertEquals(50_000, heaviest.estimate() - heaviest.error(), 5_000);
+        assertEquals(0.25, heaviest.share(), 0.05);
+    }
+}
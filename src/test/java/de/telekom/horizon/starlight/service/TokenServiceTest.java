@@ -12,6 +12,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.security.oauth2.jwt.JwtClaimNames;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
@@ -72,6 +73,23 @@ class TokenServiceTest {
         verify(jwtSpy, times(1)).getClaimAsString("azp");
     }
 
+    @Test
+    @DisplayName("Publisher ID and realm are taken from the token once per request")
+    void publisherContextIsResolvedOncePerRequest() {
+        var jwtSpy = Mockito.spy(createNewJwtForPublisherId(Map.of("clientId", DEFAULT_PUBLISHER_ID, JwtClaimNames.ISS, DEFAULT_ISSUER_URL)));
+        var request = new MockHttpServletRequest();
+        request.setUserPrincipal(new JwtAuthenticationToken(jwtSpy));
+        var service = new TokenServiceImpl(request);
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(service.getPublisherId(), is(equalTo(DEFAULT_PUBLISHER_ID)));
+            assertThat(service.getRealm(), is(equalTo("av")));
+        }
+
+        verify(jwtSpy, times(1)).getClaimAsString("clientId");
+        verify(jwtSpy, times(1)).getClaimAsString(JwtClaimNames.ISS);
+    }
+
     @Test
     @Tag("mock")
     @DisplayName("Static Publisher ID can be retrieved mocked TokenService implementation")
@@ -0,0 +1,131 @@
+// Copyright 2026 Deutsche Telekom IT GmbH
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package de.telekom.horizon.starlight.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.telekom.eni.pandora.horizon.model.event.PublishedEventMessage;
+import de.telekom.eni.pandora.horizon.schema.SchemaStore;
+import de.telekom.horizon.starlight.cache.PublisherCache;
+import de.telekom.horizon.starlight.cache.PublisherIndex;
+import de.telekom.horizon.starlight.config.StarlightConfig;
+import de.telekom.horizon.starlight.config.tenancy.TenantConfiguration;
+import de.telekom.horizon.starlight.config.warmup.WarmUpConfiguration;
+import de.telekom.horizon.starlight.exception.HorizonStarlightException;
+import de.telekom.horizon.starlight.exception.InvalidEventBodyException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import java.util.Map;
+import java.util.Optional;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class WarmUpServiceTest {
+
+    private static final String DEFAULT_ENVIRONMENT = "integration";
+
+    @Mock
+    StarlightConfig starlightConfig;
+
+    @Mock
+    KafkaTemplate<String, String> kafkaTemplate;
+
+    @Mock
+    PublisherCache publisherCache;
+
+    @Mock
+    PublisherIndex publisherIndex;
+
+    @Mock
+    SchemaStore schemaStore;
+
+    @Mock
+    PublisherService publisherService;
+
+    @Mock
+    SchemaValidationService schemaValidationService;
+
+    @Spy
+    ObjectMapper objectMapper = new ObjectMapper();
+
+    WarmUpConfiguration config = new WarmUpConfiguration();
+
+    TenantConfiguration tenantConfig = new TenantConfiguration();
+
+    WarmUpService warmUpService;
+
+    WarmUpHealthIndicator healthIndicator;
+
+    @BeforeEach
+    void setUp() {
+        config.setSyntheticPublishes(5);
+        tenantConfig.setEnabled(true);
+        tenantConfig.setRules(Map.of("foo.v1", "tenant-topic", "bar.v1", "tenant-topic"));
+
+        lenient().when(starlightConfig.getPublishingTopic()).thenReturn("published");
+        lenient().when(starlightConfig.getDefaultEnvironment()).thenReturn(DEFAULT_ENVIRONMENT);
+        lenient().when(starlightConfig.isEnableSchemaValidation()).thenReturn(true);
+
+        warmUpService = new WarmUpService(config, starlightConfig, tenantConfig, kafkaTemplate, publisherCache,
+                Optional.of(publisherIndex), schemaStore, publisherService, schemaValidationService, objectMapper);
+        healthIndicator = new WarmUpHealthIndicator(warmUpService);
+    }
+
+    @Test
+    @DisplayName("Warm-up loads metadata, publishers and schemas and runs synthetic publishes")
+    void warmUpRunsAllSteps() throws Exception {
+        when(publisherService.prepareWarmUpMessage(any(), eq(DEFAULT_ENVIRONMENT)))
+                .thenAnswer(i -> new PublishedEventMessage(i.getArgument(0), DEFAULT_ENVIRONMENT));
+        when(schemaValidationService.warmUp(any(), eq(DEFAULT_ENVIRONMENT), eq(config.getPublisherId()))).thenReturn(true);
+
+        assertThat(healthIndicator.health().getStatus(), is(Status.OUT_OF_SERVICE));
+
+        warmUpService.warmUp();
+
+        verify(kafkaTemplate).partitionsFor("published");
+        verify(kafkaTemplate).partitionsFor("tenant-topic");
+        verify(publisherIndex).rebuild();
+        verify(schemaStore).pollSchemas();
+        verify(schemaValidationService, times(5)).warmUp(any(), eq(DEFAULT_ENVIRONMENT), eq(config.getPublisherId()));
+        verify(objectMapper, times(5)).writeValueAsString(any(PublishedEventMessage.class));
+
+        // the synthetic event type must not end up in the negative cache, the metrics or the ownership check
+        verify(publisherCache).warmUp(DEFAULT_ENVIRONMENT, config.getEventType());
+        verify(publisherCache, never()).findPublisherIds(anyString(), anyString());
+        verify(publisherService, never()).prepareMessage(any(), any(), any(), any());
+        verify(schemaValidationService, never()).validate(any(), any(), any());
+
+        var health = healthIndicator.health();
+        assertThat(health.getStatus(), is(Status.UP));
+        assertThat(health.getDetails(), hasKey("syntheticPublishes"));
+        assertThat(health.getDetails().get("syntheticSchemaValidations"), is(5));
+    }
+
+    @Test
+    @DisplayName("Failing steps and rejected synthetic events do not prevent readiness")
+    void failuresDoNotBlockReadiness() throws HorizonStarlightException {
+        when(kafkaTemplate.partitionsFor(anyString())).thenThrow(new IllegalStateException("broker down"));
+        doThrow(new InvalidEventBodyException("invalid")).when(publisherService).validateEvent(any());
+
+        warmUpService.warmUp();
+
+        var health = healthIndicator.health();
+        assertThat(health.getStatus(), is(Status.UP));
+        assertThat((String) health.getDetails().get("kafkaMetadata"), startsWith("failed"));
+        assertThat((String) health.getDetails().get("syntheticPublishes"), startsWith("failed"));
+    }
+}
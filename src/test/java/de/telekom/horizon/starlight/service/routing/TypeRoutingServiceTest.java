@@ -0,0 +1,188 @@
+// Copyright 2026 Deutsche Telekom IT GmbH
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package de.telekom.horizon.starlight.service.routing;
+
+import de.telekom.eni.pandora.horizon.metrics.HorizonMetricsHelper;
+import de.telekom.eni.pandora.horizon.model.event.Event;
+import de.telekom.horizon.starlight.config.routing.TypeRoutingCondition;
+import de.telekom.horizon.starlight.config.routing.TypeRoutingConfiguration;
+import de.telekom.horizon.starlight.config.routing.TypeRoutingRule;
+import de.telekom.horizon.starlight.config.spectre.SpectreDirectPublishConfiguration;
+import de.telekom.horizon.starlight.config.spectre.SpectreDirectPublishRule;
+import de.telekom.horizon.starlight.service.SpectreDirectPublishService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+class TypeRoutingServiceTest {
+
+    private static final String LISTENER = "de.telekom.ei.listener";
+    private static final String GATEWAY = "gateway";
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("Equality, prefix and set conditions route events, the first matching rule wins")
+    void routesByConditions() {
+        var service = service(
+                rule("first", GATEWAY, LISTENER, equalsCondition("/issue", "/eni/foo/v1"), inCondition("/consumer", "a", "b")),
+                rule("second", GATEWAY, LISTENER, prefixCondition("/issue", "/eni/foo/")),
+                rule("third", GATEWAY, LISTENER, equalsCondition("/issue", "/eni/foo/v1"), equalsCondition("/consumer", "a")),
+                rule("nested", GATEWAY, "de.telekom.other.v1", equalsCondition("/request/headers/x~1tenant", "t1"), equalsCondition("/items/0", "1")));
+
+        assertThat(route(service, LISTENER, GATEWAY, Map.of("issue", "/eni/foo/v1", "consumer", "a")), is("first"));
+        assertThat(route(service, LISTENER, GATEWAY, Map.of("issue", "/eni/foo/v1", "consumer", "c")), is("second"));
+        assertThat(route(service, LISTENER, GATEWAY, Map.of("issue", "/eni/bar/v1", "consumer", "a")), is(LISTENER));
+        assertThat(route(service, LISTENER, "other", Map.of("issue", "/eni/foo/v1", "consumer", "a")), is(LISTENER));
+        assertThat(route(service, LISTENER, GATEWAY, "no object"), is(LISTENER));
+
+        var nested = Map.of("request", Map.of("headers", Map.of("x/tenant", "t1")), "items", List.of(1, 2));
+        assertThat(route(service, "de.telekom.other.v1", GATEWAY, nested), is("nested"));
+
+        assertThat(registry.counter(TypeRoutingService.METRIC_TYPE_ROUTING, TypeRoutingService.TAG_TARGET_EVENT_TYPE, "first").count(), is(1.0));
+    }
+
+    @Test
+    @DisplayName("Thousands of rules are routed by lookup and large sets are checked instead of expanded")
+    void manyRules() {
+        var rules = new ArrayList<TypeRoutingRule>();
+        for (int i = 0; i < 5_000; i++) {
+            rules.add(rule("team-" + i, GATEWAY, LISTENER, equalsCondition("/issue", "/eni/api-" + (i % 50) + "/v1"), equalsCondition("/consumer", "consumer-" + i)));
+        }
+        var largeSet = new ArrayList<String>();
+        for (int i = 0; i < 300; i++) {
+            largeSet.add("bulk-" + i);
+        }
+        rules.add(rule("bulk", GATEWAY, LISTENER, inCondition("/consumer", largeSet.toArray(String[]::new)), inCondition("/kind", "REQUEST", "RESPONSE")));
+        var service = service(rules.toArray(TypeRoutingRule[]::new));
+
+        assertThat(route(service, LISTENER, GATEWAY, Map.of("issue", "/eni/api-7/v1", "consumer", "consumer-4007")), is("team-4007"));
+        assertThat(route(service, LISTENER, GATEWAY, Map.of("issue", "/eni/api-8/v1", "consumer", "consumer-4007")), is(LISTENER));
+        assertThat(route(service, LISTENER, GATEWAY, Map.of("consumer", "bulk-299", "kind", "RESPONSE")), is("bulk"));
+        assertThat(route(service, LISTENER, GATEWAY, Map.of("consumer", "bulk-299", "kind", "OTHER")), is(LISTENER));
+    }
+
+    @Test
+    @DisplayName("Routing runs on the type produced by Spectre direct-publish")
+    void routesAfterSpectreDirectPublish() {
+        var dedicated = LISTENER + ".eni--example-team--example-listener";
+        var spectreRule = new SpectreDirectPublishRule();
+        spectreRule.setTargetEventType(dedicated);
+        spectreRule.setIssue("/eni/foo/v1");
+        spectreRule.setConsumer("consumer");
+        spectreRule.setProvider("provider");
+        var spectreConfig = new SpectreDirectPublishConfiguration();
+        spectreConfig.setEnabled(true);
+        spectreConfig.setRules(List.of(spectreRule));
+        var spectre = new SpectreDirectPublishService(spectreConfig, new HorizonMetricsHelper(registry));
+
+        var service = service(
+                rule(dedicated + ".responses", GATEWAY, dedicated, equalsCondition("/kind", "RESPONSE")),
+                rule("generic-responses", GATEWAY, LISTENER, equalsCondition("/kind", "RESPONSE")));
+
+        // the same order as PublisherService.prepareMessage
+        Function<Map<String, String>, String> publish = data -> {
+            var event = new Event();
+            event.setId("id");
+            event.setType(LISTENER);
+            event.setData(data);
+            spectre.rewriteTypeForDirectPublish(event, GATEWAY);
+            service.route(event, GATEWAY);
+            return event.getType();
+        };
+
+        var selected = Map.of("issue", "/eni/foo/v1", "consumer", "consumer", "provider", "provider");
+        var other = Map.of("issue", "/eni/bar/v1", "consumer", "consumer", "provider", "provider");
+
+        assertThat(publish.apply(with(selected, "RESPONSE")), is(dedicated + ".responses"));
+        assertThat(publish.apply(with(selected, "REQUEST")), is(dedicated));
+        assertThat(publish.apply(with(other, "RESPONSE")), is("generic-responses"));
+        assertThat(publish.apply(with(other, "REQUEST")), is(LISTENER));
+    }
+
+    @Test
+    @DisplayName("Conditions must set exactly one predicate and a valid pointer")
+    void conditionsAreValidated() {
+        var validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+        var both = equalsCondition("/issue", "x");
+        both.setPrefix("y");
+        var noPointer = equalsCondition("issue", "x");
+
+        assertThat(validator.validate(equalsCondition("/issue", "x")), empty());
+        assertThat(validator.validate(both), hasSize(1));
+        assertThat(validator.validate(noPointer), hasSize(1));
+    }
+
+    private TypeRoutingService service(TypeRoutingRule... rules) {
+        var config = new TypeRoutingConfiguration();
+        config.setEnabled(true);
+        config.setRules(List.of(rules));
+
+        return new TypeRoutingService(config, new HorizonMetricsHelper(registry));
+    }
+
+    private static String route(TypeRoutingService service, String type, String publisherId, Object data) {
+        var event = new Event();
+        event.setId("id");
+        event.setType(type);
+        event.setData(data);
+
+        service.route(event, publisherId);
+
+        return event.getType();
+    }
+
+    private static Map<String, String> with(Map<String, String> selection, String kind) {
+        var data = new HashMap<>(selection);
+        data.put("kind", kind);
+
+        return data;
+    }
+
+    private static TypeRoutingRule rule(String target, String publisherId, String sourceType, TypeRoutingCondition... conditions) {
+        var rule = new TypeRoutingRule();
+        rule.setTargetEventType(target);
+        rule.setPublisherId(publisherId);
+        rule.setSourceType(sourceType);
+        rule.setConditions(List.of(conditions));
+
+        return rule;
+    }
+
+    private static TypeRoutingCondition equalsCondition(String pointer, String value) {
+        var condition = new TypeRoutingCondition();
+        condition.setPointer(pointer);
+        condition.setEquals(value);
+
+        return condition;
+    }
+
+    private static TypeRoutingCondition prefixCondition(String pointer, String value) {
+        var condition = new TypeRoutingCondition();
+        condition.setPointer(pointer);
+        condition.setPrefix(value);
+
+        return condition;
+    }
+
+    private static TypeRoutingCondition inCondition(String pointer, String... values) {
+        var condition = new TypeRoutingCondition();
+        condition.setPointer(pointer);
+        condition.setIn(List.of(values));
+
+        return condition;
+    }
+}
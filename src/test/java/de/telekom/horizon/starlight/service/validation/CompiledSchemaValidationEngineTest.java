@@ -0,0 +1,69 @@
+// Copyright 2026 Deutsche Telekom IT GmbH
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package de.telekom.horizon.starlight.service.validation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.telekom.horizon.starlight.model.RawEventData;
+import org.everit.json.schema.ValidationException;
+import org.everit.json.schema.loader.SchemaLoader;
+import org.json.JSONObject;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CompiledSchemaValidationEngineTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final CompiledSchemaValidationEngine engine = new CompiledSchemaValidationEngine(objectMapper);
+
+    private final SchemaValidator compiled = engine.compile(SchemaLoader.load(new JSONObject(JacksonSchemaValidationEngineTest.SCHEMA)));
+
+    @ParameterizedTest
+    @MethodSource("de.telekom.horizon.starlight.service.validation.JacksonSchemaValidationEngineTest#provideData")
+    @DisplayName("Compiled validators decide like everit for maps and raw JSON")
+    void decidesLikeEverit(String json, boolean valid) throws IOException {
+        assertThat(isValid(compiled, objectMapper.readValue(json, Map.class)), is(valid));
+        assertThat(isValid(compiled, new RawEventData(json.getBytes(StandardCharsets.UTF_8))), is(valid));
+    }
+
+    @Test
+    @DisplayName("Recursive references are compiled and unsupported keywords fall back")
+    void recursiveReferencesAndFallback() {
+        var tree = engine.compile(SchemaLoader.load(new JSONObject("""
+                {
+                  "$schema": "http://json-schema.org/draft-07/schema#",
+                  "definitions": {"node": {"type": "object", "required": ["name"], "properties": {"name": {"type": "string"}, "children": {"type": "array", "items": {"$ref": "#/definitions/node"}}}}},
+                  "$ref": "#/definitions/node"
+                }""")));
+
+        assertDoesNotThrow(() -> tree.validate(Map.of("name", "root", "children", List.of(Map.of("name", "leaf", "children", List.of())))));
+        assertThrows(ValidationException.class, () -> tree.validate(Map.of("name", "root", "children", List.of(Map.of("children", List.of())))));
+
+        var unique = engine.compile(SchemaLoader.load(new JSONObject("{\"type\": \"array\", \"uniqueItems\": true}")));
+        assertDoesNotThrow(() -> unique.validate(List.of(1, 2)));
+        assertThrows(ValidationException.class, () -> unique.validate(List.of(1, 1)));
+    }
+
+    private static boolean isValid(SchemaValidator validator, Object data) throws IOException {
+        try {
+            validator.validate(data);
+            return true;
+        } catch (ValidationException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+// Copyright 2026 Deutsche Telekom IT GmbH
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package de.telekom.horizon.starlight.service.validation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.telekom.horizon.starlight.model.RawEventData;
+import org.everit.json.schema.Schema;
+import org.everit.json.schema.ValidationException;
+import org.everit.json.schema.loader.SchemaLoader;
+import org.json.JSONObject;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class JacksonSchemaValidationEngineTest {
+
+    static final String SCHEMA = """
+            {
+              "$schema": "http://json-schema.org/draft-07/schema#",
+              "definitions": {"positive": {"type": "integer", "minimum": 1}},
+              "type": "object",
+              "required": ["id", "items"],
+              "properties": {
+                "id": {"type": "string", "pattern": "^[a-z]+-[0-9]+$"},
+                "status": {"enum": ["open", "closed", null]},
+                "version": {"const": 2},
+                "createdAt": {"type": "string", "format": "date-time"},
+                "owner": {"type": ["string", "null"]},
+                "score": {"type": "number", "exclusiveMinimum": 0, "maximum": 10, "multipleOf": 0.5},
+                "items": {
+                  "type": "array",
+                  "minItems": 1,
+                  "items": {
+                    "type": "object",
+                    "additionalProperties": false,
+                    "properties": {"name": {"type": "string", "maxLength": 5}, "count": {"$ref": "#/definitions/positive"}}
+                  }
+                },
+                "flag": {"oneOf": [{"type": "boolean"}, {"type": "string", "minLength": 1}]},
+                "notString": {"not": {"type": "string"}}
+              }
+            }""";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final Schema schema = SchemaLoader.load(new JSONObject(SCHEMA));
+
+    private final SchemaValidator jackson = new JacksonSchemaValidationEngine(objectMapper).compile(schema);
+
+    private final SchemaValidator everit = new EveritSchemaValidationEngine(objectMapper).compile(schema);
+
+    static Stream<Arguments> provideData() {
+        return Stream.of(
+                Arguments.of("{\"id\": \"abc-1\", \"items\": [{\"name\": \"foo\", \"count\": 1}]}", true),
+                Arguments.of("{\"id\": \"abc-1\", \"status\": null, \"version\": 2, \"createdAt\": \"2026-01-01T12:00:00Z\", \"owner\": null, \"score\": 9.5, \"items\": [{}], \"flag\": true, \"notString\": 1}", true),
+                Arguments.of("{\"items\": [{}]}", false),
+                Arguments.of("{\"id\": \"ABC\", \"items\": [{}]}", false),
+                Arguments.of("{\"id\": 1, \"items\": [{}]}", false),
+                Arguments.of("{\"id\": \"abc-1\", \"status\": \"pending\", \"items\": [{}]}", false),
+                Arguments.of("{\"id\": \"abc-1\", \"version\": 3, \"items\": [{}]}", false),
+                Arguments.of("{\"id\": \"abc-1\", \"createdAt\": \"yesterday\", \"items\": [{}]}", false),
+                Arguments.of("{\"id\": \"abc-1\", \"owner\": 1, \"items\": [{}]}", false),
+                Arguments.of("{\"id\": \"abc-1\", \"score\": 0, \"items\": [{}]}", false),
+                Arguments.of("{\"id\": \"abc-1\", \"score\": 10.5, \"items\": [{}]}", false),
+                Arguments.of("{\"id\": \"abc-1\", \"score\": 0.7, \"items\": [{}]}", false),
+                Arguments.of("{\"id\": \"abc-1\", \"items\": []}", false),
+                Arguments.of("{\"id\": \"abc-1\", \"items\": [{\"name\": \"foobar\"}]}", false),
+                Arguments.of("{\"id\": \"abc-1\", \"items\": [{\"count\": 0}]}", false),
+                Arguments.of("{\"id\": \"abc-1\", \"items\": [{\"count\": 1.5}]}", false),
+                Arguments.of("{\"id\": \"abc-1\", \"items\": [{\"other\": 1}]}", false),
+                Arguments.of("{\"id\": \"abc-1\", \"items\": [{}], \"flag\": \"\"}", false),
+                Arguments.of("{\"id\": \"abc-1\", \"items\": [{}], \"notString\": \"x\"}", false)
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideData")
+    @DisplayName("Jackson engine decides like everit for maps and raw JSON")
+    void decidesLikeEverit(String json, boolean valid) throws IOException {
+        var map = objectMapper.readValue(json, Map.class);
+        var raw = new RawEventData(json.getBytes(StandardCharsets.UTF_8));
+
+        assertThat(isValid(everit, map), is(valid));
+        assertThat(isValid(jackson, map), is(valid));
+        assertThat(isValid(jackson, raw), is(valid));
+        assertThat(isValid(jackson, json), is(valid));
+    }
+
+    @Test
+    @DisplayName("Unsupported keywords fall back to everit and invalid JSON is reported as IOException")
+    void unsupportedKeywordsFallBack() {
+        var unsupported = SchemaLoader.load(new JSONObject("{\"type\": \"object\", \"patternProperties\": {\"^x-\": {\"type\": \"string\"}}}"));
+        assertThat(JacksonSchemaValidationEngine.isSupported(unsupported, Collections.newSetFromMap(new IdentityHashMap<>())), is(false));
+        assertThat(JacksonSchemaValidationEngine.isSupported(schema, Collections.newSetFromMap(new IdentityHashMap<>())), is(true));
+
+        var validator = new JacksonSchemaValidationEngine(objectMapper).compile(unsupported);
+        assertDoesNotThrow(() -> validator.validate(Map.of("x-foo", "bar")));
+        assertThrows(ValidationException.class, () -> validator.validate(Map.of("x-foo", 1)));
+
+        assertThrows(IOException.class, () -> jackson.validate(new RawEventData("{\"id\": ".getBytes(StandardCharsets.UTF_8))));
+    }
+
+    private static boolean isValid(SchemaValidator validator, Object data) throws IOException {
+        try {
+            validator.validate(data);
+            return true;
+        } catch (ValidationException e) {
+            return false;
+        }
+    }
+}
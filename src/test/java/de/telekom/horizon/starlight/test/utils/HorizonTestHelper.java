@@ -4,10 +4,13 @@
 
 package de.telekom.horizon.starlight.test.utils;
 
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.hazelcast.core.HazelcastJsonValue;
 import de.telekom.eni.pandora.horizon.model.event.Event;
 import org.mockito.invocation.InvocationOnMock;
 import org.mockito.stubbing.Answer;
 
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
@@ -45,6 +48,24 @@ public class HorizonTestHelper {
         return event;
     }
 
+    /**
+     * Creates a subscription resource as it is stored in the subscription map in Hazelcast.
+     */
+    public static HazelcastJsonValue createSubscriptionJson(String environment, String type, String publisherId, List<String> additionalPublisherIds) {
+        var resource = JsonNodeFactory.instance.objectNode();
+        var spec = resource.putObject("spec");
+        spec.put("environment", environment);
+
+        var subscription = spec.putObject("subscription");
+        subscription.put("type", type);
+        subscription.put("publisherId", publisherId);
+        if (!additionalPublisherIds.isEmpty()) {
+            additionalPublisherIds.forEach(subscription.putArray("additionalPublisherIds")::add);
+        }
+
+        return new HazelcastJsonValue(resource.toString());
+    }
+
     public static class ResultCaptor<T> implements Answer {
         private T result = null;
 